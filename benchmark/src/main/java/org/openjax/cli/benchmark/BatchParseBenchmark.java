@@ -0,0 +1,74 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjax.cli.CompiledSpec;
+import org.openjax.cli.Options;
+import org.openjax.cli.ParseResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the validation of a batch of 10k {@code String[] args}, of which every tenth is invalid, with
+ * {@link CompiledSpec#tryParse(String[])} on one thread, and with {@link CompiledSpec#parseAll(Iterable)} on the common
+ * {@link java.util.concurrent.ForkJoinPool}, which scales with the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchParseBenchmark {
+  private CompiledSpec spec;
+  private ArrayList<String[]> argvs;
+
+  @Setup
+  public void setup() throws IOException {
+    spec = Options.compile(Specs.cliXml);
+    argvs = new ArrayList<>(10_000);
+    for (int i = 0; i < 10_000; ++i) // [N]
+      argvs.add(new String[] {"--users", (i % 10 == 0 ? "bad$" : "user") + i + ",joe", "-V", "file1", "file2", "file" + i});
+  }
+
+  @Benchmark
+  public List<ParseResult> tryParseSequential() {
+    final ArrayList<ParseResult> results = new ArrayList<>(argvs.size());
+    for (final String[] args : argvs) // [L]
+      results.add(spec.tryParse(args));
+
+    return results;
+  }
+
+  @Benchmark
+  public List<ParseResult> parseAll() {
+    return spec.parseAll(argvs);
+  }
+}
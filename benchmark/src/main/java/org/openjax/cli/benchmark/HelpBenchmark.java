@@ -0,0 +1,95 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.cli.FixedHelpFormatter;
+import org.apache.commons.cli.HelpFormatter;
+import org.openjax.cli.CompiledSpec;
+import org.openjax.cli.Options;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the rendering of help with {@link FixedHelpFormatter#printOptions(PrintWriter,int,org.apache.commons.cli.Options,int,int)},
+ * which delegates to {@code FixedHelpFormatter.renderOptions(...)}, with
+ * {@link FixedHelpFormatter#render(int,String,String,org.apache.commons.cli.Options,int,int,String)}, and with
+ * {@link CompiledSpec#printHelp(PrintStream)}, which prints the help that is cached per width.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HelpBenchmark {
+  private static final OutputStream nullOutputStream = new OutputStream() {
+    @Override
+    public void write(final int b) {
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+    }
+  };
+
+  @Param({"5", "50", "200", "1000"})
+  public int count;
+
+  private final PrintStream ps = new PrintStream(nullOutputStream);
+  private final PrintWriter pw = new PrintWriter(nullOutputStream);
+  private org.apache.commons.cli.Options apacheOptions;
+  private CompiledSpec spec;
+
+  @Setup
+  public void setup() {
+    apacheOptions = new org.apache.commons.cli.Options();
+    for (int i = 0; i < count; ++i) // [N]
+      apacheOptions.addOption(org.apache.commons.cli.Option.builder("o" + i).longOpt("option" + i).hasArg(i % 2 == 1).argName("VALUE").desc("description of option" + i + " that is long enough to be wrapped onto the next line of the help").build());
+
+    spec = Options.compile(Specs.newCli(count));
+  }
+
+  @Benchmark
+  public void renderOptions() {
+    new FixedHelpFormatter().printOptions(pw, HelpFormatter.DEFAULT_WIDTH, apacheOptions, HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD);
+    pw.flush();
+  }
+
+  @Benchmark
+  public String render() {
+    return new FixedHelpFormatter().render(HelpFormatter.DEFAULT_WIDTH, " ", "[options]", apacheOptions, HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD, null);
+  }
+
+  @Benchmark
+  public void printHelp() {
+    spec.printHelp(ps);
+  }
+}
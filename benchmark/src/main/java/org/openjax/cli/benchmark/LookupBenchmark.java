@@ -0,0 +1,123 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjax.cli.CompiledSpec;
+import org.openjax.cli.OptionSpec;
+import org.openjax.cli.Options;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the lookup of parsed options with {@link Options#getOption(String)} and {@link Options#getOptions(String)},
+ * and with the typed accessors, such as {@link Options#getInt(String,int)}, against {@link Integer#parseInt(String)} of the
+ * option string, and of the same by name against by handle, as per {@link CompiledSpec#getHandle(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LookupBenchmark {
+  private Options options;
+  private Options typedOptions;
+  private int config;
+  private int port;
+
+  @Setup
+  public void setup() throws IOException {
+    final CompiledSpec cliXmlSpec = Options.compile(Specs.cliXml);
+    options = cliXmlSpec.parse(Specs.cliXmlArgs);
+    config = cliXmlSpec.getHandle("config");
+    final CompiledSpec spec = new CompiledSpec(new OptionSpec[] {
+      new OptionSpec("port", null, "PORT", '\0', true, 1, null, null, "port"),
+      new OptionSpec("ids", null, "ID", ',', true, Integer.MAX_VALUE, null, null, "ids")
+    }, null, (short)0, (short)0, null);
+    typedOptions = spec.parse(new String[] {"--port", "8080", "--ids", "1,2,3,4,5,6,7,8,9,10"});
+    port = spec.getHandle("port");
+  }
+
+  @Benchmark
+  public String getOptionSingle() {
+    return options.getOption("config");
+  }
+
+  @Benchmark
+  public String getOptionSingleByHandle() {
+    return options.getOption(config);
+  }
+
+  @Benchmark
+  public String getOptionMulti() {
+    return options.getOption("users");
+  }
+
+  @Benchmark
+  public String getOptionMissing() {
+    return options.getOption("silent");
+  }
+
+  @Benchmark
+  public String[] getOptions() {
+    return options.getOptions("users");
+  }
+
+  @Benchmark
+  public int parseIntOfGetOption() {
+    return Integer.parseInt(typedOptions.getOption("port"));
+  }
+
+  @Benchmark
+  public int getInt() {
+    return typedOptions.getInt("port", 0);
+  }
+
+  @Benchmark
+  public int getIntByHandle() {
+    return typedOptions.getInt(port, 0);
+  }
+
+  @Benchmark
+  public int parseIntOfGetOptions() {
+    int sum = 0;
+    for (final String id : typedOptions.getOptions("ids")) // [A]
+      sum += Integer.parseInt(id);
+
+    return sum;
+  }
+
+  @Benchmark
+  public int getIntArray() {
+    int sum = 0;
+    for (final int id : typedOptions.getIntArray("ids")) // [A]
+      sum += id;
+
+    return sum;
+  }
+}
@@ -0,0 +1,92 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjax.cli.CompiledSpec;
+import org.openjax.cli.Options;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the cost that the eager capture of a stack trace to determine the main class added to each parse, at call
+ * depths of 0 to 200 frames, as when parsing per request inside a server. {@link #stackTrace()} is the capture that
+ * {@link CompiledSpec#parse(String[])} used to perform, and {@link #parse()} and {@link #parseWithMainClass()} are the
+ * parses that now resolve the main class lazily, or are provided it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MainClassBenchmark {
+  @Param({"0", "50", "200"})
+  public int depth;
+
+  private CompiledSpec spec;
+  private String[] args;
+
+  @Setup
+  public void setup() {
+    spec = Options.compile(Specs.newCli());
+    args = Specs.newArgs(10);
+  }
+
+  private static String getMainClassName() {
+    final StackTraceElement[] executionStack = new Throwable().getStackTrace();
+    for (int i = 0; i < executionStack.length; ++i) { // [A]
+      final String className = executionStack[i].getClassName();
+      if (!className.equals(CompiledSpec.class.getName()) && !className.equals(Options.class.getName()))
+        return className;
+    }
+
+    throw new IllegalStateException("Could not determine main class");
+  }
+
+  private Object call(final int depth, final int op) {
+    if (depth > 0)
+      return call(depth - 1, op);
+
+    return op == 0 ? getMainClassName() : op == 1 ? spec.parse(args) : spec.parse(MainClassBenchmark.class, args);
+  }
+
+  @Benchmark
+  public Object stackTrace() {
+    return call(depth, 0);
+  }
+
+  @Benchmark
+  public Object parse() {
+    return call(depth, 1);
+  }
+
+  @Benchmark
+  public Object parseWithMainClass() {
+    return call(depth, 2);
+  }
+}
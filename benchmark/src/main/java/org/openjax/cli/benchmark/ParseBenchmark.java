@@ -0,0 +1,70 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjax.cli.CompiledSpec;
+import org.openjax.cli.Options;
+import org.openjax.cli_1_1.Cli;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the parsing of {@code String[] args} of 0 to 100k tokens, with {@link Options#parse(Cli,String[])} that
+ * compiles the spec on each invocation, and with {@link CompiledSpec#parse(String[])} that does not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParseBenchmark {
+  @Param({"0", "10", "100", "1000", "10000", "100000"})
+  public int length;
+
+  private Cli cli;
+  private CompiledSpec spec;
+  private String[] args;
+
+  @Setup
+  public void setup() {
+    cli = Specs.newCli();
+    spec = Options.compile(cli);
+    args = Specs.newArgs(length);
+  }
+
+  @Benchmark
+  public Options parseBinding() {
+    return Options.parse(cli, args);
+  }
+
+  @Benchmark
+  public Options parseCompiled() {
+    return spec.parse(args);
+  }
+}
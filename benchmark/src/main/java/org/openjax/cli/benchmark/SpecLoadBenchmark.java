@@ -0,0 +1,76 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjax.cli.Options;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Options#parse(java.net.URL,String[])}, which loads, validates and compiles the CLI XML before parsing
+ * {@code String[] args}. The {@code *Cold} benchmarks measure the first invocation in a fresh JVM, and the {@code *Warm}
+ * benchmarks measure the steady state.
+ */
+public class SpecLoadBenchmark {
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Fork(20)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public Options parseUrlCold() throws IOException {
+    return Options.parse(Specs.cliXml, Specs.cliXmlArgs);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Fork(20)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public Options parseUrlJaxbCold() throws IOException {
+    return Options.compile(Specs.cliXml, Options.Loader.JAXB).parse(Specs.cliXmlArgs);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Fork(1)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  public Options parseUrlWarm() throws IOException {
+    return Options.parse(Specs.cliXml, Specs.cliXmlArgs);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Fork(1)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  public Options parseUrlJaxbWarm() throws IOException {
+    return Options.compile(Specs.cliXml, Options.Loader.JAXB).parse(Specs.cliXmlArgs);
+  }
+}
@@ -0,0 +1,133 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli.benchmark;
+
+import java.net.URL;
+import java.util.ArrayList;
+
+import org.openjax.cli_1_1.Cli;
+import org.openjax.cli_1_1.Use;
+
+/**
+ * Factory of CLI specifications and {@code String[] args} of configurable size for the benchmarks.
+ */
+final class Specs {
+  /** The CLI XML of the test suite: 4 options, and at least 3 unnamed arguments. */
+  static final URL cliXml = Specs.class.getClassLoader().getResource("cli.xml");
+
+  /** Valid {@code String[] args} for {@link #cliXml}. */
+  static final String[] cliXmlArgs = {"--users", "bob,joe", "-V", "file1", "file2", "file3"};
+
+  private static Cli.Option newOption(final String longName, final String shortName, final String label, final String maxOccurs, final String pattern, final String defaultValue) {
+    final Cli.Option option = new Cli.Option();
+    final Cli.Option.Name name = new Cli.Option.Name();
+    name.setLong(longName);
+    name.setShort(shortName);
+    option.setName(name);
+    option.setDescription("description of " + longName);
+    if (label != null) {
+      final Cli.Option.Argument argument = new Cli.Option.Argument();
+      argument.setLabel(label);
+      argument.setUse(Use.OPTIONAL);
+      argument.setMaxOccurs(maxOccurs);
+      argument.setPattern(pattern);
+      argument.setDefault(defaultValue);
+      option.setArgument(argument);
+    }
+
+    return option;
+  }
+
+  /**
+   * Returns a {@link Cli} binding with a {@code --verbose} flag, a {@code --config} option with a default, an
+   * {@code --include} option with {@code maxOccurs="unbounded"} and a pattern, and up to 1000 unnamed arguments.
+   *
+   * @return A {@link Cli} binding for {@link #newArgs(int)}.
+   */
+  static Cli newCli() {
+    final Cli cli = new Cli();
+    cli.getOption().add(newOption("verbose", "v", null, null, null, null));
+    cli.getOption().add(newOption("config", "c", "CONFIG", "1", null, "config.xml"));
+    cli.getOption().add(newOption("include", "I", "PATH", "unbounded", "[a-z0-9/]+", null));
+    final Cli.Arguments arguments = new Cli.Arguments();
+    arguments.setLabel("FILE");
+    arguments.setMinOccurs((short)0);
+    arguments.setMaxOccurs("1000");
+    cli.setArguments(arguments);
+    return cli;
+  }
+
+  /**
+   * Returns valid {@code String[] args} of the provided length for {@link #newCli()}. Up to 1000 of the tokens are unnamed
+   * arguments, and the remainder are the flag and the values of the {@code --include} option.
+   *
+   * @param length The length of the {@code String[] args}.
+   * @return Valid {@code String[] args} of the provided length for {@link #newCli()}.
+   */
+  static String[] newArgs(final int length) {
+    final String[] args = new String[length];
+    final int files = Math.min(length / 2, 1000);
+    int i = 0;
+    for (; i < files; ++i) // [A]
+      args[i] = "file" + i;
+
+    if (i < length)
+      args[i++] = "-v";
+
+    if (i < length)
+      args[i++] = "--include";
+
+    for (int j = 0; i < length; ++i, ++j) // [A]
+      args[i] = "dir/" + j;
+
+    return args;
+  }
+
+  /**
+   * Returns a {@link Cli} binding with the provided number of options, every other of which accepts an argument.
+   *
+   * @param count The number of options.
+   * @return A {@link Cli} binding with the provided number of options.
+   */
+  static Cli newCli(final int count) {
+    final Cli cli = new Cli();
+    for (int i = 0; i < count; ++i) // [N]
+      cli.getOption().add(i % 2 == 0 ? newOption("option" + i, null, null, null, null, null) : newOption("option" + i, null, "VALUE", "1", "[a-z0-9]+", "default" + i));
+
+    return cli;
+  }
+
+  /**
+   * Returns {@code String[] args} that specify every 10th option of {@link #newCli(int)} with the provided number of
+   * options, starting with the first option that accepts an argument.
+   *
+   * @param count The number of options of {@link #newCli(int)}.
+   * @return {@code String[] args} that specify every 10th option of {@link #newCli(int)}.
+   */
+  static String[] newArgsForOptions(final int count) {
+    final ArrayList<String> args = new ArrayList<>();
+    for (int i = 1; i < count; i += 10) { // [N]
+      args.add("--option" + i);
+      args.add("value" + i);
+    }
+
+    return args.toArray(new String[args.size()]);
+  }
+
+  private Specs() {
+  }
+}
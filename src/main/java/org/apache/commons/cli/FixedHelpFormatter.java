@@ -16,83 +16,175 @@
 
 package org.apache.commons.cli;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.List;
 
+/**
+ * A {@link HelpFormatter} that renders the help of {@link Options} into a single {@link StringBuilder}, as per
+ * {@link HelpFormatter#printHelp(java.io.PrintWriter,int,String,String,Options,int,int,String,boolean)}, and that renders
+ * the {@code [ARG]} of optional arguments.
+ */
 public class FixedHelpFormatter extends HelpFormatter {
+  /**
+   * Returns the help of the provided {@link Options}, as would be printed by
+   * {@link HelpFormatter#printHelp(java.io.PrintWriter,int,String,String,Options,int,int,String,boolean)} with
+   * {@code autoUsage} of {@code false}.
+   *
+   * @param width The number of characters to be displayed on each line.
+   * @param cmdLineSyntax The syntax for this application.
+   * @param header The banner to display at the beginning of the help, or {@code null}.
+   * @param options The {@link Options}.
+   * @param leftPad The number of characters of padding to be prefixed to each line.
+   * @param descPad The number of characters of padding to be prefixed to each description line.
+   * @param footer The banner to display at the end of the help, or {@code null}.
+   * @return The help of the provided {@link Options}.
+   * @throws IllegalArgumentException If {@code cmdLineSyntax} is null or empty.
+   * @throws NullPointerException If {@code options} is null.
+   */
+  public String render(final int width, final String cmdLineSyntax, final String header, final Options options, final int leftPad, final int descPad, final String footer) {
+    if (cmdLineSyntax == null || cmdLineSyntax.length() == 0)
+      throw new IllegalArgumentException("cmdLineSyntax not provided");
+
+    final String newLine = getNewLine();
+    final StringBuilder sb = new StringBuilder(256);
+    final String syntaxPrefix = getSyntaxPrefix();
+    renderWrappedTextBlock(sb, width, syntaxPrefix.length() + cmdLineSyntax.indexOf(' ') + 1, syntaxPrefix + cmdLineSyntax);
+    sb.append(newLine);
+    if (header != null && header.trim().length() > 0) {
+      renderWrappedTextBlock(sb, width, 0, header);
+      sb.append(newLine);
+    }
+
+    renderOptions(sb, width, options, leftPad, descPad);
+    sb.append(newLine);
+    if (footer != null && footer.trim().length() > 0) {
+      renderWrappedTextBlock(sb, width, 0, footer);
+      sb.append(newLine);
+    }
+
+    return sb.toString();
+  }
+
   @Override
   protected StringBuffer renderOptions(final StringBuffer sb, final int width, final Options options, final int leftPad, final int descPad) {
-    final String lpad = createPadding(leftPad);
-    final String dpad = createPadding(descPad);
-
-    // first create list containing only <lpad>-a,--aaa where
-    // -a is opt and --aaa is long opt; in parallel look for
-    // the longest opt string this list will be then used to
-    // sort options ascending
-    final ArrayList<StringBuffer> prefixList = new ArrayList<>();
+    return sb.append(renderOptions(new StringBuilder(), width, options, leftPad, descPad));
+  }
+
+  private static void appendPadding(final StringBuilder sb, final int len) {
+    for (int i = 0; i < len; ++i) // [N]
+      sb.append(' ');
+  }
+
+  private StringBuilder renderOptions(final StringBuilder sb, final int width, final Options options, final int leftPad, final int descPad) {
     final List<Option> optList = options.helpOptions();
-    optList.sort(getOptionComparator());
+    final int size = optList.size();
+    if (size == 0)
+      return sb;
+
+    final Comparator<Option> comparator = getOptionComparator();
+    if (comparator != null)
+      optList.sort(comparator);
 
+    // First render the <lpad>-a,--aaa [ARG] prefix of each option, and find the longest
+    final String[] prefixes = new String[size];
+    final String optPrefix = getOptPrefix();
+    final String longOptPrefix = getLongOptPrefix();
+    final StringBuilder line = new StringBuilder(64);
     int max = 0;
-    StringBuffer optBuf;
-    // FIXME: The implementation of this iteration is convoluted
-    if (optList.size() > 0) {
-      for (final Iterator<Option> i = optList.iterator(); i.hasNext();) { // [I]
-        final Option option = i.next();
-        optBuf = new StringBuffer(8);
-
-        if (option.getOpt() == null) {
-          optBuf.append(lpad).append("   ").append(getLongOptPrefix()).append(option.getLongOpt());
+    for (int i = 0; i < size; ++i) { // [RA]
+      final Option option = optList.get(i);
+      line.setLength(0);
+      appendPadding(line, leftPad);
+      if (option.getOpt() == null) {
+        line.append("   ").append(longOptPrefix).append(option.getLongOpt());
+      }
+      else {
+        line.append(optPrefix).append(option.getOpt());
+        if (option.hasLongOpt())
+          line.append(',').append(longOptPrefix).append(option.getLongOpt());
+      }
+
+      if (option.hasArg()) {
+        if (option.hasArgName()) {
+          if (option.isRequired())
+            line.append(" <").append(option.getArgName()).append('>');
+          else
+            line.append(" [").append(option.getArgName()).append(']');
         }
         else {
-          optBuf.append(lpad).append(getOptPrefix()).append(option.getOpt());
-
-          if (option.hasLongOpt()) {
-            optBuf.append(',').append(getLongOptPrefix()).append(option.getLongOpt());
-          }
+          line.append(' ');
         }
+      }
 
-        if (option.hasArg()) {
-          if (option.hasArgName()) {
-            if (option.isRequired())
-              optBuf.append(" <").append(option.getArgName()).append('>');
-            else
-              optBuf.append(" [").append(option.getArgName()).append(']');
-          }
-          else {
-            optBuf.append(' ');
-          }
-        }
+      prefixes[i] = line.toString();
+      max = Math.max(line.length(), max);
+    }
 
-        prefixList.add(optBuf);
-        max = Math.max(optBuf.length(), max);
-      }
+    // Then render each prefix, padded to the longest, followed by the description
+    final String newLine = getNewLine();
+    final int nextLineTabStop = max + descPad;
+    for (int i = 0; i < size; ++i) { // [RA]
+      if (i > 0)
+        sb.append(newLine);
 
-      int x = 0;
-      // FIXME: The implementation of this iteration is convoluted
-      for (final Iterator<Option> i = optList.iterator(); i.hasNext();) { // [I]
-        final Option option = i.next();
-        optBuf = new StringBuffer(prefixList.get(x++).toString());
+      line.setLength(0);
+      line.append(prefixes[i]);
+      appendPadding(line, nextLineTabStop - prefixes[i].length());
+      final String description = optList.get(i).getDescription();
+      if (description != null)
+        line.append(description);
 
-        if (optBuf.length() < max) {
-          optBuf.append(createPadding(max - optBuf.length()));
-        }
+      renderWrappedText(sb, width, nextLineTabStop, line.toString());
+    }
+
+    return sb;
+  }
 
-        optBuf.append(dpad);
+  private void renderWrappedTextBlock(final StringBuilder sb, final int width, final int nextLineTabStop, final String text) {
+    // Render each line as per BufferedReader.readLine()
+    final String newLine = getNewLine();
+    for (int start = 0, end, len = text.length(); start < len; start = end) { // [N]
+      if (start > 0)
+        sb.append(newLine);
 
-        final int nextLineTabStop = max + descPad;
-        if (option.getDescription() != null) {
-          optBuf.append(option.getDescription());
-        }
+      end = start;
+      while (end < len && text.charAt(end) != '\n' && text.charAt(end) != '\r')
+        ++end;
 
-        renderWrappedText(sb, width, nextLineTabStop, optBuf.toString());
-        if (i.hasNext()) {
-          sb.append(getNewLine());
-        }
-      }
+      renderWrappedText(sb, width, nextLineTabStop, text.substring(start, end));
+      if (end < len && text.charAt(end) == '\r')
+        ++end;
+
+      if (end < len && text.charAt(end) == '\n')
+        ++end;
     }
+  }
 
-    return sb;
+  private void renderWrappedText(final StringBuilder sb, final int width, int nextLineTabStop, String text) {
+    int pos = findWrapPos(text, width, 0);
+    if (pos == -1) {
+      sb.append(rtrim(text));
+      return;
+    }
+
+    final String newLine = getNewLine();
+    sb.append(rtrim(text.substring(0, pos))).append(newLine);
+    if (nextLineTabStop >= width)
+      nextLineTabStop = 1;
+
+    final String padding = createPadding(nextLineTabStop);
+    while (true) {
+      text = padding + text.substring(pos).trim();
+      pos = findWrapPos(text, width, 0);
+      if (pos == -1) {
+        sb.append(text);
+        return;
+      }
+
+      if (text.length() > width && pos == nextLineTabStop - 1)
+        pos = width;
+
+      sb.append(rtrim(text.substring(0, pos))).append(newLine);
+    }
   }
-}
\ No newline at end of file
+}
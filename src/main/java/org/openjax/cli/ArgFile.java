@@ -0,0 +1,230 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.openjax.cli;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory-mapped argument file, as referenced by an {@code @path} token in {@code String[] args}. The file is tokenized
+ * lazily, directly from the mapped bytes, whereby a token is identified by its offset in the file, and is only decoded to a
+ * {@link String} when it is requested.
+ * <p>
+ * Tokens are separated by whitespace. A token may contain segments enclosed in double or single quotes, which may contain
+ * whitespace, and in which a backslash escapes the following character. A {@code #} at the start of a token begins a
+ * comment that extends to the end of the line. The file is decoded as UTF-8.
+ */
+final class ArgFile {
+  private static final int SEGMENT_BITS = 30;
+  private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+  private static boolean isWhitespace(final byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f';
+  }
+
+  private final Path path;
+  private final MappedByteBuffer[] segments;
+  private final long size;
+  private long lineOffset;
+  private int lineNumber = 1;
+
+  /**
+   * Creates a new {@link ArgFile} by mapping the file at the provided {@link Path}.
+   *
+   * @param path The {@link Path} of the argument file.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  ArgFile(final Path path) throws IOException {
+    this.path = path;
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      this.size = channel.size();
+      this.segments = new MappedByteBuffer[(int)((size + SEGMENT_MASK) >>> SEGMENT_BITS)];
+      for (int i = 0; i < segments.length; ++i) { // [A]
+        final long position = (long)i << SEGMENT_BITS;
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_MASK + 1, size - position));
+      }
+    }
+  }
+
+  /**
+   * Returns the {@link Path} of this argument file.
+   *
+   * @return The {@link Path} of this argument file.
+   */
+  Path getPath() {
+    return path;
+  }
+
+  private byte get(final long offset) {
+    return segments[(int)(offset >>> SEGMENT_BITS)].get((int)(offset & SEGMENT_MASK));
+  }
+
+  /**
+   * Returns the offset of the first token at or after the provided offset, or {@code -1} if there are no further tokens.
+   *
+   * @param offset The offset from which to search.
+   * @return The offset of the first token at or after the provided offset, or {@code -1} if there are no further tokens.
+   */
+  long next(long offset) {
+    while (offset < size) {
+      final byte b = get(offset);
+      if (b == '#') {
+        while (offset < size && get(offset) != '\n')
+          ++offset;
+      }
+      else if (!isWhitespace(b)) {
+        return offset;
+      }
+      else {
+        ++offset;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the offset after the end of the token at the provided offset.
+   *
+   * @param offset The offset of the token.
+   * @return The offset after the end of the token at the provided offset.
+   * @throws IllegalArgumentException If the token contains an unterminated quote.
+   */
+  long end(final long offset) {
+    return scan(offset, null);
+  }
+
+  private long scan(long offset, final Buffer buffer) {
+    byte quote = 0;
+    for (; offset < size; ++offset) { // [N]
+      final byte b = get(offset);
+      if (quote != 0) {
+        if (b == quote) {
+          quote = 0;
+          continue;
+        }
+
+        if (b == '\\' && offset + 1 < size) {
+          if (buffer != null)
+            buffer.append(get(++offset));
+          else
+            ++offset;
+
+          continue;
+        }
+      }
+      else if (b == '"' || b == '\'') {
+        quote = b;
+        continue;
+      }
+      else if (isWhitespace(b)) {
+        break;
+      }
+
+      if (buffer != null)
+        buffer.append(b);
+    }
+
+    if (quote != 0)
+      throw new IllegalArgumentException("Unterminated quote");
+
+    return offset;
+  }
+
+  /**
+   * Returns whether the token at the provided offset may begin with a {@code '-'}, without decoding it.
+   *
+   * @param offset The offset of the token.
+   * @return Whether the token at the provided offset may begin with a {@code '-'}.
+   */
+  boolean mayBeDashed(final long offset) {
+    final byte b = get(offset);
+    return b == '-' || b == '"' || b == '\'';
+  }
+
+  /**
+   * Returns the decoded token at the provided offset.
+   *
+   * @param offset The offset of the token.
+   * @return The decoded token at the provided offset.
+   * @throws IllegalArgumentException If the token contains an unterminated quote.
+   */
+  String decode(final long offset) {
+    final Buffer buffer = new Buffer();
+    scan(offset, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Returns the 1-based line number of the provided offset. The line number of the last offset is retained, from which the
+   * file is scanned if the provided offset is not before it, so that the positions of successive errors are determined in
+   * a single pass of the file.
+   *
+   * @param offset The offset.
+   * @return The 1-based line number of the provided offset.
+   */
+  synchronized int line(final long offset) {
+    long i = 0;
+    int line = 1;
+    if (offset >= lineOffset) {
+      i = lineOffset;
+      line = lineNumber;
+    }
+
+    for (; i < offset; ++i) // [N]
+      if (get(i) == '\n')
+        ++line;
+
+    lineOffset = offset;
+    lineNumber = line;
+    return line;
+  }
+
+  /**
+   * Returns the position of the provided offset in the form of {@code "path:line"}.
+   *
+   * @param offset The offset.
+   * @return The position of the provided offset in the form of {@code "path:line"}.
+   */
+  String position(final long offset) {
+    return path + ":" + line(offset);
+  }
+
+  private static final class Buffer {
+    private byte[] bytes = new byte[32];
+    private int length;
+
+    private void append(final byte b) {
+      if (length == bytes.length) {
+        final byte[] copy = new byte[length * 2];
+        System.arraycopy(bytes, 0, copy, 0, length);
+        bytes = copy;
+      }
+
+      bytes[length++] = b;
+    }
+
+    @Override
+    public String toString() {
+      return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+  }
+}
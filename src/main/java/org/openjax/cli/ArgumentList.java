@@ -0,0 +1,187 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.openjax.cli;
+
+import java.util.Arrays;
+
+/**
+ * Compact list of the unnamed arguments of a parse, which refers to the arguments in {@code String[] args} and in
+ * {@link ArgFile}s instead of holding them as {@link String}s. Arguments that are contiguous in {@code args} are
+ * represented by a range, arguments that are interleaved with options are represented by their indices in {@code args},
+ * and, once an argument from an {@link ArgFile} (or an escaped {@code @@} argument) is added, each argument is
+ * represented by a reference that encodes its source and offset in a single {@code long}. Arguments from {@link ArgFile}s
+ * are decoded when they are requested.
+ * <p>
+ * Instances of this class are mutable while tokenizing, and are effectively immutable thereafter.
+ */
+final class ArgumentList {
+  private static final int SOURCE_SHIFT = 48;
+  private static final long OFFSET_MASK = (1L << SOURCE_SHIFT) - 1;
+  /** The flag of a reference to an argument in {@code args} that is an {@code @@} escape. */
+  private static final long ESCAPED = 1L << 32;
+
+  private final String[] args;
+  private int start;
+  private int size;
+  private int[] indices;
+  private long[] refs;
+  private ArgFile[] files;
+  private int fileCount;
+
+  /**
+   * Creates a new empty {@link ArgumentList} for the provided {@code args}.
+   *
+   * @param args The {@code String[] args}.
+   */
+  ArgumentList(final String[] args) {
+    this.args = args;
+  }
+
+  private static int grow(final int length) {
+    return Math.max(8, length * 2);
+  }
+
+  private void toRefs() {
+    refs = new long[grow(size)];
+    for (int i = 0; i < size; ++i) // [A]
+      refs[i] = indices != null ? indices[i] : start + i;
+
+    indices = null;
+  }
+
+  private void addRef(final long ref) {
+    if (refs == null)
+      toRefs();
+    else if (size == refs.length)
+      refs = Arrays.copyOf(refs, grow(size));
+
+    refs[size++] = ref;
+  }
+
+  /**
+   * Adds the argument at the provided index in {@code args}.
+   *
+   * @param index The index of the argument in {@code args}.
+   */
+  void add(final int index) {
+    if (refs != null) {
+      addRef(index);
+      return;
+    }
+
+    if (size == 0) {
+      start = index;
+    }
+    else if (indices == null) {
+      if (index == start + size) {
+        ++size;
+        return;
+      }
+
+      // The arguments are no longer contiguous, so their indices are recorded from here on
+      indices = new int[grow(size)];
+      for (int i = 0; i < size; ++i) // [A]
+        indices[i] = start + i;
+    }
+    else if (size == indices.length) {
+      indices = Arrays.copyOf(indices, grow(size));
+    }
+
+    if (indices != null)
+      indices[size] = index;
+
+    ++size;
+  }
+
+  /**
+   * Adds the argument at the provided index in {@code args}, which is an {@code @@} escape of an argument that starts with
+   * {@code @}.
+   *
+   * @param index The index of the argument in {@code args}.
+   */
+  void addEscaped(final int index) {
+    addRef(ESCAPED | index);
+  }
+
+  /**
+   * Adds the token at the provided offset in the provided {@link ArgFile}.
+   *
+   * @param file The {@link ArgFile}.
+   * @param offset The offset of the token in {@code file}.
+   */
+  void add(final ArgFile file, final long offset) {
+    int source = fileCount;
+    while (source > 0 && files[source - 1] != file)
+      --source;
+
+    if (source == 0) {
+      if (files == null)
+        files = new ArgFile[1];
+      else if (fileCount == files.length)
+        files = Arrays.copyOf(files, fileCount * 2);
+
+      files[fileCount] = file;
+      source = ++fileCount;
+    }
+
+    addRef(((long)source << SOURCE_SHIFT) | offset);
+  }
+
+  /**
+   * Returns the number of arguments.
+   *
+   * @return The number of arguments.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the argument at the provided index.
+   *
+   * @param index The index of the argument.
+   * @return The argument at the provided index.
+   * @throws ArrayIndexOutOfBoundsException If {@code index} is out of the bounds of the backing arrays.
+   */
+  String get(final int index) {
+    if (refs == null)
+      return args[indices != null ? indices[index] : start + index];
+
+    final long ref = refs[index];
+    final int source = (int)(ref >>> SOURCE_SHIFT);
+    if (source != 0)
+      return files[source - 1].decode(ref & OFFSET_MASK);
+
+    final String arg = args[(int)ref];
+    return (ref & ESCAPED) != 0 ? arg.substring(1) : arg;
+  }
+
+  /**
+   * Returns a new array of the arguments.
+   *
+   * @return A new array of the arguments.
+   */
+  String[] toArray() {
+    final String[] arguments = new String[size];
+    if (refs == null && indices == null)
+      System.arraycopy(args, start, arguments, 0, size);
+    else
+      for (int i = 0; i < size; ++i) // [A]
+        arguments[i] = get(i);
+
+    return arguments;
+  }
+}
@@ -0,0 +1,89 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.openjax.cli;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} over the unnamed arguments of an {@link ArgumentList}, which reads the arguments from the
+ * {@code String[] args} and argument files to which the list refers, without copying them. Splitting halves the remaining
+ * range, and is thus balanced for parallel traversal.
+ */
+final class ArgumentSpliterator implements Spliterator<String> {
+  private final ArgumentList arguments;
+  private int index;
+  private final int fence;
+
+  /**
+   * Creates a new {@link ArgumentSpliterator} over the unnamed arguments from {@code index}, inclusive, to {@code fence},
+   * exclusive.
+   *
+   * @param arguments The {@link ArgumentList}.
+   * @param index The index of the first unnamed argument to traverse, inclusive.
+   * @param fence The index of the last unnamed argument to traverse, exclusive.
+   */
+  ArgumentSpliterator(final ArgumentList arguments, final int index, final int fence) {
+    this.arguments = arguments;
+    this.index = index;
+    this.fence = fence;
+  }
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super String> action) {
+    if (action == null)
+      throw new NullPointerException("action == null");
+
+    if (index >= fence)
+      return false;
+
+    action.accept(arguments.get(index++));
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(final Consumer<? super String> action) {
+    if (action == null)
+      throw new NullPointerException("action == null");
+
+    final int fence = this.fence;
+    int i = index;
+    index = fence;
+    for (; i < fence; ++i) // [A]
+      action.accept(arguments.get(i));
+  }
+
+  @Override
+  public Spliterator<String> trySplit() {
+    final int mid = (index + fence) >>> 1;
+    if (mid <= index)
+      return null;
+
+    final ArgumentSpliterator prefix = new ArgumentSpliterator(arguments, index, mid);
+    index = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+  }
+}
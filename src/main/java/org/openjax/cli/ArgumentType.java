@@ -0,0 +1,381 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.openjax.cli;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable specification of the {@code type} of an option argument, together with its {@code min}, {@code max} and
+ * {@code values} parameters, as per the {@code <argument>} element of the {@code cli-1.2.xsd} schema. Values of the
+ * argument are checked by the {@link Validator} of the type directly, without regular expressions.
+ * <p>
+ * The built-in types are:
+ * <ul>
+ * <li>{@code int}, {@code long}, {@code double}: Decimal numbers, optionally bounded by {@code min} and {@code max}.</li>
+ * <li>{@code boolean}: One of {@code true}, {@code false}, {@code yes}, {@code no}, {@code on} or {@code off}, ignoring
+ * case.</li>
+ * <li>{@code enum}: One of the space-separated {@code values}.</li>
+ * <li>{@code duration}: A sequence of integers with units of {@code d}, {@code h}, {@code m}, {@code s}, {@code ms},
+ * {@code us} or {@code ns}, such as {@code 1h30m}, or an ISO-8601 duration, such as {@code PT1H30M}, optionally bounded
+ * by {@code min} and {@code max}.</li>
+ * <li>{@code size}: An integer number of bytes with an optional unit of {@code k}, {@code m}, {@code g} or {@code t}
+ * (powers of 1024, also as {@code kib}, {@code mib}, ...), or {@code kb}, {@code mb}, {@code gb} or {@code tb} (powers of
+ * 1000), ignoring case, optionally bounded by {@code min} and {@code max}.</li>
+ * </ul>
+ * Other types are resolved via {@link ValidatorProvider}s.
+ */
+public final class ArgumentType {
+  private static final String[] booleanTrue = {"true", "yes", "on"};
+  private static final String[] booleanFalse = {"false", "no", "off"};
+  private static final String[] sizeUnits = {"b", "k", "kib", "kb", "m", "mib", "mb", "g", "gib", "gb", "t", "tib", "tb"};
+  private static final long[] sizeFactors = {1L, 1L << 10, 1L << 10, 1000L, 1L << 20, 1L << 20, 1000_000L, 1L << 30, 1L << 30, 1000_000_000L, 1L << 40, 1L << 40, 1000_000_000_000L};
+  private static final String[] durationUnits = {"ns", "us", "ms", "s", "m", "h", "d"};
+  private static final long[] durationFactors = {1L, 1000L, 1000_000L, 1000_000_000L, 60_000_000_000L, 3600_000_000_000L, 86400_000_000_000L};
+
+  /**
+   * Returns the {@link Boolean} value of the provided string as per the {@code boolean} type, or {@code null} if it is not a
+   * valid {@code boolean}.
+   *
+   * @param value The string.
+   * @return The {@link Boolean} value of the provided string, or {@code null} if it is not a valid {@code boolean}.
+   */
+  static Boolean parseBoolean(final String value) {
+    for (int i = 0; i < booleanTrue.length; ++i) { // [A]
+      if (booleanTrue[i].equalsIgnoreCase(value))
+        return Boolean.TRUE;
+
+      if (booleanFalse[i].equalsIgnoreCase(value))
+        return Boolean.FALSE;
+    }
+
+    return null;
+  }
+
+  private static long unit(final String value, final int from, final int to, final String[] units, final long[] factors) {
+    final String unit = value.substring(from, to).toLowerCase(Locale.ROOT);
+    for (int i = 0; i < units.length; ++i) // [A]
+      if (units[i].equals(unit))
+        return factors[i];
+
+    throw new NumberFormatException("Unknown unit \"" + unit + "\" in: " + value);
+  }
+
+  /**
+   * Returns the number of bytes of the provided string as per the {@code size} type.
+   *
+   * @param value The string.
+   * @return The number of bytes of the provided string.
+   * @throws NumberFormatException If the provided string is not a valid {@code size}.
+   */
+  static long parseSize(final String value) {
+    final int length = value.length();
+    int end = 0;
+    while (end < length && Character.isDigit(value.charAt(end)))
+      ++end;
+
+    if (end == 0)
+      throw new NumberFormatException("Not a size: " + value);
+
+    try {
+      final long number = Long.parseLong(value.substring(0, end));
+      return end == length ? number : Math.multiplyExact(number, unit(value, end, length, sizeUnits, sizeFactors));
+    }
+    catch (final ArithmeticException e) {
+      throw new NumberFormatException("Size out of range: " + value);
+    }
+  }
+
+  /**
+   * Returns the number of nanoseconds of the provided string as per the {@code duration} type.
+   *
+   * @param value The string.
+   * @return The number of nanoseconds of the provided string.
+   * @throws NumberFormatException If the provided string is not a valid {@code duration}.
+   */
+  static long parseDuration(final String value) {
+    final int length = value.length();
+    try {
+      if (length > 0 && (value.charAt(0) == 'P' || value.charAt(0) == 'p' || value.charAt(0) == '-'))
+        return Duration.parse(value).toNanos();
+
+      if (length == 0)
+        throw new NumberFormatException("Not a duration: " + value);
+
+      long nanos = 0;
+      for (int i = 0; i < length;) { // [N]
+        final int start = i;
+        while (i < length && Character.isDigit(value.charAt(i)))
+          ++i;
+
+        final int unit = i;
+        while (i < length && Character.isLetter(value.charAt(i)))
+          ++i;
+
+        if (start == unit || unit == i)
+          throw new NumberFormatException("Not a duration: " + value);
+
+        nanos = Math.addExact(nanos, Math.multiplyExact(Long.parseLong(value.substring(start, unit)), unit(value, unit, i, durationUnits, durationFactors)));
+      }
+
+      return nanos;
+    }
+    catch (final ArithmeticException | DateTimeParseException e) {
+      throw new NumberFormatException("Not a duration: " + value);
+    }
+  }
+
+  private static Validator newRangeValidator(final String name, final String min, final String max, final ToLongFunction<String> parser) {
+    final long minValue = min != null ? parser.applyAsLong(min) : Long.MIN_VALUE;
+    final long maxValue = max != null ? parser.applyAsLong(max) : Long.MAX_VALUE;
+    if (maxValue < minValue)
+      throw new IllegalArgumentException("min (" + min + ") > max (" + max + ") for type " + name);
+
+    final String requirement = requirement(name, min, max);
+    return new Validator() {
+      @Override
+      public boolean validate(final String value) {
+        try {
+          final long number = parser.applyAsLong(value);
+          return minValue <= number && number <= maxValue;
+        }
+        catch (final NumberFormatException e) {
+          return false;
+        }
+      }
+
+      @Override
+      public String getRequirement() {
+        return requirement;
+      }
+    };
+  }
+
+  private static double parseDouble(final String value) {
+    final double number = Double.parseDouble(value);
+    if (Double.isNaN(number))
+      throw new NumberFormatException("Not a number: " + value);
+
+    return number;
+  }
+
+  private static Validator newDoubleValidator(final String min, final String max) {
+    final double minValue = min != null ? parseDouble(min) : Double.NEGATIVE_INFINITY;
+    final double maxValue = max != null ? parseDouble(max) : Double.POSITIVE_INFINITY;
+    if (maxValue < minValue)
+      throw new IllegalArgumentException("min (" + min + ") > max (" + max + ") for type double");
+
+    final String requirement = requirement("double", min, max);
+    return new Validator() {
+      @Override
+      public boolean validate(final String value) {
+        try {
+          final double number = parseDouble(value);
+          return minValue <= number && number <= maxValue;
+        }
+        catch (final NumberFormatException e) {
+          return false;
+        }
+      }
+
+      @Override
+      public String getRequirement() {
+        return requirement;
+      }
+    };
+  }
+
+  private static Validator newBooleanValidator() {
+    return new Validator() {
+      @Override
+      public boolean validate(final String value) {
+        return parseBoolean(value) != null;
+      }
+
+      @Override
+      public String getRequirement() {
+        return "boolean";
+      }
+    };
+  }
+
+  private static Validator newEnumValidator(final String[] values) {
+    final String requirement = "one of " + Arrays.toString(values);
+    return new Validator() {
+      @Override
+      public boolean validate(final String value) {
+        for (final String member : values) // [A]
+          if (member.equals(value))
+            return true;
+
+        return false;
+      }
+
+      @Override
+      public String getRequirement() {
+        return requirement;
+      }
+    };
+  }
+
+  private static String requirement(final String name, final String min, final String max) {
+    return min != null ? max != null ? name + " in [" + min + ", " + max + "]" : name + " >= " + min : max != null ? name + " <= " + max : name;
+  }
+
+  private static Validator newProvidedValidator(final String name, final String min, final String max, final String[] values) {
+    final ClassLoader[] classLoaders = {Thread.currentThread().getContextClassLoader(), ArgumentType.class.getClassLoader()};
+    for (final ClassLoader classLoader : classLoaders) { // [A]
+      for (final ValidatorProvider provider : ServiceLoader.load(ValidatorProvider.class, classLoader)) { // [I]
+        if (name.equals(provider.getType())) {
+          final Validator validator = provider.newValidator(min, max, values);
+          if (validator == null)
+            throw new IllegalArgumentException(provider.getClass().getName() + " returned null validator for type " + name);
+
+          return validator;
+        }
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown argument type: " + name);
+  }
+
+  private static void assertNoValues(final String name, final String[] values) {
+    if (values != null)
+      throw new IllegalArgumentException("values is not allowed for type " + name);
+  }
+
+  private static void assertNoRange(final String name, final String min, final String max) {
+    if (min != null || max != null)
+      throw new IllegalArgumentException("min and max are not allowed for type " + name);
+  }
+
+  private final String name;
+  private final String min;
+  private final String max;
+  private final String[] values;
+  private final Validator validator;
+
+  /**
+   * Creates a new {@link ArgumentType} with the provided name and parameters, and resolves its {@link Validator}.
+   *
+   * @param name The name of the type, such as {@code "int"}.
+   * @param min The minimum value, or {@code null}.
+   * @param max The maximum value, or {@code null}.
+   * @param values The permitted values of the {@code enum} type, or {@code null}.
+   * @throws NullPointerException If {@code name} is null.
+   * @throws IllegalArgumentException If {@code name} is not a built-in type and no {@link ValidatorProvider} supports it, or
+   *           if the parameters are not valid for the type.
+   */
+  public ArgumentType(final String name, final String min, final String max, final String ... values) {
+    if (name == null)
+      throw new NullPointerException("name == null");
+
+    this.name = name;
+    this.min = min;
+    this.max = max;
+    this.values = values == null || values.length == 0 ? null : values.clone();
+    try {
+      switch (name) {
+        case "int":
+          assertNoValues(name, this.values);
+          this.validator = newRangeValidator(name, min, max, Integer::parseInt);
+          break;
+        case "long":
+          assertNoValues(name, this.values);
+          this.validator = newRangeValidator(name, min, max, Long::parseLong);
+          break;
+        case "double":
+          assertNoValues(name, this.values);
+          this.validator = newDoubleValidator(min, max);
+          break;
+        case "boolean":
+          assertNoValues(name, this.values);
+          assertNoRange(name, min, max);
+          this.validator = newBooleanValidator();
+          break;
+        case "enum":
+          assertNoRange(name, min, max);
+          if (this.values == null)
+            throw new IllegalArgumentException("values is required for type enum");
+
+          this.validator = newEnumValidator(this.values);
+          break;
+        case "duration":
+          assertNoValues(name, this.values);
+          this.validator = newRangeValidator(name, min, max, ArgumentType::parseDuration);
+          break;
+        case "size":
+          assertNoValues(name, this.values);
+          this.validator = newRangeValidator(name, min, max, ArgumentType::parseSize);
+          break;
+        default:
+          this.validator = newProvidedValidator(name, min, max, this.values == null ? null : this.values.clone());
+      }
+    }
+    catch (final NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid min or max for type " + name + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Returns the name of the type.
+   *
+   * @return The name of the type.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the minimum value, or {@code null}.
+   *
+   * @return The minimum value, or {@code null}.
+   */
+  public String getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum value, or {@code null}.
+   *
+   * @return The maximum value, or {@code null}.
+   */
+  public String getMax() {
+    return max;
+  }
+
+  /**
+   * Returns a copy of the permitted values, or {@code null}.
+   *
+   * @return A copy of the permitted values, or {@code null}.
+   */
+  public String[] getValues() {
+    return values == null ? null : values.clone();
+  }
+
+  /**
+   * Returns the {@link Validator} of this type.
+   *
+   * @return The {@link Validator} of this type.
+   */
+  public Validator getValidator() {
+    return validator;
+  }
+}
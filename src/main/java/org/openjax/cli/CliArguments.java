@@ -0,0 +1,53 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation of a {@code String[]} field of a {@link CliOptions} class, which specifies the unnamed arguments that are
+ * assigned to the field. The field must not be {@code private}, {@code static} or {@code final}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface CliArguments {
+  /**
+   * Returns the label of the arguments.
+   *
+   * @return The label of the arguments.
+   */
+  String label();
+
+  /**
+   * Returns the minimum number of arguments.
+   *
+   * @return The minimum number of arguments.
+   */
+  short minOccurs() default 0;
+
+  /**
+   * Returns the maximum number of arguments, of which {@code -1} signifies an unbounded number.
+   *
+   * @return The maximum number of arguments.
+   */
+  short maxOccurs() default CompiledSpec.UNBOUNDED;
+}
@@ -0,0 +1,121 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation of a field of a {@link CliOptions} class, which specifies an option that is assigned to the field. The field
+ * must not be {@code private}, {@code static} or {@code final}, and its type determines the type of the argument of the
+ * option:
+ * <ul>
+ * <li>{@code boolean}: An option without an argument, which assigns {@code true} if it is specified.</li>
+ * <li>{@code String} and {@code String[]}: An argument of any value.</li>
+ * <li>{@code int}, {@code long}, {@code double}, and arrays thereof: An argument of the {@code int}, {@code long} or
+ * {@code double} type, as per {@link ArgumentType}.</li>
+ * <li>An {@code enum}: An argument of the {@code enum} type, of which the values are the names of the constants.</li>
+ * </ul>
+ * A field is only assigned if its option is specified, or has a default value, and otherwise retains its initial value.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface CliOption {
+  /**
+   * Returns the long name of the option. If empty, the name of the field in kebab case, such as {@code "max-threads"} for
+   * {@code maxThreads}, is used.
+   *
+   * @return The long name of the option.
+   */
+  String longName() default "";
+
+  /**
+   * Returns the short name of the option, or an empty string if the option has no short name.
+   *
+   * @return The short name of the option.
+   */
+  String shortName() default "";
+
+  /**
+   * Returns the label of the argument of the option. If empty, the name of the option in upper case is used.
+   *
+   * @return The label of the argument of the option.
+   */
+  String label() default "";
+
+  /**
+   * Returns whether the option must be specified with a value, as per {@code use="required"} in CLI XML.
+   *
+   * @return Whether the option must be specified with a value.
+   */
+  boolean required() default false;
+
+  /**
+   * Returns the maximum number of values of the option. If {@code 0}, the maximum is {@code 1} for a field that is not an
+   * array, and unbounded for an array.
+   *
+   * @return The maximum number of values of the option.
+   */
+  int maxOccurs() default 0;
+
+  /**
+   * Returns the character by which a value of the option is split into multiple values, or {@code '\0'} if values are not
+   * split.
+   *
+   * @return The character by which a value of the option is split into multiple values.
+   */
+  char valueSeparator() default '\0';
+
+  /**
+   * Returns the regular expression that values of the option must match, or an empty string if values are not matched.
+   *
+   * @return The regular expression that values of the option must match.
+   */
+  String pattern() default "";
+
+  /**
+   * Returns the minimum value of a numeric option, or an empty string if values are not bounded below.
+   *
+   * @return The minimum value of a numeric option.
+   */
+  String min() default "";
+
+  /**
+   * Returns the maximum value of a numeric option, or an empty string if values are not bounded above.
+   *
+   * @return The maximum value of a numeric option.
+   */
+  String max() default "";
+
+  /**
+   * Returns the default value of the option, or an empty string if the option has no default value.
+   *
+   * @return The default value of the option.
+   */
+  String defaultValue() default "";
+
+  /**
+   * Returns the description of the option.
+   *
+   * @return The description of the option.
+   */
+  String description();
+}
@@ -0,0 +1,65 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that directs the {@link CliOptionsProcessor} to derive a CLI XML specification from the {@link CliOption} and
+ * {@link CliArguments} fields of the annotated class at build time, and to generate a binder class in the package of the
+ * annotated class, which holds the resulting {@link CompiledSpec} as a constant, and assigns the parsed {@link Options} to
+ * the fields of an instance of the annotated class without reflection.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * &#64;CliOptions
+ * public class ServerConfig {
+ *   &#64;CliOption(shortName = "p", min = "1", max = "65535", defaultValue = "8080", description = "port to listen on")
+ *   int port;
+ *
+ *   &#64;CliOption(shortName = "v", description = "verbose mode")
+ *   boolean verbose;
+ *
+ *   public static void main(String[] args) {
+ *     ServerConfig config = ServerConfigBinder.bind(args);
+ *     ...
+ *   }
+ * }
+ * </code>
+ * </pre>
+ *
+ * The derived CLI XML is written to the class output as {@code <SimpleName>.cli.xml} in the package of the annotated
+ * class.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CliOptions {
+  /**
+   * Returns the simple name of the generated binder class. If empty, the simple name of the annotated class suffixed with
+   * {@code "Binder"} is used.
+   *
+   * @return The simple name of the generated binder class.
+   */
+  String className() default "";
+}
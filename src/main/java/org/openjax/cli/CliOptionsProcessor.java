@@ -0,0 +1,440 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.openjax.cli.CliSpecProcessor.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that derives a CLI XML specification from the {@link CliOption} and {@link CliArguments} fields of
+ * a {@link CliOptions} class, and generates a binder class holding the option table and help text of the specification as
+ * constants, and {@code bind} methods that assign parsed {@link Options} to the fields of the class. The binder assigns
+ * each field with the typed accessor of its handle, so that binding involves neither reflection nor boxing, and does not
+ * load JAXB or CLI XML at runtime.
+ */
+public final class CliOptionsProcessor extends AbstractProcessor {
+  /**
+   * The accessor of a {@link CliOption} field, as per its type.
+   */
+  private enum Accessor {
+    FLAG,
+    STRING,
+    STRINGS,
+    INT,
+    LONG,
+    DOUBLE,
+    INTS,
+    LONGS,
+    DOUBLES,
+    ENUM
+  }
+
+  /**
+   * Returns the provided name of a field in kebab case, such as {@code "max-threads"} for {@code "maxThreads"}.
+   *
+   * @param name The name of a field.
+   * @return The provided name of a field in kebab case.
+   */
+  static String kebabCase(final String name) {
+    final StringBuilder builder = new StringBuilder(name.length() + 4);
+    for (int i = 0, i$ = name.length(); i < i$; ++i) { // [N]
+      final char ch = name.charAt(i);
+      if (Character.isUpperCase(ch)) {
+        if (i > 0 && !Character.isUpperCase(name.charAt(i - 1)))
+          builder.append('-');
+
+        builder.append(Character.toLowerCase(ch));
+      }
+      else {
+        builder.append(ch == '_' ? '-' : ch);
+      }
+    }
+
+    return builder.toString();
+  }
+
+  private static String escape(final String value) {
+    final StringBuilder builder = new StringBuilder(value.length());
+    for (int i = 0, i$ = value.length(); i < i$; ++i) { // [N]
+      final char ch = value.charAt(i);
+      if (ch == '&')
+        builder.append("&amp;");
+      else if (ch == '<')
+        builder.append("&lt;");
+      else if (ch == '>')
+        builder.append("&gt;");
+      else if (ch == '"')
+        builder.append("&quot;");
+      else if (ch < 0x20)
+        builder.append("&#").append((int)ch).append(';');
+      else
+        builder.append(ch);
+    }
+
+    return builder.toString();
+  }
+
+  private static void attribute(final Writer out, final String name, final String value) throws IOException {
+    if (value != null)
+      out.append(' ').append(name).append("=\"").append(escape(value)).append('"');
+  }
+
+  /**
+   * Writes the CLI XML of the provided {@link CompiledSpec}, which must not have subcommands, in the {@code cli-1.2.xsd}
+   * namespace.
+   *
+   * @param spec The {@link CompiledSpec}.
+   * @param out The {@link Writer} to which the CLI XML is written.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static void writeXml(final CompiledSpec spec, final Writer out) throws IOException {
+    out.append("<cli xmlns=\"").append(SpecReader.NAMESPACE_1_2).append("\">\n");
+    for (int i = 0, i$ = spec.getOptionCount(); i < i$; ++i) { // [N]
+      final OptionSpec option = spec.getOptionSpec(i);
+      out.append("  <option>\n    <name");
+      attribute(out, "long", option.getLongName());
+      attribute(out, "short", option.getShortName());
+      out.append("/>\n");
+      if (option.hasArgument()) {
+        out.append("    <argument");
+        attribute(out, "label", option.getLabel());
+        attribute(out, "valueSeparator", option.getValueSeparator() == '\0' ? null : String.valueOf(option.getValueSeparator()));
+        attribute(out, "use", option.isRequired() ? "required" : null);
+        attribute(out, "maxOccurs", option.getMaxOccurs() == 1 ? null : option.getMaxOccurs() == Integer.MAX_VALUE ? "unbounded" : String.valueOf(option.getMaxOccurs()));
+        attribute(out, "pattern", option.getPattern() == null ? null : option.getPattern().pattern());
+        final ArgumentType type = option.getType();
+        if (type != null) {
+          attribute(out, "type", type.getName());
+          attribute(out, "min", type.getMin());
+          attribute(out, "max", type.getMax());
+          attribute(out, "values", type.getValues() == null ? null : String.join(" ", type.getValues()));
+        }
+
+        attribute(out, "default", option.getDefault());
+        out.append("/>\n");
+      }
+
+      out.append("    <description>").append(escape(option.getDescription())).append("</description>\n  </option>\n");
+    }
+
+    if (spec.getArgumentsLabel() != null) {
+      out.append("  <arguments");
+      attribute(out, "label", spec.getArgumentsLabel());
+      attribute(out, "minOccurs", String.valueOf(spec.getArgumentsMinOccurs()));
+      attribute(out, "maxOccurs", spec.getArgumentsMaxOccurs() == CompiledSpec.UNBOUNDED ? "unbounded" : String.valueOf(spec.getArgumentsMaxOccurs()));
+      out.append("/>\n");
+    }
+
+    out.append("</cli>\n");
+  }
+
+  private static String emptyToNull(final String value) {
+    return value.length() == 0 ? null : value;
+  }
+
+  private void error(final String message, final Element element) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  private boolean isString(final TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED && ((TypeElement)((DeclaredType)type).asElement()).getQualifiedName().contentEquals("java.lang.String");
+  }
+
+  private Accessor accessor(final TypeMirror type) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return Accessor.FLAG;
+      case INT:
+        return Accessor.INT;
+      case LONG:
+        return Accessor.LONG;
+      case DOUBLE:
+        return Accessor.DOUBLE;
+      case ARRAY:
+        final TypeMirror componentType = ((ArrayType)type).getComponentType();
+        return componentType.getKind() == TypeKind.INT ? Accessor.INTS : componentType.getKind() == TypeKind.LONG ? Accessor.LONGS : componentType.getKind() == TypeKind.DOUBLE ? Accessor.DOUBLES : isString(componentType) ? Accessor.STRINGS : null;
+      case DECLARED:
+        return isString(type) ? Accessor.STRING : ((DeclaredType)type).asElement().getKind() == ElementKind.ENUM ? Accessor.ENUM : null;
+      default:
+        return null;
+    }
+  }
+
+  private static boolean isAssignable(final VariableElement field) {
+    final Set<Modifier> modifiers = field.getModifiers();
+    return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.FINAL);
+  }
+
+  private static String[] enumConstants(final TypeMirror type) {
+    final ArrayList<String> constants = new ArrayList<>();
+    for (final Element element : ((DeclaredType)type).asElement().getEnclosedElements()) // [L]
+      if (element.getKind() == ElementKind.ENUM_CONSTANT)
+        constants.add(element.getSimpleName().toString());
+
+    return constants.toArray(new String[constants.size()]);
+  }
+
+  private OptionSpec toOptionSpec(final VariableElement field, final CliOption annotation, final Accessor accessor) {
+    final String shortName = emptyToNull(annotation.shortName());
+    final String longName = annotation.longName().length() > 0 ? annotation.longName() : kebabCase(field.getSimpleName().toString());
+    if (accessor == Accessor.FLAG) {
+      if (annotation.required() || annotation.label().length() > 0 || annotation.maxOccurs() != 0 || annotation.valueSeparator() != '\0' || annotation.pattern().length() > 0 || annotation.min().length() > 0 || annotation.max().length() > 0 || annotation.defaultValue().length() > 0)
+        throw new IllegalArgumentException("A boolean option does not have an argument");
+
+      return new OptionSpec(longName, shortName, annotation.description());
+    }
+
+    final String label = annotation.label().length() > 0 ? annotation.label() : constantName(longName);
+    final boolean array = accessor == Accessor.STRINGS || accessor == Accessor.INTS || accessor == Accessor.LONGS || accessor == Accessor.DOUBLES;
+    final int maxOccurs = annotation.maxOccurs() != 0 ? annotation.maxOccurs() : array ? Integer.MAX_VALUE : 1;
+    if (maxOccurs < 1 || !array && maxOccurs != 1)
+      throw new IllegalArgumentException("Invalid maxOccurs: " + maxOccurs);
+
+    final String min = emptyToNull(annotation.min());
+    final String max = emptyToNull(annotation.max());
+    final ArgumentType type;
+    if (accessor == Accessor.INT || accessor == Accessor.INTS)
+      type = new ArgumentType("int", min, max);
+    else if (accessor == Accessor.LONG || accessor == Accessor.LONGS)
+      type = new ArgumentType("long", min, max);
+    else if (accessor == Accessor.DOUBLE || accessor == Accessor.DOUBLES)
+      type = new ArgumentType("double", min, max);
+    else if (min != null || max != null)
+      throw new IllegalArgumentException("min and max require a numeric field");
+    else if (accessor == Accessor.ENUM)
+      type = new ArgumentType("enum", null, null, enumConstants(field.asType()));
+    else
+      type = null;
+
+    final Pattern pattern;
+    try {
+      pattern = annotation.pattern().length() > 0 ? Pattern.compile(annotation.pattern()) : null;
+    }
+    catch (final PatternSyntaxException e) {
+      throw new IllegalArgumentException("Invalid pattern: " + e.getDescription());
+    }
+
+    return new OptionSpec(longName, shortName, label, annotation.valueSeparator(), annotation.required(), maxOccurs, pattern, type, emptyToNull(annotation.defaultValue()), annotation.description());
+  }
+
+  private static void writeBind(final int index, final OptionSpec option, final VariableElement field, final Accessor accessor, final Writer out) throws IOException {
+    final String name = field.getSimpleName().toString();
+    final String handle = "Handle." + constantName(option.getName());
+    final String value = "v" + index;
+    switch (accessor) {
+      case FLAG:
+        out.append("    if (options.getBoolean(").append(handle).append("))\n      target.").append(name).append(" = true;\n\n");
+        return;
+      case INT:
+      case LONG:
+      case DOUBLE:
+        final String method = accessor == Accessor.INT ? "getInt" : accessor == Accessor.LONG ? "getLong" : "getDouble";
+        out.append("    target.").append(name).append(" = options.").append(method).append('(').append(handle).append(", target.").append(name).append(");\n\n");
+        return;
+      default:
+    }
+
+    final String type;
+    final String getter;
+    final String assignment;
+    if (accessor == Accessor.STRING || accessor == Accessor.ENUM) {
+      type = "String";
+      getter = "getOption";
+      assignment = accessor == Accessor.STRING ? value : field.asType().toString() + ".valueOf(" + value + ")";
+    }
+    else {
+      type = accessor == Accessor.STRINGS ? "String[]" : accessor == Accessor.INTS ? "int[]" : accessor == Accessor.LONGS ? "long[]" : "double[]";
+      getter = accessor == Accessor.STRINGS ? "getOptions" : accessor == Accessor.INTS ? "getIntArray" : accessor == Accessor.LONGS ? "getLongArray" : "getDoubleArray";
+      // The arrays of Options are cached, and are not shared with the target
+      assignment = value + ".clone()";
+    }
+
+    out.append("    final ").append(type).append(' ').append(value).append(" = options.").append(getter).append('(').append(handle).append(");\n");
+    out.append("    if (").append(value).append(" != null)\n      target.").append(name).append(" = ").append(assignment).append(";\n\n");
+  }
+
+  private static boolean hasDefaultConstructor(final TypeElement type) {
+    if (type.getModifiers().contains(Modifier.ABSTRACT) || type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC))
+      return false;
+
+    for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) // [L]
+      if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE))
+        return true;
+
+    return false;
+  }
+
+  private void process(final TypeElement type) throws IOException {
+    final CliOptions annotation = type.getAnnotation(CliOptions.class);
+    final ArrayList<OptionSpec> options = new ArrayList<>();
+    final ArrayList<VariableElement> fields = new ArrayList<>();
+    final ArrayList<Accessor> accessors = new ArrayList<>();
+    VariableElement argumentsField = null;
+    CliArguments arguments = null;
+    boolean valid = true;
+    for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) { // [L]
+      final CliOption option = field.getAnnotation(CliOption.class);
+      final CliArguments fieldArguments = field.getAnnotation(CliArguments.class);
+      if (option == null && fieldArguments == null)
+        continue;
+
+      if (!isAssignable(field)) {
+        error("A @" + (option != null ? CliOption.class.getSimpleName() : CliArguments.class.getSimpleName()) + " field must not be private, static or final", field);
+        valid = false;
+      }
+      else if (option != null && fieldArguments != null) {
+        error("A field must not be annotated with both @" + CliOption.class.getSimpleName() + " and @" + CliArguments.class.getSimpleName(), field);
+        valid = false;
+      }
+      else if (fieldArguments != null) {
+        if (argumentsField != null) {
+          error("Only one field may be annotated with @" + CliArguments.class.getSimpleName(), field);
+          valid = false;
+        }
+        else if (accessor(field.asType()) != Accessor.STRINGS) {
+          error("A @" + CliArguments.class.getSimpleName() + " field must be a String[]", field);
+          valid = false;
+        }
+        else {
+          argumentsField = field;
+          arguments = fieldArguments;
+        }
+      }
+      else {
+        final Accessor accessor = accessor(field.asType());
+        if (accessor == null) {
+          error("Unsupported type of @" + CliOption.class.getSimpleName() + " field: " + field.asType(), field);
+          valid = false;
+          continue;
+        }
+
+        try {
+          options.add(toOptionSpec(field, option, accessor));
+          fields.add(field);
+          accessors.add(accessor);
+        }
+        catch (final IllegalArgumentException e) {
+          error("Invalid @" + CliOption.class.getSimpleName() + ": " + e.getMessage(), field);
+          valid = false;
+        }
+      }
+    }
+
+    if (!valid)
+      return;
+
+    final CompiledSpec spec;
+    try {
+      if (arguments != null && (arguments.minOccurs() < 0 || arguments.maxOccurs() != CompiledSpec.UNBOUNDED && arguments.maxOccurs() < arguments.minOccurs()))
+        throw new IllegalArgumentException("minOccurs > maxOccurs on @" + CliArguments.class.getSimpleName());
+
+      spec = new CompiledSpec(options.toArray(new OptionSpec[options.size()]), arguments == null ? null : arguments.label(), arguments == null ? 0 : arguments.minOccurs(), arguments == null ? 0 : arguments.maxOccurs(), null);
+    }
+    catch (final IllegalArgumentException e) {
+      error("Invalid @" + CliOptions.class.getSimpleName() + ": " + e.getMessage(), type);
+      return;
+    }
+
+    final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    final String className = annotation.className().length() > 0 ? annotation.className() : type.getSimpleName() + "Binder";
+    final String targetName = type.getQualifiedName().toString();
+    final String xmlName = type.getSimpleName() + ".cli.xml";
+    try (final Writer out = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, packageName, xmlName, type).openWriter()) {
+      writeXml(spec, out);
+    }
+
+    try (final Writer out = processingEnv.getFiler().createSourceFile(packageName.length() > 0 ? packageName + "." + className : className, type).openWriter()) {
+      if (packageName.length() > 0)
+        out.append("package ").append(packageName).append(";\n\n");
+
+      out.append("import java.util.regex.Pattern;\n\n");
+      out.append("import org.openjax.cli.ArgumentType;\n");
+      out.append("import org.openjax.cli.CompiledSpec;\n");
+      out.append("import org.openjax.cli.OptionSpec;\n");
+      out.append("import org.openjax.cli.Options;\n\n");
+      out.append("/**\n * Generated by {@code ").append(CliOptionsProcessor.class.getName()).append("} from {@code ").append(targetName).append("}. Do not edit.\n */\n");
+      out.append("public final class ").append(className).append(" {\n");
+      writeConstants(spec, className, xmlName, out);
+      if (hasDefaultConstructor(type))
+        out.append("  public static ").append(targetName).append(" bind(final String[] args) {\n    return bind(SPEC.parse(args), new ").append(targetName).append("());\n  }\n\n");
+
+      // The options must have been parsed with SPEC
+      out.append("  public static <T extends ").append(targetName).append("> T bind(final Options options, final T target) {\n");
+      for (int i = 0, i$ = fields.size(); i < i$; ++i) // [RA]
+        writeBind(i, options.get(i), fields.get(i), accessors.get(i), out);
+
+      if (argumentsField != null)
+        out.append("    final String[] arguments = options.getArguments();\n    if (arguments != null)\n      target.").append(argumentsField.getSimpleName()).append(" = arguments;\n\n");
+
+      out.append("    return target;\n  }\n\n");
+      out.append("  private ").append(className).append("() {\n  }\n}\n");
+    }
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(CliOptions.class.getName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    for (final Element element : roundEnv.getElementsAnnotatedWith(CliOptions.class)) { // [S]
+      if (element.getKind() != ElementKind.CLASS) {
+        error("@" + CliOptions.class.getSimpleName() + " must annotate a class", element);
+        continue;
+      }
+
+      try {
+        process((TypeElement)element);
+      }
+      catch (final IOException | RuntimeException e) {
+        error("Unable to generate binder of " + element + ": " + e.getMessage(), element);
+      }
+    }
+
+    return true;
+  }
+}
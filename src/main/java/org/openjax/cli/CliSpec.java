@@ -0,0 +1,64 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that directs the {@link CliSpecProcessor} to validate and compile a CLI XML specification at build time, and
+ * to generate a class in the package of the annotated type that holds the resulting {@link CompiledSpec} as a constant,
+ * and the handles of its options, as per {@link CompiledSpec#getHandle(String)}, as constants of a nested {@code Handle}
+ * class.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * &#64;CliSpec("cli.xml")
+ * public class MyApp {
+ *   public void main(String[] args) {
+ *     Options options = MyAppCli.SPEC.parse(args);
+ *     String config = options.getOption(MyAppCli.Handle.CONFIG);
+ *     ...
+ *   }
+ * }
+ * </code>
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CliSpec {
+  /**
+   * Returns the path of the CLI XML resource, relative to the class output, class path, or source path of the compilation.
+   *
+   * @return The path of the CLI XML resource.
+   */
+  String value();
+
+  /**
+   * Returns the simple name of the generated class. If empty, the simple name of the annotated type suffixed with
+   * {@code "Cli"} is used.
+   *
+   * @return The simple name of the generated class.
+   */
+  String className() default "";
+}
@@ -0,0 +1,252 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+
+import org.apache.commons.cli.HelpFormatter;
+
+/**
+ * Annotation processor that validates and compiles the CLI XML specification referenced by a {@link CliSpec} annotation,
+ * and generates a class holding the option table, defaults, patterns and help text of the specification as constants. At
+ * runtime, the generated class provides a {@link CompiledSpec} without the cost of loading JAXB or validating the CLI XML
+ * against its schema.
+ */
+public final class CliSpecProcessor extends AbstractProcessor {
+  private static final JavaFileManager.Location[] locations = {StandardLocation.CLASS_OUTPUT, StandardLocation.CLASS_PATH, StandardLocation.SOURCE_PATH};
+
+  static String literal(final String value) {
+    if (value == null)
+      return "null";
+
+    final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0, i$ = value.length(); i < i$; ++i) { // [N]
+      final char ch = value.charAt(i);
+      if (ch == '"' || ch == '\\')
+        builder.append('\\').append(ch);
+      else if (ch == '\n')
+        builder.append("\\n");
+      else if (ch == '\r')
+        builder.append("\\r");
+      else if (ch == '\t')
+        builder.append("\\t");
+      else if (ch < 0x20 || ch > 0x7e)
+        builder.append(String.format("\\u%04x", (int)ch));
+      else
+        builder.append(ch);
+    }
+
+    return builder.append('"').toString();
+  }
+
+  static String literal(final char value) {
+    if (value == '\0')
+      return "'\\0'";
+
+    final String literal = literal(String.valueOf(value));
+    return "'" + (value == '\'' ? "\\'" : literal.substring(1, literal.length() - 1)) + "'";
+  }
+
+  /**
+   * Returns the name of the constant of the handle of the option with the provided name, which is the name in upper case,
+   * with each character that is not valid in a Java identifier replaced with {@code '_'}.
+   *
+   * @param name The name of the option.
+   * @return The name of the constant of the handle of the option with the provided name.
+   */
+  static String constantName(final String name) {
+    final StringBuilder builder = new StringBuilder(name.length() + 1);
+    if (!Character.isJavaIdentifierStart(name.charAt(0)))
+      builder.append('_');
+
+    for (int i = 0, i$ = name.length(); i < i$; ++i) { // [N]
+      final char ch = name.charAt(i);
+      builder.append(Character.isJavaIdentifierPart(ch) ? Character.toUpperCase(ch) : '_');
+    }
+
+    return builder.toString();
+  }
+
+  static void writeSpec(final CompiledSpec spec, final String packageName, final String className, final String source, final Writer out) throws IOException {
+    if (packageName.length() > 0)
+      out.append("package ").append(packageName).append(";\n\n");
+
+    out.append("import java.util.regex.Pattern;\n\n");
+    out.append("import org.openjax.cli.ArgumentType;\n");
+    if (spec.getCommandCount() > 0)
+      out.append("import org.openjax.cli.CommandSpec;\n");
+
+    out.append("import org.openjax.cli.CompiledSpec;\n");
+    out.append("import org.openjax.cli.OptionSpec;\n\n");
+    out.append("/**\n * Generated by {@code ").append(CliSpecProcessor.class.getName()).append("} from {@code ").append(source.replace("*/", "*&#47;")).append("}. Do not edit.\n */\n");
+    out.append("public final class ").append(className).append(" {\n");
+    writeConstants(spec, className, source, out);
+    out.append("  private ").append(className).append("() {\n  }\n}\n");
+  }
+
+  /**
+   * Writes the {@code HELP}, {@code SPEC} and {@code Handle} constants of the provided {@link CompiledSpec} as members of
+   * the generated class with the provided name, which imports {@link java.util.regex.Pattern}, {@link ArgumentType},
+   * {@link CompiledSpec} and {@link OptionSpec}, and {@link CommandSpec} if the spec has subcommands.
+   */
+  static void writeConstants(final CompiledSpec spec, final String className, final String source, final Writer out) throws IOException {
+    final String help = spec.getHelp(HelpFormatter.DEFAULT_WIDTH);
+    out.append("  public static final String HELP = ").append(literal(help)).append(";\n\n");
+    out.append("  public static final CompiledSpec SPEC = new CompiledSpec(new OptionSpec[] {");
+    for (int i = 0, i$ = spec.getOptionCount(); i < i$; ++i) { // [N]
+      final OptionSpec option = spec.getOptionSpec(i);
+      out.append(i == 0 ? "\n" : ",\n");
+      out.append("    new OptionSpec(").append(literal(option.getLongName())).append(", ").append(literal(option.getShortName())).append(", ");
+      if (option.hasArgument()) {
+        out.append(literal(option.getLabel())).append(", ").append(literal(option.getValueSeparator())).append(", ").append(String.valueOf(option.isRequired())).append(", ");
+        out.append(option.getMaxOccurs() == Integer.MAX_VALUE ? "Integer.MAX_VALUE" : String.valueOf(option.getMaxOccurs())).append(", ");
+        out.append(option.getPattern() == null ? "null" : "Pattern.compile(" + literal(option.getPattern().pattern()) + ")").append(", ");
+        final ArgumentType type = option.getType();
+        if (type == null) {
+          out.append("null, ");
+        }
+        else {
+          out.append("new ArgumentType(").append(literal(type.getName())).append(", ").append(literal(type.getMin())).append(", ").append(literal(type.getMax()));
+          final String[] values = type.getValues();
+          if (values != null)
+            for (final String value : values) // [A]
+              out.append(", ").append(literal(value));
+
+          out.append("), ");
+        }
+
+        out.append(literal(option.getDefault())).append(", ");
+      }
+
+      out.append(literal(option.getDescription())).append(')');
+    }
+
+    if (spec.getCommandCount() == 0) {
+      out.append("\n  }, ").append(literal(spec.getArgumentsLabel())).append(", (short)").append(String.valueOf(spec.getArgumentsMinOccurs())).append(", (short)").append(String.valueOf(spec.getArgumentsMaxOccurs())).append(", HELP);\n\n");
+    }
+    else {
+      out.append("\n  }, new CommandSpec[] {");
+      for (int i = 0, i$ = spec.getCommandCount(); i < i$; ++i) { // [N]
+        final CommandSpec command = spec.getCommand(i);
+        out.append(i == 0 ? "\n" : ",\n");
+        out.append("    new CommandSpec(").append(literal(command.getName())).append(", ").append(literal(command.getSpec())).append(", ").append(literal(command.getDescription())).append(')');
+      }
+
+      // The specs of subcommands are resolved relative to the CLI XML as a resource of the class loader at runtime
+      out.append("\n  }, ").append(className).append(".class.getClassLoader().getResource(").append(literal(source)).append("), HELP);\n\n");
+    }
+
+    // The handles of the options, as per CompiledSpec.getHandle(String), for the handle-based accessors of Options
+    out.append("  public static final class Handle {\n");
+    final HashSet<String> constantNames = new HashSet<>();
+    for (int i = 0, i$ = spec.getOptionCount(); i < i$; ++i) { // [N]
+      final String name = spec.getOptionSpec(i).getName();
+      final String constantName = constantName(name);
+      if (!constantNames.add(constantName))
+        throw new IllegalArgumentException("Options have the same handle constant " + constantName + ": " + name);
+
+      out.append("    public static final int ").append(constantName).append(" = ").append(String.valueOf(i)).append(";\n");
+    }
+
+    out.append("\n    private Handle() {\n    }\n  }\n\n");
+  }
+
+  /**
+   * Loads and compiles the specs of the subcommands of the provided {@link CompiledSpec}, and of their subcommands, so that
+   * an invalid spec of a subcommand fails the build rather than its first selection at runtime.
+   */
+  private static void validateCommands(final CompiledSpec spec) throws IOException {
+    for (int i = 0, i$ = spec.getCommandCount(); i < i$; ++i) // [N]
+      validateCommands(spec.getCommandSpec(spec.getCommand(i).getName()));
+  }
+
+  private URL findResource(final String path) {
+    final Filer filer = processingEnv.getFiler();
+    for (final JavaFileManager.Location location : locations) { // [A]
+      try {
+        final FileObject resource = filer.getResource(location, "", path);
+        resource.openInputStream().close();
+        return resource.toUri().toURL();
+      }
+      catch (final IOException | IllegalArgumentException e) {
+        // Try the next location
+      }
+    }
+
+    return null;
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(CliSpec.class.getName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    for (final Element element : roundEnv.getElementsAnnotatedWith(CliSpec.class)) { // [S]
+      final CliSpec annotation = element.getAnnotation(CliSpec.class);
+      final URL url = findResource(annotation.value());
+      if (url == null) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to find " + annotation.value() + " in class output, class path or source path", element);
+        continue;
+      }
+
+      final String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+      final String className = annotation.className().length() > 0 ? annotation.className() : element.getSimpleName() + "Cli";
+      final Thread thread = Thread.currentThread();
+      final ClassLoader classLoader = thread.getContextClassLoader();
+      // JAXB locates its implementation via the context class loader, which is not the processor path of the compilation
+      thread.setContextClassLoader(CliSpecProcessor.class.getClassLoader());
+      try {
+        final CompiledSpec spec = Options.compile(url);
+        validateCommands(spec);
+        try (final Writer out = processingEnv.getFiler().createSourceFile(packageName.length() > 0 ? packageName + "." + className : className, element).openWriter()) {
+          writeSpec(spec, packageName, className, annotation.value(), out);
+        }
+      }
+      catch (final IOException | RuntimeException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to compile " + annotation.value() + ": " + e.getMessage(), element);
+      }
+      finally {
+        thread.setContextClassLoader(classLoader);
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,244 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Client of a {@link CommandServer}, which sends {@code String[] args} to the server, and streams the output of the
+ * command to the provided streams. This class only depends on the JDK, so that {@link #main(String[])} starts quickly.
+ * <p>
+ * The path of the server is a Unix domain socket on Java 16 and above. Otherwise, it is a file with the loopback TCP port
+ * and the secret token of the server, which is only readable by its owner.
+ * <p>
+ * The protocol is as follows, where {@code int}s are big-endian, and strings are an {@code int} length followed by UTF-8
+ * bytes:
+ * <ol>
+ * <li>The request: the token string (for TCP only), the {@code int} width of help ({@code 0} for the width of the server),
+ * the absolute path of the working directory of the client, the {@code int} number of args, and each arg string.</li>
+ * <li>The response: frames of a {@code byte} stream ({@code 1} for stdout, {@code 2} for stderr), an {@code int} length
+ * and the bytes, followed by a {@code byte} {@code 0} and the {@code int} exit code.</li>
+ * </ol>
+ */
+public final class CommandClient {
+  static final byte STDOUT = 1;
+  static final byte STDERR = 2;
+  static final byte EXIT = 0;
+  private static final int MAX_LENGTH = 1 << 26;
+
+  /** The {@code UNIX} {@link ProtocolFamily} of Java 16 and above, or {@code null}. */
+  static final ProtocolFamily UNIX;
+
+  static {
+    ProtocolFamily unix = null;
+    try {
+      unix = StandardProtocolFamily.valueOf("UNIX");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    UNIX = unix;
+  }
+
+  /**
+   * Returns a {@code java.net.UnixDomainSocketAddress} of the provided path.
+   *
+   * @param path The {@link Path}.
+   * @return A {@code java.net.UnixDomainSocketAddress} of the provided path.
+   * @throws UnsupportedOperationException If Unix domain sockets are not supported.
+   */
+  static SocketAddress unixAddress(final Path path) {
+    try {
+      return (SocketAddress)Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class).invoke(null, path);
+    }
+    catch (final ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Unix domain sockets are not supported", e);
+    }
+  }
+
+  static void writeString(final DataOutputStream out, final String string) throws IOException {
+    final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(final DataInputStream in) throws IOException {
+    final int length = in.readInt();
+    if (length < 0 || length > MAX_LENGTH)
+      throw new IOException("Invalid length: " + length);
+
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static SocketChannel connect(final Path path, final String[] token) throws IOException {
+    if (!Files.isRegularFile(path)) {
+      if (UNIX == null)
+        throw new IOException("Unix domain sockets are not supported: " + path);
+
+      try {
+        final SocketChannel channel = (SocketChannel)SocketChannel.class.getMethod("open", ProtocolFamily.class).invoke(null, UNIX);
+        channel.connect(unixAddress(path));
+        return channel;
+      }
+      catch (final ReflectiveOperationException e) {
+        throw new IOException(e);
+      }
+    }
+
+    // The file of a server on TCP loopback is "tcp <port> <token>"
+    final String[] parts = new String(Files.readAllBytes(path), StandardCharsets.UTF_8).trim().split(" ");
+    if (parts.length != 3 || !"tcp".equals(parts[0]))
+      throw new IOException("Invalid server file: " + path);
+
+    token[0] = parts[2];
+    return SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(parts[1])));
+  }
+
+  /**
+   * Sends the provided {@code args} to the {@link CommandServer} at the provided path, with the working directory of this
+   * JVM, and streams the output of the command to the provided streams.
+   *
+   * @param path The {@link Path} of the {@link CommandServer}.
+   * @param args The {@code String[] args} of the command.
+   * @param width The width of help, or {@code 0} for the width of the server.
+   * @param out The {@link OutputStream} of the stdout of the command.
+   * @param err The {@link OutputStream} of the stderr of the command.
+   * @return The exit code of the command.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path}, {@code args}, a member of {@code args}, {@code out} or {@code err} is
+   *           null.
+   */
+  public static int call(final Path path, final String[] args, final int width, final OutputStream out, final OutputStream err) throws IOException {
+    return call(path, Paths.get(System.getProperty("user.dir")), args, width, out, err);
+  }
+
+  /**
+   * Sends the provided {@code args} to the {@link CommandServer} at the provided path, and streams the output of the
+   * command to the provided streams. The server resolves {@code @path} argument files against {@code cwd}, and provides it
+   * to its {@link CommandServer.Handler}, so that relative paths resolve as if the command were run directly.
+   *
+   * @param path The {@link Path} of the {@link CommandServer}.
+   * @param cwd The working directory of the command.
+   * @param args The {@code String[] args} of the command.
+   * @param width The width of help, or {@code 0} for the width of the server.
+   * @param out The {@link OutputStream} of the stdout of the command.
+   * @param err The {@link OutputStream} of the stderr of the command.
+   * @return The exit code of the command.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path}, {@code cwd}, {@code args}, a member of {@code args}, {@code out} or
+   *           {@code err} is null.
+   */
+  public static int call(final Path path, final Path cwd, final String[] args, final int width, final OutputStream out, final OutputStream err) throws IOException {
+    final String[] token = new String[1];
+    try (final SocketChannel channel = connect(path, token)) {
+      final DataOutputStream request = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+      if (token[0] != null)
+        writeString(request, token[0]);
+
+      request.writeInt(width);
+      writeString(request, cwd.toAbsolutePath().toString());
+      request.writeInt(args.length);
+      for (final String arg : args) // [A]
+        writeString(request, arg);
+
+      request.flush();
+
+      final InputStream in = Channels.newInputStream(channel);
+      final DataInputStream response = new DataInputStream(new BufferedInputStream(in));
+      final byte[] buffer = new byte[8192];
+      while (true) {
+        final byte stream;
+        try {
+          stream = response.readByte();
+        }
+        catch (final EOFException e) {
+          throw new IOException("Connection closed before exit code");
+        }
+
+        if (stream == EXIT) {
+          out.flush();
+          err.flush();
+          return response.readInt();
+        }
+
+        final OutputStream target = stream == STDOUT ? out : stream == STDERR ? err : null;
+        if (target == null)
+          throw new IOException("Invalid stream: " + stream);
+
+        for (int remaining = response.readInt(), len; remaining > 0; remaining -= len) { // [N]
+          len = response.read(buffer, 0, Math.min(buffer.length, remaining));
+          if (len == -1)
+            throw new EOFException();
+
+          target.write(buffer, 0, len);
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends {@code args} after the first to the {@link CommandServer} at the path of the first, streams the output of the
+   * command to {@link System#out} and {@link System#err}, and exits with the exit code of the command. The width of help is
+   * the {@code COLUMNS} environment variable, if set.
+   *
+   * @param args The path of the {@link CommandServer}, followed by the {@code String[] args} of the command.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println("usage: " + CommandClient.class.getName() + " <path> [args...]");
+      System.exit(1);
+    }
+
+    int width = 0;
+    final String columns = System.getenv("COLUMNS");
+    if (columns != null) {
+      try {
+        width = Math.max(0, Integer.parseInt(columns.trim()));
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+
+    final String[] commandArgs = new String[args.length - 1];
+    System.arraycopy(args, 1, commandArgs, 0, commandArgs.length);
+    System.exit(call(Paths.get(args[0]), commandArgs, width, System.out, System.err));
+  }
+
+  private CommandClient() {
+  }
+}
@@ -0,0 +1,369 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.openjax.cli.CommandClient.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A resident server of a command, which accepts {@code String[] args} from a {@link CommandClient}, parses them with a
+ * {@link CompiledSpec}, and runs a {@link Handler} with the parsed {@link Options}, so that an invocation of the command
+ * does not pay for the startup of a JVM, nor for the loading of its spec.
+ * <p>
+ * The {@code @path} argument files of each request are resolved against the working directory of the client, which is
+ * also provided to the {@link Handler}. The output and the exit code of each request are streamed back to the client.
+ * Errors of a parse and {@code --help} are printed to the client with help at the width of the client, with an exit code
+ * of {@code 1}, instead of exiting the JVM.
+ * <p>
+ * On Java 16 and above, the server listens on a Unix domain socket, which is only accessible by its owner. Otherwise, it
+ * listens on a loopback TCP port, and writes the port and a secret token to a file that is only readable by its owner.
+ * <p>
+ * Up to {@value #MAX_CONNECTIONS} requests are run concurrently, so the {@link Handler} must be thread-safe. Further
+ * connections wait to be accepted until a request completes. A call to {@link System#exit(int)} by the
+ * {@link Handler} exits the server.
+ */
+public final class CommandServer implements Closeable {
+  private static final Logger logger = LoggerFactory.getLogger(CommandServer.class);
+  private static final int MAX_ARGS = 1 << 20;
+  private static final int MAX_CONNECTIONS = 64;
+
+  /**
+   * The logic of a command, which is run with the parsed {@link Options} of each request.
+   */
+  @FunctionalInterface
+  public interface Handler {
+    /**
+     * Runs the command with the provided {@link Options}.
+     *
+     * @param options The parsed {@link Options}.
+     * @param cwd The working directory of the client, against which relative paths are to be resolved.
+     * @param out The stdout of the client.
+     * @param err The stderr of the client.
+     * @return The exit code of the command.
+     * @throws Exception If an exception has occurred, which is printed to {@code err} with an exit code of {@code 1}.
+     */
+    int run(Options options, Path cwd, PrintStream out, PrintStream err) throws Exception;
+  }
+
+  /**
+   * An {@link OutputStream} of frames of a stream of the response, which share the {@link DataOutputStream} of the
+   * connection.
+   */
+  private static final class FrameOutputStream extends OutputStream {
+    private final DataOutputStream out;
+    private final byte stream;
+
+    private FrameOutputStream(final DataOutputStream out, final byte stream) {
+      this.out = out;
+      this.stream = stream;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      write(new byte[] {(byte)b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      if (len == 0)
+        return;
+
+      synchronized (out) {
+        out.writeByte(stream);
+        out.writeInt(len);
+        out.write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      synchronized (out) {
+        out.flush();
+      }
+    }
+  }
+
+  private final CompiledSpec spec;
+  private final Handler handler;
+  private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+    final Thread thread = new Thread(r, "cli-command-server");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Semaphore connections = new Semaphore(MAX_CONNECTIONS);
+
+  private ServerSocketChannel server;
+  private Path path;
+  private byte[] token;
+  private volatile boolean closed;
+
+  /**
+   * Creates a new {@link CommandServer} that parses requests with the provided {@link CompiledSpec}, and runs the provided
+   * {@link Handler} with the parsed {@link Options}.
+   *
+   * @param spec The {@link CompiledSpec}.
+   * @param handler The {@link Handler}.
+   * @throws NullPointerException If {@code spec} or {@code handler} is null.
+   */
+  public CommandServer(final CompiledSpec spec, final Handler handler) {
+    this.spec = Objects.requireNonNull(spec);
+    this.handler = Objects.requireNonNull(handler);
+  }
+
+  /**
+   * Binds this server to the provided path, which is replaced if it exists, and starts accepting requests on a daemon
+   * thread.
+   *
+   * @param path The {@link Path} of the Unix domain socket, or of the file of the loopback TCP port and token.
+   * @return This {@link CommandServer}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalStateException If this server is closed or is already bound.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  public CommandServer bind(final Path path) throws IOException {
+    return bind(path, UNIX == null);
+  }
+
+  /**
+   * Binds this server to the provided path, on a loopback TCP port if {@code tcp} is {@code true}, and otherwise on a Unix
+   * domain socket.
+   */
+  synchronized CommandServer bind(final Path path, final boolean tcp) throws IOException {
+    if (closed)
+      throw new IllegalStateException("Closed");
+
+    if (server != null)
+      throw new IllegalStateException("Already bound");
+
+    Files.deleteIfExists(path);
+    if (tcp) {
+      server = ServerSocketChannel.open();
+      server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+      final byte[] random = new byte[24];
+      new SecureRandom().nextBytes(random);
+      final StringBuilder builder = new StringBuilder(random.length * 2);
+      for (final byte b : random) // [A]
+        builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+
+      token = builder.toString().getBytes(StandardCharsets.UTF_8);
+      try {
+        Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+      }
+      catch (final UnsupportedOperationException e) {
+        Files.createFile(path);
+      }
+
+      Files.write(path, ("tcp " + ((InetSocketAddress)server.getLocalAddress()).getPort() + " " + builder).getBytes(StandardCharsets.UTF_8));
+    }
+    else {
+      try {
+        server = (ServerSocketChannel)ServerSocketChannel.class.getMethod("open", ProtocolFamily.class).invoke(null, UNIX);
+      }
+      catch (final ReflectiveOperationException e) {
+        throw new IOException(e);
+      }
+
+      // The socket is bound in a directory that is only accessible by its owner, and is then moved to the path, so that it
+      // is never accessible by others
+      final Path dir = createOwnerOnlyDirectory(path.toAbsolutePath().getParent());
+      try {
+        final Path socket = dir.resolve("s");
+        server.bind(unixAddress(socket));
+        setOwnerOnly(socket);
+        Files.move(socket, path, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (final IOException e) {
+        server.close();
+        server = null;
+        throw e;
+      }
+      finally {
+        Files.deleteIfExists(dir.resolve("s"));
+        Files.delete(dir);
+      }
+    }
+
+    this.path = path;
+    final Thread thread = new Thread(this::accept, "cli-command-server-accept");
+    thread.setDaemon(true);
+    thread.start();
+    return this;
+  }
+
+  private static Path createOwnerOnlyDirectory(final Path parent) throws IOException {
+    try {
+      return Files.createTempDirectory(parent, ".cli", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+    }
+    catch (final UnsupportedOperationException e) {
+      return Files.createTempDirectory(parent, ".cli");
+    }
+  }
+
+  private static void setOwnerOnly(final Path path) throws IOException {
+    try {
+      Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+  }
+
+  private void accept() {
+    while (!closed) {
+      // A connection is not accepted until fewer than MAX_CONNECTIONS are served
+      connections.acquireUninterruptibly();
+      final SocketChannel channel;
+      try {
+        channel = server.accept();
+      }
+      catch (final ClosedChannelException e) {
+        connections.release();
+        return;
+      }
+      catch (final IOException e) {
+        connections.release();
+        if (!closed && logger.isWarnEnabled()) { logger.warn("Failed to accept connection on " + path, e); }
+        continue;
+      }
+
+      executor.execute(() -> {
+        try (final SocketChannel c = channel) {
+          serve(c);
+        }
+        catch (final IOException e) {
+          if (logger.isDebugEnabled()) { logger.debug("Failed to serve request on " + path, e); }
+        }
+        finally {
+          connections.release();
+        }
+      });
+    }
+  }
+
+  private void serve(final SocketChannel channel) throws IOException {
+    final DataInputStream request = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+    if (token != null) {
+      // The token is of a fixed length, so that nothing is allocated for a client that does not know it
+      final int length = request.readInt();
+      if (length != token.length)
+        throw new IOException("Invalid token");
+
+      final byte[] bytes = new byte[length];
+      request.readFully(bytes);
+      if (!MessageDigest.isEqual(token, bytes))
+        throw new IOException("Invalid token");
+    }
+
+    final int width = request.readInt();
+    final Path cwd;
+    try {
+      cwd = Paths.get(readString(request));
+    }
+    catch (final InvalidPathException e) {
+      throw new IOException("Invalid working directory: " + e.getMessage(), e);
+    }
+
+    if (!cwd.isAbsolute())
+      throw new IOException("Working directory is not absolute: " + cwd);
+
+    final int argc = request.readInt();
+    if (argc < 0 || argc > MAX_ARGS)
+      throw new IOException("Invalid number of args: " + argc);
+
+    final String[] args = new String[argc];
+    for (int i = 0; i < argc; ++i) // [A]
+      args[i] = readString(request);
+
+    final DataOutputStream response = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    final PrintStream out = new PrintStream(new BufferedOutputStream(new FrameOutputStream(response, STDOUT)), false, "UTF-8");
+    final PrintStream err = new PrintStream(new BufferedOutputStream(new FrameOutputStream(response, STDERR)), false, "UTF-8");
+    int exitCode;
+    try {
+      final Options options = spec.parse(args, cwd, new CompiledSpec.Trap(out, err, Math.max(0, width), false));
+      exitCode = options == null ? 1 : handler.run(options, cwd, out, err);
+    }
+    catch (final Exception e) {
+      e.printStackTrace(err);
+      exitCode = 1;
+    }
+
+    out.flush();
+    err.flush();
+    synchronized (response) {
+      response.writeByte(EXIT);
+      response.writeInt(exitCode);
+      response.flush();
+    }
+  }
+
+  /**
+   * Returns the {@link Path} to which this server is bound, or {@code null} if it is not bound.
+   *
+   * @return The {@link Path} to which this server is bound, or {@code null} if it is not bound.
+   */
+  public synchronized Path getPath() {
+    return path;
+  }
+
+  /**
+   * Stops accepting requests, and deletes the path to which this server is bound. Requests in progress are completed.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed)
+      return;
+
+    closed = true;
+    executor.shutdown();
+    if (server != null) {
+      server.close();
+      Files.deleteIfExists(path);
+    }
+  }
+}
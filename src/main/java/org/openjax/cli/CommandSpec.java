@@ -0,0 +1,76 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+
+package org.openjax.cli;
+
+/**
+ * Immutable specification of a {@code <command>} element of a CLI XML specification, which refers to the CLI XML of a
+ * subcommand. The CLI XML of the subcommand is only loaded when the subcommand is selected, as per
+ * {@link CompiledSpec#getCommandSpec(String)}.
+ */
+public final class CommandSpec {
+  private final String name;
+  private final String spec;
+  private final String description;
+
+  /**
+   * Creates a new {@link CommandSpec} with the provided properties.
+   *
+   * @param name The name of the subcommand.
+   * @param spec The URI of the CLI XML of the subcommand, relative to the CLI XML in which it is specified.
+   * @param description The description.
+   * @throws NullPointerException If {@code name} or {@code spec} is null.
+   */
+  public CommandSpec(final String name, final String spec, final String description) {
+    if (name == null)
+      throw new NullPointerException("name == null");
+
+    if (spec == null)
+      throw new NullPointerException("spec == null");
+
+    this.name = name;
+    this.spec = spec;
+    this.description = description;
+  }
+
+  /**
+   * Returns the name of the subcommand.
+   *
+   * @return The name of the subcommand.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the URI of the CLI XML of the subcommand, relative to the CLI XML in which it is specified.
+   *
+   * @return The URI of the CLI XML of the subcommand, relative to the CLI XML in which it is specified.
+   */
+  public String getSpec() {
+    return spec;
+  }
+
+  /**
+   * Returns the description.
+   *
+   * @return The description.
+   */
+  public String getDescription() {
+    return description;
+  }
+}
@@ -0,0 +1,902 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.cli.FixedHelpFormatter;
+import org.apache.commons.cli.HelpFormatter;
+import org.openjax.cli.ParseListener.Phase;
+import org.openjax.cli_1_1.Cli;
+import org.openjax.cli_1_1.Use;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An immutable representation of a CLI XML specification that has been validated and compiled once, and can thereafter be
+ * used to parse any number of {@code String[] args}. Instances of this class are thread-safe.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * private static final CompiledSpec spec = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+ *
+ * public void main(String[] args) {
+ *   Options options = spec.parse(args);
+ *   ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * @see Options#compile(java.net.URL)
+ * @see Options#compile(Cli)
+ */
+public final class CompiledSpec {
+  private static final Logger logger = LoggerFactory.getLogger(CompiledSpec.class);
+  private static final String[] EMPTY_ARGS = {};
+  private static final CommandSpec[] NO_COMMANDS = {};
+
+  private static String formatArgumentName(final String label, final int maxOccurs, final char valueSeparator) {
+    if (maxOccurs == 1)
+      return label;
+
+    final StringBuilder buffer = new StringBuilder(label);
+    buffer.append(1).append(valueSeparator);
+
+    if (maxOccurs == 2)
+      return buffer.append(label).append(2).toString();
+
+    if (maxOccurs == Integer.MAX_VALUE)
+      return buffer.append(label).append(2).append("...").toString();
+
+    return buffer.append("...").append(valueSeparator).append(label).append(maxOccurs).toString();
+  }
+
+  private static OptionSpec toOptionSpec(final Cli.Option option) {
+    final Cli.Option.Name optionName = option.getName();
+    final String longName = optionName.getLong();
+    final String shortName = optionName.getShort();
+    if (longName == null && shortName == null)
+      throw new IllegalArgumentException("both [long] and [short] option names are null in cli spec");
+
+    final Cli.Option.Argument argument = option.getArgument();
+    if (argument == null)
+      return new OptionSpec(longName, shortName, option.getDescription());
+
+    if (option.getDescription() == null)
+      throw new IllegalArgumentException("missing <description> for " + (longName != null ? longName : shortName) + " option");
+
+    final int maxOccurs = argument.getMaxOccurs() == null ? 1 : "unbounded".equals(argument.getMaxOccurs()) ? Integer.MAX_VALUE : Integer.parseInt(argument.getMaxOccurs());
+    final char valueSeparator = argument.getValueSeparator() != null ? argument.getValueSeparator().charAt(0) : '\0';
+    final Pattern pattern = argument.getPattern() != null ? Pattern.compile(argument.getPattern()) : null;
+    return new OptionSpec(longName, shortName, argument.getLabel(), valueSeparator, Use.REQUIRED == argument.getUse(), maxOccurs, pattern, argument.getDefault(), option.getDescription());
+  }
+
+  private static void parseOption(final OptionSpec option, final org.apache.commons.cli.Options apacheOptions) {
+    final org.apache.commons.cli.Option.Builder builder = org.apache.commons.cli.Option.builder(option.getShortName()).longOpt(option.getLongName());
+    if (option.hasArgument()) {
+      final boolean isRequired = option.isRequired();
+      final int maxOccurs = option.getMaxOccurs();
+      final char valueSeparator = option.getValueSeparator() != '\0' ? option.getValueSeparator() : ' ';
+      final StringBuilder description = new StringBuilder(option.getDescription());
+      if (option.getDefault() != null)
+        description.append("\nDefault: ").append(option.getDefault());
+
+      builder
+        .required(isRequired)
+        .optionalArg(!isRequired)
+        .numberOfArgs(maxOccurs == Integer.MAX_VALUE ? org.apache.commons.cli.Option.UNLIMITED_VALUES : maxOccurs)
+        .argName(formatArgumentName(option.getLabel(), maxOccurs, valueSeparator))
+        .valueSeparator(valueSeparator)
+        .desc(description.toString());
+    }
+
+    apacheOptions.addOption(builder.build());
+  }
+
+  private static int parseAppendErrors(final OptionSpec option, final Option opt, final ArrayList<ParseError> errors) {
+    final Pattern pattern = option.getPattern();
+    final ArgumentType type = option.getType();
+    if (pattern == null && type == null || opt == null)
+      return 0;
+
+    final Matcher matcher = pattern != null ? pattern.matcher("") : null;
+    final Validator validator = type != null ? type.getValidator() : null;
+    final int count = opt.getValueCount();
+    for (int i = 0; i < count; ++i) { // [A]
+      final String value = opt.getValue(i);
+      if (matcher != null && !matcher.reset(value).matches())
+        errors.add(new ParseError(ParseError.Kind.INVALID_VALUE, option.getDisplayName(), value, -1, "Incorrect argument form: " + option.getDisplayName() + ' ' + value + "\n  Required: " + pattern.pattern()));
+      else if (validator != null && !validator.validate(value))
+        errors.add(new ParseError(ParseError.Kind.INVALID_VALUE, option.getDisplayName(), value, -1, "Incorrect argument form: " + option.getDisplayName() + ' ' + value + "\n  Required: " + validator.getRequirement()));
+    }
+
+    return count;
+  }
+
+  private static boolean parseOptionMap(final OptionSpec option, final Option[] values, final int handle) {
+    final String defaultValue = option.getDefault();
+    if (defaultValue == null || values[handle] != null)
+      return false;
+
+    final String optionName = option.getName();
+    values[handle] = option.getValueSeparator() != '\0' ? new Option(optionName, option.getValueSeparator(), defaultValue) : new Option(optionName, defaultValue);
+    return true;
+  }
+
+  /** The maximum number of unnamed arguments of an {@code "unbounded"} {@code <arguments>} element. */
+  static final short UNBOUNDED = -1;
+
+  private final Cli binding;
+  private final OptionSpec[] options;
+  private final String argumentsLabel;
+  private final short argumentsMinOccurs;
+  private final short argumentsMaxOccurs;
+  private final ConcurrentHashMap<Integer,String> helps = new ConcurrentHashMap<>(2);
+  private final boolean implicitHelp;
+  private volatile org.apache.commons.cli.Options apacheOptions;
+  private final Tokenizer tokenizer;
+  private final HashMap<String,Integer> nameToHandle;
+  private final CommandSpec[] commands;
+  private final URL base;
+  private final AtomicReferenceArray<CompiledSpec> commandSpecs;
+
+  /**
+   * Creates a new {@link CompiledSpec} from the provided {@link Cli} JAXB binding.
+   *
+   * @param binding The {@link Cli} JAXB binding representing the CLI XML.
+   * @throws NullPointerException If {@code binding} is null.
+   * @throws IllegalArgumentException If an option has neither a long nor a short name, an option with an argument has no
+   *           description, or the {@code <arguments>} element has a {@code minOccurs} greater than its {@code maxOccurs}.
+   */
+  CompiledSpec(final Cli binding) {
+    this(binding, toOptionSpecs(binding.getOption()), binding.getArguments(), null);
+  }
+
+  private CompiledSpec(final Cli binding, final OptionSpec[] options, final Cli.Arguments arguments, final String help) {
+    this(binding, options, arguments == null ? null : arguments.getLabel(), arguments == null ? 0 : arguments.getMinOccurs(), arguments == null ? 0 : "unbounded".equals(arguments.getMaxOccurs()) ? UNBOUNDED : Short.parseShort(arguments.getMaxOccurs()), null, null, help);
+  }
+
+  /**
+   * Creates a new {@link CompiledSpec} from the provided specifications of options and unnamed arguments. This constructor
+   * is intended to be used by code that is generated at build time, such as by the {@link CliSpecProcessor}.
+   *
+   * @param options The {@link OptionSpec}s.
+   * @param argumentsLabel The label of the unnamed arguments, or {@code null} if unnamed arguments are not accepted.
+   * @param argumentsMinOccurs The minimum number of unnamed arguments.
+   * @param argumentsMaxOccurs The maximum number of unnamed arguments, or {@code -1} for {@code "unbounded"}.
+   * @param help The precomputed help and usage text of width {@link HelpFormatter#DEFAULT_WIDTH}, or {@code null} for it to
+   *          be rendered on demand.
+   * @throws NullPointerException If {@code options} or a member thereof is null.
+   * @throws IllegalArgumentException If {@code argumentsMaxOccurs} is less than {@code argumentsMinOccurs}, or if more than
+   *           one option has the same long or short name.
+   */
+  public CompiledSpec(final OptionSpec[] options, final String argumentsLabel, final short argumentsMinOccurs, final short argumentsMaxOccurs, final String help) {
+    this(null, options.clone(), argumentsLabel, argumentsMinOccurs, argumentsMaxOccurs, null, null, help);
+  }
+
+  /**
+   * Creates a new {@link CompiledSpec} from the provided specifications of options and subcommands. The CLI XML of a
+   * subcommand is loaded and compiled when the subcommand is first selected. This constructor is intended to be used by
+   * code that is generated at build time, such as by the {@link CliSpecProcessor}.
+   *
+   * @param options The {@link OptionSpec}s.
+   * @param commands The {@link CommandSpec}s of the subcommands.
+   * @param base The {@link URL} against which the {@link CommandSpec#getSpec()} URIs are resolved, or {@code null} if they
+   *          are absolute.
+   * @param help The precomputed help and usage text of width {@link HelpFormatter#DEFAULT_WIDTH}, or {@code null} for it to
+   *          be rendered on demand.
+   * @throws NullPointerException If {@code options}, {@code commands}, or a member thereof is null.
+   * @throws IllegalArgumentException If more than one option has the same long or short name, or more than one subcommand
+   *           has the same name.
+   */
+  public CompiledSpec(final OptionSpec[] options, final CommandSpec[] commands, final URL base, final String help) {
+    this(null, options.clone(), null, (short)0, (short)0, commands.clone(), base, help);
+  }
+
+  private CompiledSpec(final Cli binding, final OptionSpec[] options, final String argumentsLabel, final short argumentsMinOccurs, final short argumentsMaxOccurs, final CommandSpec[] commands, final URL base, final String help) {
+    if (argumentsMaxOccurs != UNBOUNDED && argumentsMaxOccurs < argumentsMinOccurs)
+      throw new IllegalArgumentException("minOccurs > maxOccurs on <arguments> element");
+
+    this.binding = binding;
+    this.options = options;
+    this.argumentsLabel = argumentsLabel;
+    this.argumentsMinOccurs = argumentsMinOccurs;
+    this.argumentsMaxOccurs = argumentsMaxOccurs;
+    if (help != null)
+      helps.put(HelpFormatter.DEFAULT_WIDTH, help);
+
+    final long start = ParseListeners.start();
+    // Long and short names are distinct, as per the commons-cli Options that are built for help
+    final HashSet<String> names = new HashSet<>(options.length * 8 / 3 + 1);
+    for (final OptionSpec option : options) // [A]
+      if (option.getLongName() != null && !names.add("--" + option.getLongName()) || option.getShortName() != null && !names.add("-" + option.getShortName()))
+        throw new IllegalArgumentException("Duplicate option name: " + option.getDisplayName());
+
+    this.implicitHelp = !names.contains("--help");
+
+    this.commands = commands != null ? commands : NO_COMMANDS;
+    this.base = base;
+    this.commandSpecs = new AtomicReferenceArray<>(this.commands.length);
+    final String[] commandNames = new String[this.commands.length];
+    names.clear();
+    for (int i = 0; i < commandNames.length; ++i) { // [A]
+      commandNames[i] = this.commands[i].getName();
+      if (!names.add(commandNames[i]))
+        throw new IllegalArgumentException("Duplicate command name: " + commandNames[i]);
+    }
+
+    this.tokenizer = new Tokenizer(options, implicitHelp, commandNames);
+
+    this.nameToHandle = new HashMap<>(options.length * 4 / 3 + 1);
+    for (int i = 0; i < options.length; ++i) // [A]
+      nameToHandle.putIfAbsent(options[i].getName(), i);
+
+    ParseListeners.end(Phase.BUILD, start, options.length);
+  }
+
+  private static OptionSpec[] toOptionSpecs(final List<Cli.Option> options) {
+    final int i$;
+    if (options == null || (i$ = options.size()) == 0)
+      return new OptionSpec[0];
+
+    final OptionSpec[] optionSpecs = new OptionSpec[i$];
+    int i = 0;
+    for (final Cli.Option option : options) // [L]
+      optionSpecs[i++] = toOptionSpec(option);
+
+    return optionSpecs;
+  }
+
+  /**
+   * Returns the {@link Cli} JAXB binding from which this {@link CompiledSpec} was compiled, or {@code null} if this
+   * {@link CompiledSpec} was not created from a JAXB binding.
+   *
+   * @return The {@link Cli} JAXB binding from which this {@link CompiledSpec} was compiled, or {@code null} if this
+   *         {@link CompiledSpec} was not created from a JAXB binding.
+   */
+  public Cli getBinding() {
+    return binding;
+  }
+
+  /**
+   * Returns the number of options in this spec, excluding the implicit {@code --help} option.
+   *
+   * @return The number of options in this spec, excluding the implicit {@code --help} option.
+   */
+  public int getOptionCount() {
+    return options.length;
+  }
+
+  /**
+   * Returns the {@link OptionSpec} at the provided index.
+   *
+   * @param index The index of the {@link OptionSpec}, in the order in which it was specified.
+   * @return The {@link OptionSpec} at the provided index.
+   * @throws ArrayIndexOutOfBoundsException If {@code index} is negative, or not less than {@link #getOptionCount()}.
+   */
+  public OptionSpec getOptionSpec(final int index) {
+    return options[index];
+  }
+
+  /**
+   * Returns the handle of the option with the provided name, which is the index of its {@link OptionSpec}. A handle is
+   * stable for the life of this spec, and is intended to be resolved once, and thereafter used with the handle-based
+   * accessors of {@link Options}, such as {@link Options#getOption(int)}, which are array lookups that do not hash the
+   * name.
+   *
+   * @param name The name of the option, which is its long name, or its short name if it does not have a long name.
+   * @return The handle of the option with the provided name.
+   * @throws IllegalArgumentException If this spec does not have an option with the provided name.
+   */
+  public int getHandle(final String name) {
+    final Integer handle = nameToHandle.get(name);
+    if (handle == null)
+      throw new IllegalArgumentException("Unknown option: " + name);
+
+    return handle;
+  }
+
+  /**
+   * Returns the label of the unnamed arguments, as specified by the {@code <arguments>} element, or {@code null} if unnamed
+   * arguments are not accepted.
+   *
+   * @return The label of the unnamed arguments, as specified by the {@code <arguments>} element, or {@code null} if unnamed
+   *         arguments are not accepted.
+   */
+  public String getArgumentsLabel() {
+    return argumentsLabel;
+  }
+
+  /**
+   * Returns the minimum number of unnamed arguments, as specified by the {@code <arguments>} element.
+   *
+   * @return The minimum number of unnamed arguments, as specified by the {@code <arguments>} element.
+   */
+  public short getArgumentsMinOccurs() {
+    return argumentsMinOccurs;
+  }
+
+  /**
+   * Returns the maximum number of unnamed arguments, as specified by the {@code <arguments>} element, or
+   * {@code -1} if the maximum is {@code "unbounded"}, in which case the number of unnamed arguments is not limited.
+   *
+   * @return The maximum number of unnamed arguments, as specified by the {@code <arguments>} element, or
+   *         {@code -1} if the maximum is {@code "unbounded"}.
+   */
+  public short getArgumentsMaxOccurs() {
+    return argumentsMaxOccurs;
+  }
+
+  /**
+   * Returns the number of subcommands, as specified by the {@code <command>} elements.
+   *
+   * @return The number of subcommands, as specified by the {@code <command>} elements.
+   */
+  public int getCommandCount() {
+    return commands.length;
+  }
+
+  /**
+   * Returns the {@link CommandSpec} at the provided index.
+   *
+   * @param index The index of the {@link CommandSpec}, in the order in which it was specified.
+   * @return The {@link CommandSpec} at the provided index.
+   * @throws ArrayIndexOutOfBoundsException If {@code index} is negative, or not less than {@link #getCommandCount()}.
+   */
+  public CommandSpec getCommand(final int index) {
+    return commands[index];
+  }
+
+  /**
+   * Returns the {@link URL} against which the {@link CommandSpec#getSpec()} URIs of the subcommands are resolved, or
+   * {@code null} if they are absolute.
+   *
+   * @return The {@link URL} against which the {@link CommandSpec#getSpec()} URIs of the subcommands are resolved, or
+   *         {@code null} if they are absolute.
+   */
+  public URL getBase() {
+    return base;
+  }
+
+  private CompiledSpec getCommandSpec(final int index) throws IOException {
+    CompiledSpec spec = commandSpecs.get(index);
+    if (spec == null) {
+      final String uri = commands[index].getSpec();
+      final URL url;
+      try {
+        url = base != null ? new URL(base, uri) : new URL(uri);
+      }
+      catch (final MalformedURLException e) {
+        throw new IOException("Unable to resolve spec of command " + commands[index].getName() + ": " + uri, e);
+      }
+
+      // Concurrent first selections may each compile the spec, but all then share the first to be set
+      spec = Options.compile(url);
+      if (!commandSpecs.compareAndSet(index, null, spec))
+        spec = commandSpecs.get(index);
+    }
+
+    return spec;
+  }
+
+  /**
+   * Returns the {@link CompiledSpec} of the subcommand with the provided name, which is loaded and compiled when it is first
+   * requested, and is thereafter cached.
+   *
+   * @param name The name of the subcommand.
+   * @return The {@link CompiledSpec} of the subcommand with the provided name.
+   * @throws IOException If an I/O error has occurred loading the CLI XML of the subcommand.
+   * @throws IllegalArgumentException If this spec does not have a subcommand with the provided name, or if the CLI XML of
+   *           the subcommand is not valid.
+   */
+  public CompiledSpec getCommandSpec(final String name) throws IOException {
+    for (int i = 0; i < commands.length; ++i) // [A]
+      if (commands[i].getName().equals(name))
+        return getCommandSpec(i);
+
+    throw new IllegalArgumentException("Unknown command: " + name);
+  }
+
+  private static int terminalWidth() {
+    String width = System.getProperty("org.openjax.cli.width");
+    if (width == null)
+      width = System.getenv("COLUMNS");
+
+    if (width != null) {
+      try {
+        final int value = Integer.parseInt(width.trim());
+        if (value > 0)
+          return value;
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+
+    return HelpFormatter.DEFAULT_WIDTH;
+  }
+
+  /**
+   * Returns the help and usage of this spec of the provided width, which is rendered when it is first requested for the
+   * width, and is thereafter cached.
+   *
+   * @param width The number of characters to be displayed on each line.
+   * @return The help and usage of this spec of the provided width.
+   * @throws IllegalArgumentException If {@code width} is not positive.
+   */
+  public String getHelp(final int width) {
+    if (width <= 0)
+      throw new IllegalArgumentException("width (" + width + ") must be positive");
+
+    final String help = helps.get(width);
+    return help != null ? help : helps.computeIfAbsent(width, this::renderHelp);
+  }
+
+  /**
+   * Returns the commons-cli {@link org.apache.commons.cli.Options} of this spec, which are only used to render help, and
+   * are therefore built once on first use.
+   */
+  private org.apache.commons.cli.Options getApacheOptions() {
+    org.apache.commons.cli.Options apacheOptions = this.apacheOptions;
+    if (apacheOptions == null) {
+      apacheOptions = new org.apache.commons.cli.Options();
+      for (final OptionSpec option : options) // [A]
+        parseOption(option, apacheOptions);
+
+      if (implicitHelp)
+        apacheOptions.addOption(null, "help", false, "Print help and usage.");
+
+      this.apacheOptions = apacheOptions;
+    }
+
+    return apacheOptions;
+  }
+
+  private String renderHelp(final int width) {
+    final long start = ParseListeners.start();
+    final org.apache.commons.cli.Options apacheOptions = getApacheOptions();
+    final StringBuilder args = new StringBuilder(apacheOptions.getOptions().size() > 0 ? " [options]" : "");
+    if (argumentsLabel != null) {
+      for (short i = 1; i <= argumentsMinOccurs; ++i) // [N]
+        args.append(" <").append(argumentsLabel).append(i != 1 ? i : "").append('>');
+
+      final boolean maxUnbounded = argumentsMaxOccurs == UNBOUNDED;
+      final int argsMax = maxUnbounded ? 2 + argumentsMinOccurs : argumentsMaxOccurs;
+      for (int i = argumentsMinOccurs + 1; i <= argsMax; ++i) // [N]
+        args.append(" [").append(argumentsLabel).append(i != 1 ? i : "").append(']');
+
+      if (maxUnbounded)
+        args.append(" [...]");
+    }
+
+    String footer = null;
+    if (commands.length > 0) {
+      args.append(" <command> [...]");
+      int commandWidth = 0;
+      for (final CommandSpec command : commands) // [A]
+        commandWidth = Math.max(commandWidth, command.getName().length());
+
+      final StringBuilder builder = new StringBuilder("\nCommands:");
+      for (final CommandSpec command : commands) { // [A]
+        builder.append('\n').append(' ').append(command.getName());
+        if (command.getDescription() != null) {
+          for (int i = command.getName().length(); i < commandWidth + 4; ++i) // [N]
+            builder.append(' ');
+
+          builder.append(command.getDescription());
+        }
+      }
+
+      footer = builder.toString();
+    }
+
+    final String help = new FixedHelpFormatter().render(width, " ", args.substring(1), apacheOptions, HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD, footer);
+    ParseListeners.end(Phase.HELP, start, width);
+    return help;
+  }
+
+  /**
+   * Prints the help and usage of this spec to the provided {@link PrintStream}, of the width of the terminal as per the
+   * {@code org.openjax.cli.width} system property or the {@code COLUMNS} environment variable, or otherwise of width
+   * {@link HelpFormatter#DEFAULT_WIDTH}.
+   *
+   * @param ps The {@link PrintStream} to which the help and usage is to be printed.
+   * @throws NullPointerException If {@code ps} is null.
+   */
+  public void printHelp(final PrintStream ps) {
+    printHelp(ps, terminalWidth());
+  }
+
+  /**
+   * Prints the help and usage of this spec of the provided width to the provided {@link PrintStream}.
+   *
+   * @param ps The {@link PrintStream} to which the help and usage is to be printed.
+   * @param width The number of characters to be displayed on each line.
+   * @throws NullPointerException If {@code ps} is null.
+   * @throws IllegalArgumentException If {@code width} is not positive.
+   */
+  public void printHelp(final PrintStream ps, final int width) {
+    final String help = getHelp(width);
+    ps.print(help);
+    ps.flush();
+  }
+
+  /**
+   * The reporting of errors of a parse as with {@code main(String[])}, where errors are printed with help, after which the
+   * JVM exits. If {@link #exit} is {@code false}, errors are instead printed to the provided streams, after which
+   * {@link Trapped} is thrown, such as for a request to a {@link CommandServer}.
+   */
+  static final class Trap {
+    static final Trap EXIT = new Trap(null, null, 0, true);
+
+    private final PrintStream out;
+    private final PrintStream err;
+    private final int width;
+    private final boolean exit;
+
+    /**
+     * Creates a new {@link Trap} with the provided properties.
+     *
+     * @param out The stream of help, or {@code null} for {@link System#out}.
+     * @param err The stream of errors, or {@code null} for {@link System#err}.
+     * @param width The width of help, or {@code 0} for the width of the terminal.
+     * @param exit Whether the JVM exits after an error is printed.
+     */
+    Trap(final PrintStream out, final PrintStream err, final int width, final boolean exit) {
+      this.out = out;
+      this.err = err;
+      this.width = width;
+      this.exit = exit;
+    }
+
+    PrintStream out() {
+      return out != null ? out : System.out;
+    }
+
+    PrintStream err() {
+      return err != null ? err : System.err;
+    }
+  }
+
+  /** Thrown after an error of a parse is printed as per a {@link Trap} that does not exit. */
+  static final class Trapped extends RuntimeException {
+    private static final long serialVersionUID = -2836403424918153526L;
+
+    private Trapped() {
+      super(null, null, false, false);
+    }
+  }
+
+  private static final Trapped trapped = new Trapped();
+
+  /** Thrown if the CLI XML of the subcommand selected by a parse cannot be loaded. */
+  static final class CommandLoadException extends IllegalStateException {
+    private static final long serialVersionUID = 4216637291806275339L;
+
+    private CommandLoadException(final String message, final Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  private void trapPrintHelp(final Trap trap, final String message, final PrintStream ps) {
+    if (message != null)
+      ps.println(message);
+
+    printHelp(ps, trap.width > 0 ? trap.width : terminalWidth());
+    // Only Trap.EXIT of parse(String[]) exits, and the CommandServer traps without exiting
+    if (trap.exit)
+      System.exit(1);
+
+    ps.flush();
+    throw trapped;
+  }
+
+  private static void trapError(final Trap trap, final String error) {
+    if (!trap.exit)
+      trap.err().println(error);
+    else if (logger.isErrorEnabled())
+      logger.error(error);
+  }
+
+  /**
+   * Parses {@code args} as per this spec. The name of the class with {@code main(String[])}, which is only used by
+   * {@link Options#toString()}, is resolved lazily when it is first needed.
+   *
+   * @param args The {@code main(String[] args)}.
+   * @return The parsed {@link Options}.
+   * @throws IllegalStateException If the CLI XML of the selected subcommand cannot be loaded.
+   */
+  public Options parse(final String[] args) {
+    return parse((String)null, args);
+  }
+
+  /**
+   * Parses {@code args} as per this spec, for the provided class with {@code main(String[])}.
+   *
+   * @param mainClass The class with {@code main(String[])}.
+   * @param args The {@code main(String[] args)}.
+   * @return The parsed {@link Options}.
+   * @throws NullPointerException If {@code mainClass} is null.
+   * @throws IllegalStateException If the CLI XML of the selected subcommand cannot be loaded.
+   */
+  public Options parse(final Class<?> mainClass, final String[] args) {
+    return parse(mainClass.getName(), args);
+  }
+
+  private Options parse(final String mainClassName, final String[] args) {
+    return parse(mainClassName, args, null, null, Trap.EXIT, null);
+  }
+
+  /**
+   * Parses {@code args} as per this spec, and prints errors with help as per the provided {@link Trap}, which does not
+   * exit.
+   *
+   * @param args The {@code main(String[] args)}.
+   * @param base The directory against which the paths of argument files are resolved, or {@code null} for the working
+   *          directory of this JVM.
+   * @param trap The {@link Trap}.
+   * @return The parsed {@link Options}, or {@code null} if an error was printed.
+   * @throws IllegalStateException If the CLI XML of the selected subcommand cannot be loaded.
+   */
+  Options parse(final String[] args, final Path base, final Trap trap) {
+    try {
+      return parse(null, args, base, null, trap, null);
+    }
+    catch (final Trapped e) {
+      return null;
+    }
+  }
+
+  /**
+   * Parses {@code args} as per this spec, and returns the parsed {@link Options} or the errors that were encountered as a
+   * {@link ParseResult}, instead of printing help and exiting. All errors are collected in a single pass, including
+   * unrecognized options, missing required options, invalid values and an invalid number of arguments, and {@code args}
+   * are not modified.
+   *
+   * @param args The {@code main(String[] args)}.
+   * @return The {@link ParseResult} of {@code args}.
+   */
+  public ParseResult tryParse(final String[] args) {
+    final ArrayList<ParseError> errors = new ArrayList<>(0);
+    try {
+      return new ParseResult(args, parse(null, args, null, null, null, errors), errors);
+    }
+    catch (final CommandLoadException e) {
+      errors.add(new ParseError(ParseError.Kind.INVALID_COMMAND, null, null, -1, e.getMessage()));
+      return new ParseResult(args, null, errors);
+    }
+  }
+
+  /**
+   * Returns a parallel {@link Stream} of the {@link ParseResult}s of each {@code String[] args} in the provided
+   * {@link Stream}, in its encounter order. The {@code args} are parsed with {@link #tryParse(String[])} when the returned
+   * {@link Stream} is consumed, in the {@link ForkJoinPool} in which its terminal operation is invoked, which is the
+   * {@linkplain ForkJoinPool#commonPool() common pool} unless the terminal operation is invoked from within a task of
+   * another {@link ForkJoinPool}.
+   *
+   * @param argvs The {@link Stream} of {@code String[] args}.
+   * @return A parallel {@link Stream} of the {@link ParseResult}s of each {@code String[] args} in {@code argvs}.
+   * @throws NullPointerException If {@code argvs} is null.
+   */
+  public Stream<ParseResult> parseAll(final Stream<String[]> argvs) {
+    return argvs.parallel().map(this::tryParse);
+  }
+
+  /**
+   * Parses each {@code String[] args} in the provided {@link Iterable} in parallel with {@link #tryParse(String[])}, and
+   * returns their {@link ParseResult}s in the iteration order of {@code argvs}.
+   *
+   * @param argvs The {@link Iterable} of {@code String[] args}.
+   * @return The {@link ParseResult}s of each {@code String[] args} in {@code argvs}.
+   * @throws NullPointerException If {@code argvs} is null.
+   * @see #parseAll(Stream)
+   */
+  public List<ParseResult> parseAll(final Iterable<String[]> argvs) {
+    return parseAll(StreamSupport.stream(argvs.spliterator(), true)).collect(Collectors.toList());
+  }
+
+  /**
+   * Parses {@code args} as per this spec, layered over the provided overrides, which are values of options by name that
+   * apply to the options that are not specified in {@code args}, as per {@link LiveOptions}. Errors are reported by an
+   * {@link IllegalArgumentException} instead of printing help and exiting.
+   *
+   * @param args The {@code main(String[] args)}.
+   * @param overrides The values of options by name.
+   * @return The parsed {@link Options}.
+   * @throws IllegalArgumentException If {@code args} or {@code overrides} are not valid as per this spec.
+   * @throws IllegalStateException If the CLI XML of the selected subcommand cannot be loaded.
+   */
+  Options parse(final String[] args, final Map<String,String> overrides) {
+    return parse(null, args, null, overrides, null, null);
+  }
+
+  private void override(final Tokenizer.Result result, final Map<String,String> overrides) {
+    for (final Map.Entry<String,String> entry : overrides.entrySet()) { // [S]
+      final Integer handle = nameToHandle.get(entry.getKey());
+      if (handle == null)
+        throw new IllegalArgumentException("Unrecognized option in overrides: " + entry.getKey());
+
+      if (result.values.isSpecified(handle))
+        continue;
+
+      final OptionSpec option = options[handle];
+      if (option.hasArgument()) {
+        Tokenizer.addValues(result, handle, option, entry.getValue());
+        continue;
+      }
+
+      final Boolean value = ArgumentType.parseBoolean(entry.getValue());
+      if (value == null)
+        throw new IllegalArgumentException("Invalid value of option " + option.getDisplayName() + " in overrides: " + entry.getValue());
+
+      if (value)
+        Tokenizer.addValues(result, handle, option, null);
+    }
+  }
+
+  /**
+   * Parses {@code args} as per this spec, with the paths of argument files resolved against {@code base}, if not null,
+   * layered over {@code overrides}, if not null. If {@code errors} is not null, all errors are added to it in a single
+   * pass, and {@code null} is returned if any were encountered. Otherwise, errors are reported as per {@code trap}, or are
+   * thrown as an {@link IllegalArgumentException} if {@code trap} is null.
+   */
+  private Options parse(final String mainClassName, final String[] args, final Path base, final Map<String,String> overrides, final Trap trap, final ArrayList<ParseError> errors) {
+    final int errorCount = errors != null ? errors.size() : 0;
+    long start = ParseListeners.start();
+    final Tokenizer.Result result = tokenizer.tokenize(args != null ? args : EMPTY_ARGS, errors != null, base);
+    ParseListeners.end(Phase.TOKENIZE, start, args != null ? args.length : 0);
+    if (errors != null) {
+      errors.addAll(result.errors);
+    }
+    else if (result.error != null) {
+      if (trap == null)
+        throw new IllegalArgumentException(result.error);
+
+      trapError(trap, result.error);
+      trapPrintHelp(trap, null, trap.err());
+    }
+
+    if (result.help) {
+      if (errors != null)
+        errors.add(new ParseError(ParseError.Kind.HELP, null, null, -1, "Unexpected option: --help"));
+      else if (trap == null)
+        throw new IllegalArgumentException("Unexpected option: --help");
+      else
+        trapPrintHelp(trap, null, trap.out());
+    }
+
+    // An unknown command is not also reported as a missing command
+    if (commands.length > 0 && result.command == -1 && (errors == null || result.errors.isEmpty() || result.errors.get(result.errors.size() - 1).getKind() != ParseError.Kind.INVALID_COMMAND)) {
+      if (errors != null)
+        errors.add(new ParseError(ParseError.Kind.INVALID_COMMAND, null, null, -1, "Missing command"));
+      else if (trap == null)
+        throw new IllegalArgumentException("Missing command");
+      else {
+        trapError(trap, "Missing command");
+        trapPrintHelp(trap, null, trap.err());
+      }
+    }
+
+    if (argumentsMaxOccurs != UNBOUNDED && argumentsMaxOccurs < result.arguments.size() || result.arguments.size() < argumentsMinOccurs) {
+      if (errors != null)
+        errors.add(new ParseError(ParseError.Kind.ARGUMENT_COUNT, null, null, -1, "Invalid number of arguments: " + result.arguments.size()));
+      else if (trap == null)
+        throw new IllegalArgumentException("Invalid number of arguments: " + result.arguments.size());
+      else
+        trapPrintHelp(trap, null, trap.err());
+    }
+
+    if (overrides != null)
+      override(result, overrides);
+
+    final Option[] values = new Option[options.length];
+    ArrayList<ParseError> missing = errors;
+    for (int i = 0; i < options.length; ++i) { // [A]
+      final OptionSpec option = options[i];
+      if (result.values.isSpecified(i)) {
+        final String optionName = option.getName();
+        final char valueSeparator = !option.hasArgument() ? '\0' : option.getValueSeparator() != '\0' ? option.getValueSeparator() : ' ';
+        values[i] = result.values.count(i) > 0 ? new Option(optionName, valueSeparator, result.values, i) : new Option(optionName, valueSeparator, "true");
+      }
+      else if (option.isRequired()) {
+        // See if some arguments are missing
+        if (missing == null)
+          missing = new ArrayList<>(2);
+
+        missing.add(new ParseError(ParseError.Kind.MISSING_OPTION, option.getDisplayName(), null, -1, "Missing argument: " + option.getDisplayName()));
+      }
+    }
+
+    if (errors == null && missing != null) {
+      if (trap == null)
+        throw new IllegalArgumentException(ParseError.toMessage(missing));
+
+      trapPrintHelp(trap, ParseError.toMessage(missing), trap.out());
+    }
+
+    // Include default values for options that are not specified
+    // Check pattern for specified and default options
+    if (options.length > 0) {
+      final ArrayList<ParseError> invalid = errors != null ? errors : new ArrayList<>(0);
+      start = ParseListeners.start();
+      int count = 0;
+      for (int i = 0; i < options.length; ++i) // [A]
+        if (parseOptionMap(options[i], values, i))
+          ++count;
+
+      ParseListeners.end(Phase.DEFAULTS, start, count);
+
+      start = ParseListeners.start();
+      count = 0;
+      for (int i = 0; i < options.length; ++i) // [A]
+        count += parseAppendErrors(options[i], values[i], invalid);
+
+      ParseListeners.end(Phase.VALIDATE, start, count);
+
+      if (errors == null && invalid.size() > 0) {
+        if (trap == null)
+          throw new IllegalArgumentException(ParseError.toMessage(invalid));
+
+        trapPrintHelp(trap, ParseError.toMessage(invalid), trap.out());
+      }
+    }
+
+    if (result.command == -1)
+      return errors != null && errors.size() > errorCount ? null : new Options(mainClassName, args, values, nameToHandle, result.arguments);
+
+    final CommandSpec command = commands[result.command];
+    final CompiledSpec commandSpec;
+    try {
+      commandSpec = getCommandSpec(result.command);
+    }
+    catch (final IOException | IllegalArgumentException | IllegalStateException e) {
+      throw new CommandLoadException("Unable to load spec of command " + command.getName() + ": " + e.getMessage(), e);
+    }
+
+    final int commandErrorCount = errors != null ? errors.size() : 0;
+    final Options commandOptions = commandSpec.parse(mainClassName, Arrays.copyOfRange(args, result.commandEnd, args.length), base, null, trap, errors);
+    if (errors != null) {
+      // Errors of the subcommand refer to the indexes of its args in the args of this command
+      for (int i = commandErrorCount, i$ = errors.size(); i < i$; ++i) // [RA]
+        errors.set(i, errors.get(i).offset(result.commandEnd));
+
+      if (errors.size() > errorCount)
+        return null;
+    }
+
+    return new Options(mainClassName, args, values, nameToHandle, result.arguments, command.getName(), commandOptions);
+  }
+}
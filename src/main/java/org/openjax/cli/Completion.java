@@ -0,0 +1,450 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Generator of shell completion scripts for {@code bash}, {@code zsh} and {@code fish} from a {@link CompiledSpec}, which is
+ * intended to be run at build time. The names of the options and subcommands of the spec, and of the subcommands thereof,
+ * are compiled into the generated script as static word lists and {@code case} branches, so that completion does not
+ * start a JVM. Values of options with an {@code enum} or {@code boolean} type are completed from the permitted values, and
+ * values of other options are completed as file names.
+ *
+ * <pre>
+ * java -cp cli.jar org.openjax.cli.Completion bash myapp src/main/resources/cli.xml &gt; myapp.bash
+ * </pre>
+ */
+public final class Completion {
+  /** The shells for which completion scripts can be generated. */
+  public enum Shell {
+    BASH,
+    ZSH,
+    FISH
+  }
+
+  /** The options and subcommands of a spec, or of a subcommand thereof. */
+  private static final class Scope {
+    private final String key;
+    private final ArrayList<String> names = new ArrayList<>();
+    private final ArrayList<String> descriptions = new ArrayList<>();
+    private final ArrayList<String> valueNames = new ArrayList<>();
+    private final ArrayList<String[]> values = new ArrayList<>();
+    private final ArrayList<String> commands = new ArrayList<>();
+    private final ArrayList<String> commandDescriptions = new ArrayList<>();
+
+    private Scope(final String key, final CompiledSpec spec) {
+      this.key = key;
+      boolean implicitHelp = true;
+      for (int i = 0, i$ = spec.getOptionCount(); i < i$; ++i) { // [N]
+        final OptionSpec option = spec.getOptionSpec(i);
+        if ("help".equals(option.getLongName()))
+          implicitHelp = false;
+
+        final String description = normalize(option.getDescription());
+        final String[] optionValues = option.hasArgument() ? values(option.getType()) : null;
+        if (option.getLongName() != null)
+          add("--" + option.getLongName(), description, option.hasArgument(), optionValues);
+
+        if (option.getShortName() != null)
+          add("-" + option.getShortName(), description, option.hasArgument(), optionValues);
+      }
+
+      if (implicitHelp)
+        add("--help", "Print help and usage.", false, null);
+
+      for (int i = 0, i$ = spec.getCommandCount(); i < i$; ++i) { // [N]
+        final CommandSpec command = spec.getCommand(i);
+        commands.add(command.getName());
+        commandDescriptions.add(normalize(command.getDescription()));
+      }
+    }
+
+    private void add(final String name, final String description, final boolean hasArgument, final String[] optionValues) {
+      names.add(name);
+      descriptions.add(description);
+      if (hasArgument) {
+        valueNames.add(name);
+        values.add(optionValues);
+      }
+    }
+
+    /** Returns the {@code case} pattern of the option or subcommand with the provided name in this scope. */
+    private String pattern(final String name) {
+      return quote(key + ":" + name);
+    }
+  }
+
+  private static String[] values(final ArgumentType type) {
+    if (type == null)
+      return null;
+
+    if ("boolean".equals(type.getName()))
+      return new String[] {"true", "false"};
+
+    return type.getValues();
+  }
+
+  private static String normalize(final String description) {
+    return description == null ? "" : description.trim().replaceAll("\\s+", " ");
+  }
+
+  /** Returns the provided string as a single-quoted word of {@code bash} or {@code zsh}. */
+  private static String quote(final String string) {
+    return "'" + string.replace("'", "'\\''") + "'";
+  }
+
+  /** Returns the provided string as a single-quoted word of {@code fish}. */
+  private static String fishQuote(final String string) {
+    return "'" + string.replace("\\", "\\\\").replace("'", "\\'") + "'";
+  }
+
+  private static String functionName(final String command) {
+    final StringBuilder builder = new StringBuilder("_");
+    for (int i = 0, i$ = command.length(); i < i$; ++i) { // [N]
+      final char ch = command.charAt(i);
+      builder.append(ch < 128 && Character.isLetterOrDigit(ch) ? ch : '_');
+    }
+
+    return builder.append("_complete").toString();
+  }
+
+  private static void collect(final String key, final CompiledSpec spec, final ArrayList<Scope> scopes) throws IOException {
+    final Scope scope = new Scope(key, spec);
+    scopes.add(scope);
+    for (final String command : scope.commands) // [L]
+      collect(key.length() == 0 ? command : key + "/" + command, spec.getCommandSpec(command), scopes);
+  }
+
+  private static String join(final ArrayList<String> words) {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0, i$ = words.size(); i < i$; ++i) { // [RA]
+      if (i > 0)
+        builder.append(' ');
+
+      builder.append(words.get(i));
+    }
+
+    return builder.toString();
+  }
+
+  /**
+   * Appends the {@code case} branches that skip the values of options, and that enter the scopes of subcommands, as per
+   * the syntax of {@code bash} and {@code zsh}.
+   */
+  private static void appendScan(final StringBuilder out, final ArrayList<Scope> scopes, final String skip) {
+    final StringBuilder patterns = new StringBuilder();
+    for (final Scope scope : scopes) // [L]
+      for (final String name : scope.valueNames) // [L]
+        patterns.append('|').append(scope.pattern(name));
+
+    if (patterns.length() > 0)
+      out.append("      ").append(patterns, 1, patterns.length()).append(") ").append(skip).append(";;\n");
+
+    for (final Scope scope : scopes) // [L]
+      for (final String command : scope.commands) // [L]
+        out.append("      ").append(scope.pattern(command)).append(") spec=").append(quote(scope.key.length() == 0 ? command : scope.key + "/" + command)).append(";;\n");
+  }
+
+  private static void bash(final StringBuilder out, final String command, final String function, final ArrayList<Scope> scopes) {
+    out.append("# bash completion for ").append(command).append(", generated by ").append(Completion.class.getName()).append("\n\n");
+    out.append(function).append("() {\n");
+    out.append("  local cur=\"${COMP_WORDS[COMP_CWORD]}\" prev=\"${COMP_WORDS[COMP_CWORD-1]}\" spec= i\n");
+    out.append("  # --name=value is split at \"=\" as per COMP_WORDBREAKS\n");
+    out.append("  if [[ $cur == = ]]; then\n");
+    out.append("    cur=\n");
+    out.append("  elif [[ $prev == = ]]; then\n");
+    out.append("    prev=\"${COMP_WORDS[COMP_CWORD-2]}\"\n");
+    out.append("  fi\n\n");
+    out.append("  for ((i = 1; i < COMP_CWORD; ++i)); do\n");
+    out.append("    case \"$spec:${COMP_WORDS[i]}\" in\n");
+    appendScan(out, scopes, "if [[ ${COMP_WORDS[i+1]} == = ]]; then ((i += 2)); else ((++i)); fi");
+    out.append("    esac\n");
+    out.append("  done\n\n");
+    out.append("  case \"$spec:$prev\" in\n");
+    final StringBuilder files = new StringBuilder();
+    for (final Scope scope : scopes) { // [L]
+      for (int i = 0, i$ = scope.valueNames.size(); i < i$; ++i) { // [RA]
+        final String[] values = scope.values.get(i);
+        if (values == null)
+          files.append('|').append(scope.pattern(scope.valueNames.get(i)));
+        else
+          out.append("    ").append(scope.pattern(scope.valueNames.get(i))).append(") COMPREPLY=($(compgen -W ").append(quote(String.join(" ", values))).append(" -- \"$cur\")); return;;\n");
+      }
+    }
+
+    if (files.length() > 0)
+      out.append("    ").append(files, 1, files.length()).append(") return;;\n");
+
+    out.append("  esac\n\n");
+    out.append("  if [[ $cur == -* ]]; then\n");
+    out.append("    case \"$spec\" in\n");
+    for (final Scope scope : scopes) // [L]
+      out.append("      ").append(quote(scope.key)).append(") COMPREPLY=($(compgen -W ").append(quote(join(scope.names))).append(" -- \"$cur\"));;\n");
+
+    out.append("    esac\n");
+    out.append("  else\n");
+    out.append("    case \"$spec\" in\n");
+    for (final Scope scope : scopes) // [L]
+      if (scope.commands.size() > 0)
+        out.append("      ").append(quote(scope.key)).append(") COMPREPLY=($(compgen -W ").append(quote(join(scope.commands))).append(" -- \"$cur\"));;\n");
+
+    out.append("    esac\n");
+    out.append("  fi\n");
+    out.append("}\n\n");
+    out.append("complete -o default -F ").append(function).append(' ').append(quote(command)).append('\n');
+  }
+
+  private static void zsh(final StringBuilder out, final String command, final String function, final ArrayList<Scope> scopes) {
+    out.append("#compdef ").append(command).append("\n");
+    out.append("# zsh completion for ").append(command).append(", generated by ").append(Completion.class.getName()).append("\n\n");
+    out.append(function).append("() {\n");
+    out.append("  local cur=\"${words[CURRENT]}\" prev=\"${words[CURRENT-1]}\" spec= i\n");
+    out.append("  for ((i = 2; i < CURRENT; ++i)); do\n");
+    out.append("    case \"$spec:${words[i]}\" in\n");
+    appendScan(out, scopes, "((++i))");
+    out.append("    esac\n");
+    out.append("  done\n\n");
+    out.append("  if [[ $cur == --*=* ]]; then\n");
+    out.append("    prev=\"${cur%%=*}\"\n");
+    out.append("    cur=\"${cur#*=}\"\n");
+    out.append("    compset -P '*='\n");
+    out.append("  fi\n\n");
+    out.append("  case \"$spec:$prev\" in\n");
+    final StringBuilder files = new StringBuilder();
+    for (final Scope scope : scopes) { // [L]
+      for (int i = 0, i$ = scope.valueNames.size(); i < i$; ++i) { // [RA]
+        final String[] values = scope.values.get(i);
+        if (values == null) {
+          files.append('|').append(scope.pattern(scope.valueNames.get(i)));
+        }
+        else {
+          out.append("    ").append(scope.pattern(scope.valueNames.get(i))).append(") compadd --");
+          for (final String value : values) // [A]
+            out.append(' ').append(quote(value));
+
+          out.append("; return;;\n");
+        }
+      }
+    }
+
+    if (files.length() > 0)
+      out.append("    ").append(files, 1, files.length()).append(") _files; return;;\n");
+
+    out.append("  esac\n\n");
+    out.append("  if [[ $cur == -* ]]; then\n");
+    out.append("    case \"$spec\" in\n");
+    for (final Scope scope : scopes) { // [L]
+      out.append("      ").append(quote(scope.key)).append(") compadd --");
+      for (final String name : scope.names) // [L]
+        out.append(' ').append(quote(name));
+
+      out.append(";;\n");
+    }
+
+    out.append("    esac\n");
+    out.append("  else\n");
+    out.append("    case \"$spec\" in\n");
+    for (final Scope scope : scopes) { // [L]
+      if (scope.commands.size() > 0) {
+        out.append("      ").append(quote(scope.key)).append(") compadd --");
+        for (final String name : scope.commands) // [L]
+          out.append(' ').append(quote(name));
+
+        out.append("; return;;\n");
+      }
+    }
+
+    out.append("    esac\n");
+    out.append("    _files\n");
+    out.append("  fi\n");
+    out.append("}\n\n");
+    out.append("if [[ $zsh_eval_context[-1] == loadautofunc ]]; then\n");
+    out.append("  ").append(function).append(" \"$@\"\n");
+    out.append("else\n");
+    out.append("  compdef ").append(function).append(' ').append(quote(command)).append('\n');
+    out.append("fi\n");
+  }
+
+  private static void fishPrint(final StringBuilder out, final String indent, final ArrayList<String> names, final ArrayList<String> descriptions) {
+    out.append(indent).append("printf '%s\\t%s\\n'");
+    for (int i = 0, i$ = names.size(); i < i$; ++i) // [RA]
+      out.append(' ').append(fishQuote(names.get(i))).append(' ').append(fishQuote(descriptions.get(i)));
+
+    out.append('\n');
+  }
+
+  private static void fish(final StringBuilder out, final String command, final String function, final ArrayList<Scope> scopes) {
+    out.append("# fish completion for ").append(command).append(", generated by ").append(Completion.class.getName()).append("\n\n");
+    out.append("function ").append(function).append("\n");
+    out.append("    set -l words (commandline -opc)\n");
+    out.append("    set -l cur (commandline -ct)\n");
+    out.append("    set -l prev $words[-1]\n");
+    out.append("    set -l spec ''\n");
+    out.append("    set -l skip 0\n");
+    out.append("    set -e words[1]\n");
+    out.append("    for word in $words\n");
+    out.append("        if test $skip = 1\n");
+    out.append("            set skip 0\n");
+    out.append("            continue\n");
+    out.append("        end\n\n");
+    out.append("        switch \"$spec:$word\"\n");
+    boolean hasValues = false;
+    for (final Scope scope : scopes) { // [L]
+      for (final String name : scope.valueNames) { // [L]
+        if (!hasValues) {
+          out.append("            case");
+          hasValues = true;
+        }
+
+        out.append(' ').append(fishQuote(scope.key + ":" + name));
+      }
+    }
+
+    if (hasValues)
+      out.append("\n                set skip 1\n");
+
+    for (final Scope scope : scopes) { // [L]
+      for (final String name : scope.commands) { // [L]
+        out.append("            case ").append(fishQuote(scope.key + ":" + name)).append('\n');
+        out.append("                set spec ").append(fishQuote(scope.key.length() == 0 ? name : scope.key + "/" + name)).append('\n');
+      }
+    }
+
+    out.append("        end\n");
+    out.append("    end\n\n");
+    out.append("    set -l prefix ''\n");
+    out.append("    if string match -q -- '--*=*' \"$cur\"\n");
+    out.append("        set prev (string split -m 1 = -- \"$cur\")[1]\n");
+    out.append("        set prefix \"$prev=\"\n");
+    out.append("        set cur (string split -m 1 = -- \"$cur\")[2]\n");
+    out.append("    end\n\n");
+    out.append("    switch \"$spec:$prev\"\n");
+    final StringBuilder files = new StringBuilder();
+    for (final Scope scope : scopes) { // [L]
+      for (int i = 0, i$ = scope.valueNames.size(); i < i$; ++i) { // [RA]
+        final String[] values = scope.values.get(i);
+        final String pattern = fishQuote(scope.key + ":" + scope.valueNames.get(i));
+        if (values == null) {
+          files.append(' ').append(pattern);
+        }
+        else {
+          out.append("        case ").append(pattern).append('\n');
+          out.append("            printf \"$prefix%s\\n\"");
+          for (final String value : values) // [A]
+            out.append(' ').append(fishQuote(value));
+
+          out.append("\n            return\n");
+        }
+      }
+    }
+
+    if (files.length() > 0) {
+      out.append("        case").append(files).append('\n');
+      out.append("            printf \"$prefix%s\\n\" (__fish_complete_path \"$cur\")\n");
+      out.append("            return\n");
+    }
+
+    out.append("    end\n\n");
+    out.append("    if string match -q -- '-*' \"$cur\"\n");
+    out.append("        switch \"$spec\"\n");
+    for (final Scope scope : scopes) { // [L]
+      out.append("            case ").append(fishQuote(scope.key)).append('\n');
+      fishPrint(out, "                ", scope.names, scope.descriptions);
+    }
+
+    out.append("        end\n");
+    out.append("    else\n");
+    out.append("        switch \"$spec\"\n");
+    for (final Scope scope : scopes) { // [L]
+      if (scope.commands.size() > 0) {
+        out.append("            case ").append(fishQuote(scope.key)).append('\n');
+        fishPrint(out, "                ", scope.commands, scope.commandDescriptions);
+        out.append("                return\n");
+      }
+    }
+
+    out.append("        end\n\n");
+    out.append("        __fish_complete_path \"$cur\"\n");
+    out.append("    end\n");
+    out.append("end\n\n");
+    out.append("complete -c ").append(fishQuote(command)).append(" -f -a '(").append(function).append(")'\n");
+  }
+
+  /**
+   * Returns the completion script for the provided shell of the provided command, as per the provided {@link CompiledSpec}.
+   * The specs of the subcommands of {@code spec} are loaded to include their options in the script.
+   *
+   * @param shell The {@link Shell}.
+   * @param command The name of the command to be completed.
+   * @param spec The {@link CompiledSpec} of the command.
+   * @return The completion script for the provided shell of the provided command.
+   * @throws IOException If an I/O error has occurred loading the CLI XML of a subcommand.
+   * @throws IllegalArgumentException If {@code command} is empty, or if the CLI XML of a subcommand is not valid.
+   * @throws NullPointerException If {@code shell}, {@code command} or {@code spec} is null.
+   */
+  public static String generate(final Shell shell, final String command, final CompiledSpec spec) throws IOException {
+    if (command.length() == 0)
+      throw new IllegalArgumentException("command is empty");
+
+    final ArrayList<Scope> scopes = new ArrayList<>();
+    collect("", spec, scopes);
+    final StringBuilder out = new StringBuilder(1024);
+    final String function = functionName(command);
+    switch (shell) {
+      case BASH:
+        bash(out, command, function, scopes);
+        break;
+      case ZSH:
+        zsh(out, command, function, scopes);
+        break;
+      case FISH:
+        fish(out, command, function, scopes);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported shell: " + shell);
+    }
+
+    return out.toString();
+  }
+
+  /**
+   * Prints the completion script for a shell of a command as per a CLI XML to {@link System#out}.
+   *
+   * @param args The shell ({@code bash}, {@code zsh} or {@code fish}), the name of the command, and the path or URL of the
+   *          CLI XML.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("usage: " + Completion.class.getName() + " <bash|zsh|fish> <command> <cli.xml>");
+      System.exit(1);
+    }
+
+    final File file = new File(args[2]);
+    final URL url = file.exists() ? file.toURI().toURL() : new URL(args[2]);
+    System.out.print(generate(Shell.valueOf(args[0].toUpperCase(Locale.ROOT)), args[1], Options.compile(url)));
+    System.out.flush();
+  }
+
+  private Completion() {
+  }
+}
@@ -0,0 +1,223 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A live {@link Options} of a long-running process, which layers the values in an overrides file under {@code argv}. The
+ * overrides file is a {@link Properties} file (or a {@link Properties#loadFromXML(InputStream) properties XML} file if its
+ * name ends with {@code ".xml"}) of values of options by name, which apply to the options that are not specified in
+ * {@code argv}. Values in the overrides file are validated as per the {@link CompiledSpec}, as are the values in
+ * {@code argv}, and the values of flags are {@code true} or {@code false}.
+ * <p>
+ * When the overrides file is created, modified or deleted, it is parsed into a new {@link Options} snapshot that is published
+ * atomically, and subscribers are notified on the watcher thread. If the overrides file is not valid, the error is logged and
+ * the previous snapshot is retained. Reloads are serialized, so that snapshots are published, and subscribers are notified,
+ * in the order in which the overrides file is read. Readers of {@link #get()} never lock.
+ */
+public final class LiveOptions implements Closeable {
+  private static final Logger logger = LoggerFactory.getLogger(LiveOptions.class);
+
+  private final CompiledSpec spec;
+  private final String[] args;
+  private final Path overrides;
+  private final CopyOnWriteArrayList<Consumer<? super Options>> subscribers = new CopyOnWriteArrayList<>();
+  private final Object reloadLock = new Object();
+  private volatile Options options;
+  private WatchService watchService;
+  private Thread watcher;
+  private boolean closed;
+
+  /**
+   * Creates a new {@link LiveOptions} of the provided {@link CompiledSpec} and {@code args}, layered over the values in the
+   * provided overrides file, which may not exist.
+   *
+   * @param spec The {@link CompiledSpec}.
+   * @param args The {@code main(String[] args)}.
+   * @param overrides The {@link Path} of the overrides file.
+   * @throws IllegalArgumentException If {@code args} or the overrides file are not valid as per {@code spec}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code spec} or {@code overrides} is null.
+   */
+  public LiveOptions(final CompiledSpec spec, final String[] args, final Path overrides) throws IOException {
+    this.spec = Objects.requireNonNull(spec);
+    this.args = args;
+    this.overrides = Objects.requireNonNull(overrides).toAbsolutePath();
+    this.options = spec.parse(args, load(this.overrides));
+  }
+
+  /**
+   * Returns the current {@link Options} snapshot.
+   *
+   * @return The current {@link Options} snapshot.
+   */
+  public Options get() {
+    return options;
+  }
+
+  /**
+   * Subscribes the provided {@link Consumer} to each new {@link Options} snapshot.
+   *
+   * @param subscriber The {@link Consumer} to be notified of each new {@link Options} snapshot.
+   * @throws NullPointerException If {@code subscriber} is null.
+   */
+  public void subscribe(final Consumer<? super Options> subscriber) {
+    subscribers.add(Objects.requireNonNull(subscriber));
+  }
+
+  /**
+   * Unsubscribes the provided {@link Consumer}.
+   *
+   * @param subscriber The {@link Consumer} to unsubscribe.
+   * @return {@code true} if {@code subscriber} was subscribed, otherwise {@code false}.
+   */
+  public boolean unsubscribe(final Consumer<? super Options> subscriber) {
+    return subscribers.remove(subscriber);
+  }
+
+  /**
+   * Parses the overrides file, and publishes the new {@link Options} snapshot to subscribers, which are notified on the
+   * calling thread. Calls to this method are serialized with those of the watcher thread. An exception thrown by a
+   * subscriber is logged, and does not prevent the notification of the remaining subscribers.
+   *
+   * @return The new {@link Options} snapshot.
+   * @throws IllegalArgumentException If the overrides file is not valid as per the {@link CompiledSpec}, in which case the
+   *           previous snapshot is retained.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public Options reload() throws IOException {
+    synchronized (reloadLock) {
+      final Options options = spec.parse(args, load(overrides));
+      this.options = options;
+      for (final Consumer<? super Options> subscriber : subscribers) { // [L]
+        try {
+          subscriber.accept(options);
+        }
+        catch (final RuntimeException e) {
+          if (logger.isErrorEnabled()) { logger.error("Subscriber " + subscriber + " failed to accept options of " + overrides, e); }
+        }
+      }
+
+      return options;
+    }
+  }
+
+  /**
+   * Starts a daemon thread that watches the overrides file, and calls {@link #reload()} when it is created, modified or
+   * deleted.
+   *
+   * @return This {@link LiveOptions}.
+   * @throws IllegalStateException If the watcher is already started, or this {@link LiveOptions} is closed.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public synchronized LiveOptions watch() throws IOException {
+    if (closed)
+      throw new IllegalStateException("LiveOptions is closed");
+
+    if (watcher != null)
+      throw new IllegalStateException("Watcher is already started");
+
+    final Path dir = overrides.getParent();
+    final Path fileName = overrides.getFileName();
+    final WatchService watchService = dir.getFileSystem().newWatchService();
+    dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    this.watchService = watchService;
+    watcher = new Thread(() -> {
+      try {
+        while (true) {
+          final WatchKey key = watchService.take();
+          boolean changed = false;
+          for (final WatchEvent<?> event : key.pollEvents()) // [L]
+            changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+
+          key.reset();
+          if (changed) {
+            try {
+              reload();
+            }
+            catch (final IllegalArgumentException | IOException e) {
+              if (logger.isWarnEnabled()) { logger.warn("Retaining previous options, because " + overrides + " is not valid: " + e.getMessage()); }
+            }
+            catch (final RuntimeException e) {
+              // The watcher survives an unexpected failure, so that the next change is reloaded
+              if (logger.isErrorEnabled()) { logger.error("Failed to reload " + overrides, e); }
+            }
+          }
+        }
+      }
+      catch (final ClosedWatchServiceException | InterruptedException e) {
+      }
+    }, "LiveOptions-" + fileName);
+    watcher.setDaemon(true);
+    watcher.start();
+    return this;
+  }
+
+  /**
+   * Stops the watcher of the overrides file, if started.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    closed = true;
+    if (watchService != null)
+      watchService.close();
+  }
+
+  private static Map<String,String> load(final Path path) throws IOException {
+    final Properties properties = new Properties();
+    try (final InputStream in = Files.newInputStream(path)) {
+      if (path.getFileName().toString().endsWith(".xml"))
+        properties.loadFromXML(in);
+      else
+        properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+    catch (final NoSuchFileException e) {
+      return Collections.emptyMap();
+    }
+
+    final HashMap<String,String> map = new HashMap<>(properties.size());
+    for (final String name : properties.stringPropertyNames()) // [S]
+      map.put(name, properties.getProperty(name));
+
+    return map;
+  }
+}
@@ -0,0 +1,179 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Immutable trie of option names that maps a name to its index, and resolves unambiguous prefixes of names. Lookups are
+ * performed on a range of a {@link String}, and do not allocate.
+ */
+final class NameTrie {
+  /** Returned when no name matches. */
+  static final int NONE = -1;
+  /** Returned when a prefix matches more than one name. */
+  static final int AMBIGUOUS = -2;
+
+  private static final char[] EMPTY_KEYS = {};
+  private static final int[] EMPTY_CHILDREN = {};
+
+  private static final class Node {
+    private final ArrayList<Node> children = new ArrayList<>(0);
+    private final char key;
+    private int value = NONE;
+    private int unique = NONE;
+
+    private Node(final char key) {
+      this.key = key;
+    }
+
+    private Node child(final char key) {
+      for (int i = 0, i$ = children.size(); i < i$; ++i) { // [RA]
+        final Node child = children.get(i);
+        if (child.key == key)
+          return child;
+      }
+
+      final Node child = new Node(key);
+      children.add(child);
+      return child;
+    }
+  }
+
+  private final char[][] keys;
+  private final int[][] children;
+  private final int[] values;
+  private final int[] uniques;
+
+  /**
+   * Creates a new {@link NameTrie} that maps each non-null member of {@code names} to its index in the array.
+   *
+   * @param names The names, which may contain null members.
+   * @throws IllegalArgumentException If {@code names} contains an empty or duplicate name.
+   */
+  NameTrie(final String[] names) {
+    final Node root = new Node('\0');
+    for (int i = 0; i < names.length; ++i) { // [A]
+      final String name = names[i];
+      if (name == null)
+        continue;
+
+      if (name.length() == 0)
+        throw new IllegalArgumentException("Empty name");
+
+      Node node = root;
+      node.unique = node.unique == NONE ? i : AMBIGUOUS;
+      for (int j = 0, j$ = name.length(); j < j$; ++j) { // [N]
+        node = node.child(name.charAt(j));
+        node.unique = node.unique == NONE ? i : AMBIGUOUS;
+      }
+
+      if (node.value != NONE)
+        throw new IllegalArgumentException("Duplicate name: " + name);
+
+      node.value = i;
+    }
+
+    final ArrayList<Node> nodes = new ArrayList<>();
+    nodes.add(root);
+    for (int i = 0; i < nodes.size(); ++i) // [RA]
+      nodes.addAll(nodes.get(i).children);
+
+    final int n = nodes.size();
+    this.keys = new char[n][];
+    this.children = new int[n][];
+    this.values = new int[n];
+    this.uniques = new int[n];
+    for (int i = 0, next = 1; i < n; ++i) { // [RA]
+      final Node node = nodes.get(i);
+      values[i] = node.value;
+      uniques[i] = node.unique;
+      final int count = node.children.size();
+      if (count == 0) {
+        keys[i] = EMPTY_KEYS;
+        children[i] = EMPTY_CHILDREN;
+        continue;
+      }
+
+      // Children are laid out contiguously from next, in the order of node.children, so sort them by key with their indices
+      final long[] sorted = new long[count];
+      for (int j = 0; j < count; ++j) // [RA]
+        sorted[j] = ((long)node.children.get(j).key << 32) | (next + j);
+
+      Arrays.sort(sorted);
+      keys[i] = new char[count];
+      children[i] = new int[count];
+      for (int j = 0; j < count; ++j) { // [A]
+        keys[i][j] = (char)(sorted[j] >>> 32);
+        children[i][j] = (int)sorted[j];
+      }
+
+      next += count;
+    }
+  }
+
+  private int find(final String s, final int from, final int to) {
+    int node = 0;
+    for (int i = from; i < to; ++i) { // [N]
+      final int index = Arrays.binarySearch(keys[node], s.charAt(i));
+      if (index < 0)
+        return -1;
+
+      node = children[node][index];
+    }
+
+    return node;
+  }
+
+  /**
+   * Returns the index of the name equal to the range {@code [from, to)} of {@code s}, or {@link #NONE} if there is no such
+   * name.
+   *
+   * @param s The {@link String}.
+   * @param from The start index of the range, inclusive.
+   * @param to The end index of the range, exclusive.
+   * @return The index of the name equal to the range {@code [from, to)} of {@code s}, or {@link #NONE} if there is no such
+   *         name.
+   */
+  int get(final String s, final int from, final int to) {
+    if (from == to)
+      return NONE;
+
+    final int node = find(s, from, to);
+    return node == -1 ? NONE : values[node];
+  }
+
+  /**
+   * Returns the index of the name equal to the range {@code [from, to)} of {@code s}, or otherwise the index of the only
+   * name of which the range is a prefix. If the range is a prefix of more than one name, {@link #AMBIGUOUS} is returned,
+   * and if it is a prefix of no name, {@link #NONE} is returned.
+   *
+   * @param s The {@link String}.
+   * @param from The start index of the range, inclusive.
+   * @param to The end index of the range, exclusive.
+   * @return The index of the name equal to, or uniquely prefixed by, the range {@code [from, to)} of {@code s}, or
+   *         {@link #AMBIGUOUS} or {@link #NONE}.
+   */
+  int getPrefix(final String s, final int from, final int to) {
+    if (from == to)
+      return NONE;
+
+    final int node = find(s, from, to);
+    return node == -1 ? NONE : values[node] != NONE ? values[node] : uniques[node];
+  }
+}
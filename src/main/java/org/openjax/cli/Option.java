@@ -16,7 +16,6 @@
 
 package org.openjax.cli;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -24,8 +23,16 @@ import java.util.Objects;
  */
 public class Option {
   private final String name;
-  private final String[] values;
   private final char valueSeparator;
+  private final ValueArena arena;
+  private final int offset;
+  private final int count;
+  private volatile String[] values;
+  private volatile String value;
+  private volatile int[] ints;
+  private volatile long[] longs;
+  private volatile double[] doubles;
+  private volatile boolean[] booleans;
 
   /**
    * Creates a new {@link Option} with the specified name, value separator, and an array of associated values.
@@ -37,9 +44,29 @@ public class Option {
   public Option(final String name, final char valueSeparator, final String ... values) {
     this.name = name;
     this.valueSeparator = valueSeparator;
+    this.arena = null;
+    this.offset = 0;
+    this.count = values == null ? 0 : values.length;
     this.values = values;
   }
 
+  /**
+   * Creates a new {@link Option} with the specified name, value separator, and the values of the option at the provided
+   * index in {@code arena}, which are only decoded when they are requested.
+   *
+   * @param name The name.
+   * @param valueSeparator The value separator.
+   * @param arena The {@link ValueArena}.
+   * @param index The index of the option in {@code arena}.
+   */
+  Option(final String name, final char valueSeparator, final ValueArena arena, final int index) {
+    this.name = name;
+    this.valueSeparator = valueSeparator;
+    this.arena = arena;
+    this.offset = arena.offset(index);
+    this.count = arena.count(index);
+  }
+
   /**
    * Creates a new {@link Option} with the specified name, value separator, and single associated value.
    *
@@ -60,14 +87,41 @@ public class Option {
   }
 
   /**
-   * Returns the associated values.
+   * Returns the associated values, which are decoded once and cached if this instance refers to a {@link ValueArena}.
    *
    * @return The associated values.
    */
   public String[] getValues() {
+    String[] values = this.values;
+    if (values == null && arena != null) {
+      values = new String[count];
+      for (int i = 0; i < count; ++i) // [A]
+        values[i] = arena.get(offset + i);
+
+      this.values = values;
+    }
+
     return values;
   }
 
+  /**
+   * Returns the number of associated values.
+   */
+  int getValueCount() {
+    return count;
+  }
+
+  /**
+   * Returns the associated value at the provided index, which is decoded without caching the associated values if they have
+   * not yet been requested.
+   *
+   * @param index The index of the value.
+   */
+  String getValue(final int index) {
+    final String[] values = this.values;
+    return values != null ? values[index] : arena.get(offset + index);
+  }
+
   /**
    * Returns the value separator.
    *
@@ -77,6 +131,136 @@ public class Option {
     return valueSeparator;
   }
 
+  private IllegalArgumentException invalidValue(final String type, final String value, final Throwable cause) {
+    return new IllegalArgumentException("Invalid " + type + " value of option \"" + name + "\": " + value, cause);
+  }
+
+  /**
+   * Returns the values joined with the value separator, which is computed once and cached.
+   */
+  String getValue() {
+    String value = this.value;
+    if (value == null) {
+      if (count == 1) {
+        value = getValue(0);
+      }
+      else {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; ++i) { // [A]
+          if (i > 0 && valueSeparator != '\0')
+            builder.append(valueSeparator);
+
+          builder.append(getValue(i));
+        }
+
+        value = builder.toString();
+      }
+
+      this.value = value;
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the values converted to {@code int}, which are converted once and cached.
+   *
+   * @throws IllegalArgumentException If a value is not a valid {@code int}.
+   */
+  int[] getInts() {
+    int[] ints = this.ints;
+    if (ints == null) {
+      ints = new int[count];
+      for (int i = 0; i < count; ++i) { // [A]
+        final String value = getValue(i);
+        try {
+          ints[i] = Integer.parseInt(value);
+        }
+        catch (final NumberFormatException e) {
+          throw invalidValue("int", value, e);
+        }
+      }
+
+      this.ints = ints;
+    }
+
+    return ints;
+  }
+
+  /**
+   * Returns the values converted to {@code long}, which are converted once and cached.
+   *
+   * @throws IllegalArgumentException If a value is not a valid {@code long}.
+   */
+  long[] getLongs() {
+    long[] longs = this.longs;
+    if (longs == null) {
+      longs = new long[count];
+      for (int i = 0; i < count; ++i) { // [A]
+        final String value = getValue(i);
+        try {
+          longs[i] = Long.parseLong(value);
+        }
+        catch (final NumberFormatException e) {
+          throw invalidValue("long", value, e);
+        }
+      }
+
+      this.longs = longs;
+    }
+
+    return longs;
+  }
+
+  /**
+   * Returns the values converted to {@code double}, which are converted once and cached.
+   *
+   * @throws IllegalArgumentException If a value is not a valid {@code double}.
+   */
+  double[] getDoubles() {
+    double[] doubles = this.doubles;
+    if (doubles == null) {
+      doubles = new double[count];
+      for (int i = 0; i < count; ++i) { // [A]
+        final String value = getValue(i);
+        try {
+          doubles[i] = Double.parseDouble(value);
+        }
+        catch (final NumberFormatException e) {
+          throw invalidValue("double", value, e);
+        }
+      }
+
+      this.doubles = doubles;
+    }
+
+    return doubles;
+  }
+
+  /**
+   * Returns the values converted to {@code boolean} as per the {@code boolean} {@link ArgumentType}, which are converted
+   * once and cached.
+   *
+   * @throws IllegalArgumentException If a value is not a valid {@code boolean}.
+   */
+  boolean[] getBooleans() {
+    boolean[] booleans = this.booleans;
+    if (booleans == null) {
+      booleans = new boolean[count];
+      for (int i = 0; i < count; ++i) { // [A]
+        final Boolean value = ArgumentType.parseBoolean(getValue(i));
+        if (value == null)
+          throw invalidValue("boolean", getValue(i), null);
+
+        booleans[i] = value;
+      }
+
+      this.booleans = booleans;
+    }
+
+    return booleans;
+  }
+
   @Override
   public boolean equals(final Object obj) {
     if (obj == this)
@@ -86,7 +270,18 @@ public class Option {
       return false;
 
     final Option that = (Option)obj;
-    return Objects.equals(name, that.name) && (values != null ? Arrays.equals(values, that.values) : that.values == null);
+    if (!Objects.equals(name, that.name) || count != that.count || (arena == null && values == null) != (that.arena == null && that.values == null))
+      return false;
+
+    // The values of the same range of the same arena are equal, and are otherwise compared without being cached
+    if (arena != null && arena == that.arena && offset == that.offset)
+      return true;
+
+    for (int i = 0; i < count; ++i) // [A]
+      if (!Objects.equals(getValue(i), that.getValue(i)))
+        return false;
+
+    return true;
   }
 
   @Override
@@ -95,9 +290,17 @@ public class Option {
     if (name != null)
       hashCode = 31 * hashCode + name.hashCode();
 
-    if (values != null)
-      hashCode = 31 * hashCode + values.hashCode();
+    // As per Arrays.hashCode(Object[]) of the values, which are hashed without being cached
+    if (arena != null || values != null) {
+      int valuesHashCode = 1;
+      for (int i = 0; i < count; ++i) { // [A]
+        final String value = getValue(i);
+        valuesHashCode = 31 * valuesHashCode + (value == null ? 0 : value.hashCode());
+      }
+
+      hashCode = 31 * hashCode + valuesHashCode;
+    }
 
     return hashCode;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,222 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.util.regex.Pattern;
+
+/**
+ * Immutable specification of an {@code <option>} element of a CLI XML specification, independent of the JAXB binding from
+ * which it may have been created.
+ */
+public final class OptionSpec {
+  private final String longName;
+  private final String shortName;
+  private final String label;
+  private final char valueSeparator;
+  private final boolean required;
+  private final int maxOccurs;
+  private final Pattern pattern;
+  private final ArgumentType type;
+  private final String defaultValue;
+  private final String description;
+
+  /**
+   * Creates a new {@link OptionSpec} for an option that does not accept an argument.
+   *
+   * @param longName The long name, or {@code null} if the option only has a short name.
+   * @param shortName The short name, or {@code null} if the option only has a long name.
+   * @param description The description.
+   * @throws IllegalArgumentException If both {@code longName} and {@code shortName} are null.
+   */
+  public OptionSpec(final String longName, final String shortName, final String description) {
+    this(longName, shortName, null, '\0', false, 0, null, null, null, description);
+  }
+
+  /**
+   * Creates a new {@link OptionSpec} with the provided properties, and without an {@link ArgumentType}.
+   *
+   * @param longName The long name, or {@code null} if the option only has a short name.
+   * @param shortName The short name, or {@code null} if the option only has a long name.
+   * @param label The label of the argument, or {@code null} if the option does not accept an argument.
+   * @param valueSeparator The value separator of the argument, or {@code '\0'} if none is specified.
+   * @param required Whether the option is required.
+   * @param maxOccurs The maximum number of values of the argument, or {@link Integer#MAX_VALUE} for {@code "unbounded"}.
+   * @param pattern The {@link Pattern} that values of the argument must match, or {@code null}.
+   * @param defaultValue The default value of the argument, or {@code null}.
+   * @param description The description.
+   * @throws IllegalArgumentException If both {@code longName} and {@code shortName} are null, or if {@code label} is not
+   *           null and {@code maxOccurs} is less than 1.
+   */
+  public OptionSpec(final String longName, final String shortName, final String label, final char valueSeparator, final boolean required, final int maxOccurs, final Pattern pattern, final String defaultValue, final String description) {
+    this(longName, shortName, label, valueSeparator, required, maxOccurs, pattern, null, defaultValue, description);
+  }
+
+  /**
+   * Creates a new {@link OptionSpec} with the provided properties.
+   *
+   * @param longName The long name, or {@code null} if the option only has a short name.
+   * @param shortName The short name, or {@code null} if the option only has a long name.
+   * @param label The label of the argument, or {@code null} if the option does not accept an argument.
+   * @param valueSeparator The value separator of the argument, or {@code '\0'} if none is specified.
+   * @param required Whether the option is required.
+   * @param maxOccurs The maximum number of values of the argument, or {@link Integer#MAX_VALUE} for {@code "unbounded"}.
+   * @param pattern The {@link Pattern} that values of the argument must match, or {@code null}.
+   * @param type The {@link ArgumentType} of which values of the argument must be valid, or {@code null}.
+   * @param defaultValue The default value of the argument, or {@code null}.
+   * @param description The description.
+   * @throws IllegalArgumentException If both {@code longName} and {@code shortName} are null, or if {@code label} is not
+   *           null and {@code maxOccurs} is less than 1.
+   */
+  public OptionSpec(final String longName, final String shortName, final String label, final char valueSeparator, final boolean required, final int maxOccurs, final Pattern pattern, final ArgumentType type, final String defaultValue, final String description) {
+    if (longName == null && shortName == null)
+      throw new IllegalArgumentException("both [long] and [short] option names are null");
+
+    if (label != null && maxOccurs < 1)
+      throw new IllegalArgumentException("maxOccurs (" + maxOccurs + ") < 1 for " + (longName != null ? longName : shortName) + " option");
+
+    this.longName = longName;
+    this.shortName = shortName;
+    this.label = label;
+    this.valueSeparator = valueSeparator;
+    this.required = required;
+    this.maxOccurs = label == null ? 0 : maxOccurs;
+    this.pattern = pattern;
+    this.type = type;
+    this.defaultValue = defaultValue;
+    this.description = description;
+  }
+
+  /**
+   * Returns the name by which the option is identified in the parsed {@link Options}, which is the long name if present, and
+   * otherwise the short name.
+   *
+   * @return The name by which the option is identified in the parsed {@link Options}.
+   */
+  public String getName() {
+    return longName != null ? longName : shortName;
+  }
+
+  /**
+   * Returns the long name, or {@code null} if the option only has a short name.
+   *
+   * @return The long name, or {@code null} if the option only has a short name.
+   */
+  public String getLongName() {
+    return longName;
+  }
+
+  /**
+   * Returns the short name, or {@code null} if the option only has a long name.
+   *
+   * @return The short name, or {@code null} if the option only has a long name.
+   */
+  public String getShortName() {
+    return shortName;
+  }
+
+  /**
+   * Returns whether the option accepts an argument.
+   *
+   * @return Whether the option accepts an argument.
+   */
+  public boolean hasArgument() {
+    return label != null;
+  }
+
+  /**
+   * Returns the label of the argument, or {@code null} if the option does not accept an argument.
+   *
+   * @return The label of the argument, or {@code null} if the option does not accept an argument.
+   */
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * Returns the value separator of the argument, or {@code '\0'} if none is specified.
+   *
+   * @return The value separator of the argument, or {@code '\0'} if none is specified.
+   */
+  public char getValueSeparator() {
+    return valueSeparator;
+  }
+
+  /**
+   * Returns whether the option is required.
+   *
+   * @return Whether the option is required.
+   */
+  public boolean isRequired() {
+    return required;
+  }
+
+  /**
+   * Returns the maximum number of values of the argument, {@link Integer#MAX_VALUE} for {@code "unbounded"}, or {@code 0}
+   * if the option does not accept an argument.
+   *
+   * @return The maximum number of values of the argument, {@link Integer#MAX_VALUE} for {@code "unbounded"}, or {@code 0}
+   *         if the option does not accept an argument.
+   */
+  public int getMaxOccurs() {
+    return maxOccurs;
+  }
+
+  /**
+   * Returns the {@link Pattern} that values of the argument must match, or {@code null}.
+   *
+   * @return The {@link Pattern} that values of the argument must match, or {@code null}.
+   */
+  public Pattern getPattern() {
+    return pattern;
+  }
+
+  /**
+   * Returns the {@link ArgumentType} of which values of the argument must be valid, or {@code null}.
+   *
+   * @return The {@link ArgumentType} of which values of the argument must be valid, or {@code null}.
+   */
+  public ArgumentType getType() {
+    return type;
+  }
+
+  /**
+   * Returns the default value of the argument, or {@code null}.
+   *
+   * @return The default value of the argument, or {@code null}.
+   */
+  public String getDefault() {
+    return defaultValue;
+  }
+
+  /**
+   * Returns the description.
+   *
+   * @return The description.
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Returns the display name of the option in the form of {@code "-s,--long"}, {@code "-s"}, or {@code "--long"}.
+   *
+   * @return The display name of the option.
+   */
+  String getDisplayName() {
+    return longName == null ? "-" + shortName : shortName == null ? "-" + longName : "-" + shortName + ",--" + longName;
+  }
+}
@@ -20,40 +20,26 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
-import java.io.PrintWriter;
 import java.net.URL;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
-import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.stream.FactoryConfigurationError;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-
-import org.apache.commons.cli.CommandLine;
-import org.apache.commons.cli.CommandLineParser;
-import org.apache.commons.cli.FixedHelpFormatter;
-import org.apache.commons.cli.HelpFormatter;
-import org.apache.commons.cli.OptionBuilder;
-import org.apache.commons.cli.PosixParser;
-import org.apache.commons.cli.UnrecognizedOptionException;
+
+import org.openjax.cli.ParseListener.Phase;
 import org.openjax.cli_1_1.Cli;
-import org.openjax.cli_1_1.Use;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
 /**
@@ -73,53 +59,135 @@ import org.xml.sax.SAXException;
  * </pre>
  */
 public final class Options {
-  private static final Logger logger = LoggerFactory.getLogger(Options.class);
-  private static final String schemaFile = "cli.xsd";
-  private static Schema schema;
-
-  private static String formatArgumentName(final String label, final int maxOccurs, final char valueSeparator) {
-    if (maxOccurs == 1)
-      return label;
-
-    final StringBuilder buffer = new StringBuilder(label);
-    buffer.append(1).append(valueSeparator);
+  /**
+   * The loader with which CLI XML specifications are loaded.
+   */
+  public enum Loader {
+    /**
+     * Loads the CLI XML in a single forward pass over an {@link javax.xml.stream.XMLStreamReader}, enforcing the constraints
+     * of the schema without JAXB or XML Schema validation. Supports the {@code cli-1.0.xsd}, {@code cli-1.1.xsd} and
+     * {@code cli-1.2.xsd} namespaces.
+     */
+    STAX,
+    /**
+     * Loads the CLI XML with JAXB, validating it against the XML Schema of its namespace. Supports the {@code cli-1.0.xsd}
+     * and {@code cli-1.1.xsd} namespaces, which share a single {@link JAXBContext}.
+     */
+    JAXB;
+
+    /**
+     * The default {@link Loader}, which is {@link #STAX} unless the {@code org.openjax.cli.loader} system property is set to
+     * {@code "jaxb"}.
+     */
+    public static final Loader DEFAULT = "jaxb".equalsIgnoreCase(System.getProperty("org.openjax.cli.loader")) ? JAXB : STAX;
+  }
 
-    if (maxOccurs == 2)
-      return buffer.append(label).append(2).toString();
+  private static volatile XMLInputFactory xmlInputFactory;
 
-    if (maxOccurs == Integer.MAX_VALUE)
-      return buffer.append(label).append(2).append("...").toString();
+  private static XMLInputFactory getXmlInputFactory() {
+    XMLInputFactory xmlInputFactory = Options.xmlInputFactory;
+    if (xmlInputFactory == null) {
+      synchronized (Options.class) {
+        xmlInputFactory = Options.xmlInputFactory;
+        if (xmlInputFactory == null)
+          Options.xmlInputFactory = xmlInputFactory = XMLInputFactory.newInstance();
+      }
+    }
 
-    return buffer.append("...").append(valueSeparator).append(label).append(maxOccurs).toString();
+    return xmlInputFactory;
   }
 
-  private static void printHelp(final org.apache.commons.cli.Options apacheOptions, final Cli.Arguments cliArguments, final PrintStream ps) {
-    final HelpFormatter formatter = new FixedHelpFormatter();
-    final PrintWriter pw = new PrintWriter(ps);
-    final StringBuilder args = new StringBuilder(apacheOptions.getOptions().size() > 0 ? " [options]" : "");
-    if (cliArguments != null) {
-      for (short i = 1, i$ = cliArguments.getMinOccurs(); i <= i$; ++i) // [N]
-        args.append(" <").append(cliArguments.getLabel()).append(i != 1 ? i : "").append('>');
+  /**
+   * Validates and compiles the CLI XML specification at the provided {@link File} into a {@link CompiledSpec}, which can
+   * thereafter be used to parse any number of {@code String[] args}.
+   *
+   * @param cliFile The {@link File} pointing to the CLI XML.
+   * @return The {@link CompiledSpec} of the CLI XML specification at the provided {@link File}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code cliFile} is null.
+   * @throws IllegalArgumentException If an error was encountered while creating the {@link JAXBContext}, or an
+   *           {@link XMLStreamException} has occurred.
+   * @throws IllegalStateException If an instance of this the {@link XMLInputFactory} cannot be loaded.
+   */
+  public static CompiledSpec compile(final File cliFile) throws IOException {
+    return compile(cliFile.toURI().toURL());
+  }
 
-      final boolean maxUnbounded = "unbounded".equals(cliArguments.getMaxOccurs());
-      final int argsMax = maxUnbounded ? 2 + cliArguments.getMinOccurs() : Short.parseShort(cliArguments.getMaxOccurs());
-      for (int i = cliArguments.getMinOccurs() + 1; i <= argsMax; ++i) // [N]
-        args.append(" [").append(cliArguments.getLabel()).append(i != 1 ? i : "").append(']');
+  /**
+   * Validates and compiles the CLI XML specification at the provided {@link URL} into a {@link CompiledSpec}, which can
+   * thereafter be used to parse any number of {@code String[] args}. The CLI XML is loaded with {@link Loader#DEFAULT}.
+   *
+   * @param cliURL The {@link URL} pointing to the CLI XML.
+   * @return The {@link CompiledSpec} of the CLI XML specification at the provided {@link URL}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code cliURL} is null.
+   * @throws IllegalArgumentException If an error was encountered while creating the {@link JAXBContext}, or an
+   *           {@link XMLStreamException} has occurred.
+   * @throws IllegalStateException If an instance of this the {@link XMLInputFactory} cannot be loaded.
+   */
+  public static CompiledSpec compile(final URL cliURL) throws IOException {
+    return compile(cliURL, Loader.DEFAULT);
+  }
 
-      if (maxUnbounded)
-        args.append(" [...]");
+  /**
+   * Validates and compiles the CLI XML specification at the provided {@link URL} into a {@link CompiledSpec} with the
+   * provided {@link Loader}.
+   *
+   * @param cliURL The {@link URL} pointing to the CLI XML.
+   * @param loader The {@link Loader} with which the CLI XML is to be loaded.
+   * @return The {@link CompiledSpec} of the CLI XML specification at the provided {@link URL}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code cliURL} or {@code loader} is null.
+   * @throws IllegalArgumentException If an error was encountered while creating the {@link JAXBContext}, or an
+   *           {@link XMLStreamException} has occurred.
+   * @throws IllegalStateException If an instance of this the {@link XMLInputFactory} cannot be loaded.
+   */
+  public static CompiledSpec compile(final URL cliURL, final Loader loader) throws IOException {
+    try (final InputStream in = cliURL.openStream()) {
+      return compile(in, loader, cliURL);
     }
+  }
 
-    formatter.printHelp(pw, HelpFormatter.DEFAULT_WIDTH, " ", args.substring(1), apacheOptions, HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD, null, false);
-    pw.flush();
+  static CompiledSpec compile(final InputStream in, final Loader loader) throws IOException {
+    return compile(in, loader, null);
   }
 
-  private static void trapPrintHelp(final org.apache.commons.cli.Options apacheOptions, final Cli.Arguments cliArguments, final String message, final PrintStream ps) {
-    if (message != null)
-      ps.println(message);
+  static CompiledSpec compile(final InputStream in, final Loader loader, final URL base) throws IOException {
+    final long start = ParseListeners.start();
+    final CompiledSpec spec = load(in, loader, base);
+    ParseListeners.end(Phase.LOAD, start, spec.getOptionCount());
+    return spec;
+  }
 
-    printHelp(apacheOptions, cliArguments, ps);
-    System.exit(1);
+  private static CompiledSpec load(final InputStream in, final Loader loader, final URL base) throws IOException {
+    try {
+      if (loader == Loader.STAX)
+        return SpecReader.read(getXmlInputFactory().createXMLStreamReader(in), base);
+
+      final long start = ParseListeners.start();
+      final Cli binding = SpecUnmarshaller.unmarshal(in);
+      ParseListeners.end(Phase.UNMARSHAL, start, binding.getOption().size());
+      return new CompiledSpec(binding);
+    }
+    catch (final FactoryConfigurationError e) {
+      throw new IllegalStateException(e);
+    }
+    catch (final JAXBException | SAXException | XMLStreamException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * Compiles the CLI XML specification in the provided {@link Cli} JAXB binding into a {@link CompiledSpec}, which can
+   * thereafter be used to parse any number of {@code String[] args}. The {@code binding} must not be modified after it has
+   * been provided to this method.
+   *
+   * @param binding The {@link Cli} JAXB binding representing the CLI XML.
+   * @return The {@link CompiledSpec} of the CLI XML specification in the provided {@link Cli} JAXB binding.
+   * @throws NullPointerException If {@code binding} is null.
+   */
+  public static CompiledSpec compile(final Cli binding) {
+    return new CompiledSpec(binding);
   }
 
   /**
@@ -140,6 +208,9 @@ public final class Options {
 
   /**
    * Parses {@code args} as per the CLI XML specification at the provided {@link URL}.
+   * <p>
+   * <b>Note:</b> This method validates and compiles the CLI XML specification on each invocation. If {@code args} are to be
+   * parsed more than once, {@link #compile(URL)} should be used instead.
    *
    * @param cliURL The {@link URL} pointing to the CLI XML.
    * @param args The {@code main(String[] args)}.
@@ -151,25 +222,7 @@ public final class Options {
    * @throws IllegalStateException If an instance of this the {@link XMLInputFactory} cannot be loaded.
    */
   public static Options parse(final URL cliURL, final String[] args) throws IOException {
-    try {
-      final Unmarshaller unmarshaller = JAXBContext.newInstance(Cli.class).createUnmarshaller();
-      final URL resource = Thread.currentThread().getContextClassLoader().getResource(schemaFile);
-      if (resource == null)
-        throw new IllegalStateException("Unable to find " + schemaFile + " in class loader " + Thread.currentThread().getContextClassLoader());
-
-      unmarshaller.setSchema(Options.schema == null ? Options.schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(resource) : Options.schema);
-
-      try (final InputStream in = cliURL.openStream()) {
-        final JAXBElement<Cli> element = unmarshaller.unmarshal(XMLInputFactory.newInstance().createXMLStreamReader(in), Cli.class);
-        return parse(element.getValue(), args);
-      }
-    }
-    catch (final FactoryConfigurationError e) {
-      throw new IllegalStateException(e);
-    }
-    catch (final JAXBException | SAXException | XMLStreamException e) {
-      throw new IllegalArgumentException(e);
-    }
+    return compile(cliURL).parse(args);
   }
 
   /**
@@ -179,307 +232,442 @@ public final class Options {
    * @param args The {@code main(String[] args)}.
    * @return The parsed {@link Options}.
    * @throws NullPointerException If {@code binding} or {@code args} is null.
-   * @throws IllegalStateException If an the class with {@code main(String[])} could not be determined.
    */
   public static Options parse(final Cli binding, final String[] args) {
-    final HashSet<String> requiredNames = new HashSet<>();
-    final HashMap<String,String> nameToAltName = new HashMap<>();
-    final org.apache.commons.cli.Options apacheOptions = new org.apache.commons.cli.Options();
-    apacheOptions.addOption(null, "help", false, "Print help and usage.");
-    short argumentsMinOccurs = 0;
-    short argumentsMaxOccurs = 0;
-    final Cli.Arguments cliArguments;
-    cliArguments = binding.getArguments();
-    if (cliArguments != null) {
-      argumentsMinOccurs = cliArguments.getMinOccurs();
-      argumentsMaxOccurs = "unbounded".equals(cliArguments.getMaxOccurs()) ? Short.MAX_VALUE : Short.parseShort(cliArguments.getMaxOccurs());
-      if (argumentsMaxOccurs < argumentsMinOccurs) {
-        if (logger.isErrorEnabled()) { logger.error("minOccurs > maxOccurs on <arguments> element"); }
-        System.exit(1);
-      }
-    }
+    return compile(binding).parse(args);
+  }
 
-    final List<Cli.Option> options = binding.getOption();
-    int i$ = 0;
-    if (options != null && (i$ = options.size()) > 0) {
-      if (options instanceof RandomAccess) {
-        int i = 0;
-        do // [RA]
-          parseOption(options.get(i), nameToAltName, requiredNames, apacheOptions);
-        while (++i < i$);
-      }
-      else {
-        final Iterator<Cli.Option> i = options.iterator();
-        do // [I]
-          parseOption(i.next(), nameToAltName, requiredNames, apacheOptions);
-        while (i.hasNext());
-      }
-    }
+  private final Option[] values;
+  private final Map<String,Integer> nameToHandle;
+  private final String mainClassName;
+  private final String[] args;
+  private volatile Collection<Option> options;
+  private final ArgumentList argumentList;
+  private volatile String[] arguments;
+  private final String command;
+  private final Options commandOptions;
 
-    final HashMap<String,Option> optionsMap = new HashMap<>();
-    HashSet<String> specifiedLongNames = null;
-    CommandLine commandLine = null;
-    if (args != null && args.length != 0) {
-      specifiedLongNames = new HashSet<>();
-      final CommandLineParser parser = new PosixParser();
-      do {
-        try {
-          commandLine = parser.parse(apacheOptions, args);
-        }
-        catch (final UnrecognizedOptionException e) {
-          if (e.getMessage().startsWith("Unrecognized option: ")) {
-            final String unrecognizedOption = e.getMessage().substring(21);
-            if (logger.isErrorEnabled()) { logger.error("Unrecognized option: " + unrecognizedOption); }
-            for (int j = 0, j$ = args.length; j < j$; ++j) // [A]
-              if (args[j].equals(unrecognizedOption))
-                args[j] = "--help";
-          }
-          else {
-            throw new IllegalArgumentException(e);
-          }
-        }
-        catch (final org.apache.commons.cli.ParseException e) {
-          Options.trapPrintHelp(apacheOptions, cliArguments, null, System.err);
-        }
-      }
-      while (commandLine == null);
-    }
+  /**
+   * Creates a new {@link Options} with the provided parsed options and unnamed arguments.
+   *
+   * @param mainClass The name of the class with {@code main(String[])}, or {@code null} if it is to be resolved lazily.
+   * @param args The {@code main(String[] args)}.
+   * @param values The parsed {@link Option}s by handle, with {@code null} members for options that are not present, or
+   *          {@code null} if there are no options.
+   * @param nameToHandle The map of option names to handles, or {@code null} if there are no options.
+   * @param argumentList The {@link ArgumentList} of the unnamed arguments.
+   */
+  Options(final String mainClass, final String[] args, final Option[] values, final Map<String,Integer> nameToHandle, final ArgumentList argumentList) {
+    this(mainClass, args, values, nameToHandle, argumentList, null, null);
+  }
 
-    final Collection<String> arguments = commandLine != null ? commandLine.getArgList() : null;
-    if (arguments != null && arguments.size() > 0) {
-      if (argumentsMaxOccurs < arguments.size() || arguments.size() < argumentsMinOccurs) {
-        Options.trapPrintHelp(apacheOptions, cliArguments, null, System.err);
-      }
-    }
-    else if (argumentsMinOccurs > 0) {
-      Options.trapPrintHelp(apacheOptions, cliArguments, null, System.err);
-    }
+  /**
+   * Creates a new {@link Options} with the provided parsed options and unnamed arguments, and the parsed {@link Options} of
+   * the selected subcommand.
+   *
+   * @param mainClass The name of the class with {@code main(String[])}, or {@code null} if it is to be resolved lazily.
+   * @param args The {@code main(String[] args)}.
+   * @param values The parsed {@link Option}s by handle, with {@code null} members for options that are not present, or
+   *          {@code null} if there are no options.
+   * @param nameToHandle The map of option names to handles, or {@code null} if there are no options.
+   * @param argumentList The {@link ArgumentList} of the unnamed arguments.
+   * @param command The name of the selected subcommand, or {@code null} if no subcommand was selected.
+   * @param commandOptions The parsed {@link Options} of the selected subcommand, or {@code null} if no subcommand was
+   *          selected.
+   */
+  Options(final String mainClass, final String[] args, final Option[] values, final Map<String,Integer> nameToHandle, final ArgumentList argumentList, final String command, final Options commandOptions) {
+    this.mainClassName = mainClass;
+    this.args = args;
+    this.values = values != null ? values : new Option[0];
+    this.nameToHandle = nameToHandle != null ? nameToHandle : Collections.EMPTY_MAP;
+    this.argumentList = argumentList;
+    this.command = command;
+    this.commandOptions = commandOptions;
+  }
 
-    if (commandLine != null) {
-      for (final org.apache.commons.cli.Option option : commandLine.getOptions()) { // [A]
-        if (specifiedLongNames == null)
-          specifiedLongNames = new HashSet<>();
+  /**
+   * Returns the name of the selected subcommand, or {@code null} if the spec does not have subcommands.
+   *
+   * @return The name of the selected subcommand, or {@code null} if the spec does not have subcommands.
+   */
+  public String getCommand() {
+    return command;
+  }
 
-        specifiedLongNames.add(option.getLongOpt());
-        if ("help".equals(option.getLongOpt()))
-          Options.trapPrintHelp(apacheOptions, cliArguments, null, System.out);
+  /**
+   * Returns the parsed {@link Options} of the selected subcommand, which are the options and unnamed arguments that follow
+   * the name of the subcommand, or {@code null} if the spec does not have subcommands.
+   *
+   * @return The parsed {@link Options} of the selected subcommand, or {@code null} if the spec does not have subcommands.
+   */
+  public Options getCommandOptions() {
+    return commandOptions;
+  }
 
-        final String optionName = option.getLongOpt() != null ? option.getLongOpt() : option.getOpt();
-        optionsMap.put(optionName, option.getValue() != null ? new Option(optionName, option.getValueSeparator(), option.getValues()) : new Option(optionName, option.getValueSeparator(), "true"));
-      }
-    }
+  /**
+   * Returns an array of unnamed arguments in original order, or {@code null} in case there are no unnamed arguments. The
+   * array is created on the first invocation of this method. To traverse a large number of unnamed arguments without
+   * copying them, use {@link #argumentStream()} or {@link #argumentSpliterator()} instead.
+   *
+   * @return An array of unnamed arguments in original order, or {@code null} in case there are no unnamed arguments.
+   */
+  public String[] getArguments() {
+    if (argumentList.size() == 0)
+      return null;
 
-    // See if some arguments are missing
-    if (requiredNames.size() != 0) {
-      if (specifiedLongNames != null)
-        requiredNames.removeAll(specifiedLongNames);
-
-      if (requiredNames.size() != 0) {
-        final StringBuilder builder = new StringBuilder();
-        for (final String longName : requiredNames) { // [S]
-          final String shortName = nameToAltName.get(longName);
-          if (shortName.equals(longName))
-            builder.append("\nMissing argument: -").append(shortName);
-          else
-            builder.append("\nMissing argument: -").append(shortName).append(",--").append(longName);
-        }
-
-        Options.trapPrintHelp(apacheOptions, cliArguments, builder.substring(1), System.out);
-      }
-    }
+    String[] arguments = this.arguments;
+    if (arguments == null)
+      this.arguments = arguments = argumentList.toArray();
 
-    // Include default values for options that are not specified
-    // Check pattern for specified and default options
-    if (i$ > 0) {
-      final StringBuilder builder = new StringBuilder();
-      if (options instanceof RandomAccess) {
-        int i = 0;
-        do // [RA]
-          parseOptionMap(options.get(i), optionsMap);
-        while (++i < i$);
-
-        i = 0;
-        do // [RA]
-          parseAppendBuilder(options.get(i), optionsMap, builder);
-        while (++i < i$);
-      }
-      else {
-        Iterator<Cli.Option> i = options.iterator();
-        do // [I]
-          parseOptionMap(i.next(), optionsMap);
-        while (i.hasNext());
-
-        i = options.iterator();
-        do // [I]
-          parseAppendBuilder(i.next(), optionsMap, builder);
-        while (i.hasNext());
-      }
+    return arguments;
+  }
 
-      if (builder.length() > 0)
-        Options.trapPrintHelp(apacheOptions, cliArguments, builder.substring(1), System.out);
-    }
+  /**
+   * Returns the number of unnamed arguments.
+   *
+   * @return The number of unnamed arguments.
+   */
+  public int getArgumentCount() {
+    return argumentList.size();
+  }
 
-    final StackTraceElement[] executionStack = new Throwable().getStackTrace();
-    String mainClassName = null;
-    for (int i = 0; i < executionStack.length; ++i) { // [A]
-      if (!executionStack[i].getClassName().equals(Options.class.getName())) {
-        mainClassName = executionStack[i].getClassName();
-        break;
-      }
-    }
+  /**
+   * Returns the unnamed argument at the provided index.
+   *
+   * @param index The index of the unnamed argument, in original order.
+   * @return The unnamed argument at the provided index.
+   * @throws IndexOutOfBoundsException If {@code index} is negative, or not less than {@link #getArgumentCount()}.
+   */
+  public String getArgument(final int index) {
+    if (index < 0 || index >= argumentList.size())
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + argumentList.size());
 
-    if (mainClassName == null)
-      throw new IllegalStateException("Could not determine main class");
+    return argumentList.get(index);
+  }
 
-    return new Options(mainClassName, args, optionsMap.values(), arguments == null || arguments.size() == 0 ? null : arguments.toArray(new String[arguments.size()]));
+  /**
+   * Returns a {@link Spliterator} over the unnamed arguments in original order, which reads the arguments directly from the
+   * {@code args} and argument files that were parsed, without copying them. The {@link Spliterator} is
+   * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, and splits in balanced halves for parallel traversal.
+   *
+   * @return A {@link Spliterator} over the unnamed arguments in original order.
+   */
+  public Spliterator<String> argumentSpliterator() {
+    return new ArgumentSpliterator(argumentList, 0, argumentList.size());
   }
 
-  private static void parseAppendBuilder(final Cli.Option option, final HashMap<String,Option> optionsMap, final StringBuilder builder) {
-    if (option.getArgument() != null && option.getArgument().getPattern() != null) {
-      final String optionName = option.getName().getLong() != null ? option.getName().getLong() : option.getName().getShort();
-      final Option opt = optionsMap.get(optionName);
-      if (opt != null) {
-        for (final String value : opt.getValues()) { // [A]
-          if (!value.matches(option.getArgument().getPattern())) {
-            if (option.getName().getLong() == null || option.getName().getShort() == null)
-              builder.append("\nIncorrect argument form: -").append(optionName);
-            else
-              builder.append("\nIncorrect argument form: -").append(option.getName().getShort()).append(",--").append(option.getName().getLong());
+  /**
+   * Returns a sequential {@link Stream} over the unnamed arguments in original order, which reads the arguments directly
+   * from the {@code args} and argument files that were parsed, without copying them. The returned {@link Stream} can be
+   * made parallel with {@link Stream#parallel()}.
+   *
+   * @return A sequential {@link Stream} over the unnamed arguments in original order.
+   */
+  public Stream<String> argumentStream() {
+    return StreamSupport.stream(argumentSpliterator(), false);
+  }
 
-            builder.append(' ').append(value).append("\n  Required: ").append(option.getArgument().getPattern());
-          }
-        }
-      }
+  /**
+   * Returns all {@link Option}s in this instance.
+   *
+   * @return All {@link Option}s in this instance.
+   */
+  public Collection<Option> getOptions() {
+    Collection<Option> options = this.options;
+    if (options == null) {
+      final ArrayList<Option> list = new ArrayList<>(values.length);
+      for (final Option option : values) // [A]
+        if (option != null)
+          list.add(option);
+
+      this.options = options = Collections.unmodifiableCollection(list);
     }
+
+    return options;
   }
 
-  private static void parseOptionMap(final Cli.Option option, final HashMap<String,Option> optionsMap) {
-    if (option.getArgument() != null && option.getArgument().getDefault() != null) {
-      final String optionName = option.getName().getLong() != null ? option.getName().getLong() : option.getName().getShort();
-      if (!optionsMap.containsKey(optionName)) {
-        final String valueSeparator = option.getArgument().getValueSeparator();
-        final String defaultValue = option.getArgument().getDefault();
-        optionsMap.put(optionName, valueSeparator != null ? new Option(optionName, valueSeparator.charAt(0), defaultValue) : new Option(optionName, defaultValue));
-      }
-    }
+  private Option findOption(final String name) {
+    final Integer handle = nameToHandle.get(name);
+    return handle == null ? null : values[handle];
   }
 
-  private static void parseOption(final Cli.Option option, final HashMap<String,String> nameToAltName, final HashSet<String> requiredNames, final org.apache.commons.cli.Options apacheOptions) {
-    final Cli.Option.Name optionName = option.getName();
-    final String longName = optionName.getLong();
-    final String shortName = optionName.getShort();
-    final String name = longName != null ? longName : shortName;
-    if (longName == null && shortName == null) {
-      if (logger.isErrorEnabled()) { logger.error("both [long] and [short] option names are null in cli spec"); }
-      System.exit(1);
-    }
+  private static Option getValuedOption(final Option option) {
+    return option == null || option.getValueCount() == 0 ? null : option;
+  }
 
-    nameToAltName.put(name, shortName != null ? shortName : longName);
-    OptionBuilder.withLongOpt(name.equals(longName) ? longName : null);
+  private Option getValuedOption(final String name) {
+    return getValuedOption(findOption(name));
+  }
 
-    // Record which options are required
-    if (option.getArgument() != null) {
-      final Cli.Option.Argument argument = option.getArgument();
-      final boolean isRequired = Use.REQUIRED == argument.getUse();
-      if (isRequired) {
-        OptionBuilder.isRequired();
-        requiredNames.add(longName);
-      }
+  private Option getValuedOption(final int handle) {
+    return getValuedOption(values[handle]);
+  }
 
-      final int maxOccurs = argument.getMaxOccurs() == null ? 1 : "unbounded".equals(argument.getMaxOccurs()) ? Integer.MAX_VALUE : Integer.parseInt(argument.getMaxOccurs());
-      if (maxOccurs == 1) {
-        if (isRequired)
-          OptionBuilder.hasArgs(1);
-        else
-          OptionBuilder.hasOptionalArgs(1);
-      }
-      else if (maxOccurs == Integer.MAX_VALUE) {
-        if (isRequired)
-          OptionBuilder.hasArgs();
-        else
-          OptionBuilder.hasOptionalArgs();
-      }
-      else {
-        if (isRequired)
-          OptionBuilder.hasArgs(maxOccurs);
-        else
-          OptionBuilder.hasOptionalArgs(maxOccurs);
-      }
+  /**
+   * Returns the option string for the given {@code name}. If the option has more than one value, the values are joined with
+   * its value separator.
+   *
+   * @param name The name of the {@link Option}.
+   * @return The option string for the given {@code name}, or {@code null} if the option is not present.
+   */
+  public String getOption(final String name) {
+    final Option option = getValuedOption(name);
+    return option == null ? null : option.getValue();
+  }
 
-      final char valueSeparator = argument.getValueSeparator() != null ? argument.getValueSeparator().charAt(0) : ' ';
-      OptionBuilder.withArgName(formatArgumentName(argument.getLabel(), maxOccurs, valueSeparator));
-      OptionBuilder.withValueSeparator(valueSeparator);
-      if (option.getDescription() == null) {
-        if (logger.isErrorEnabled()) { logger.error("missing <description> for " + name + " option"); }
-        System.exit(1);
-      }
+  /**
+   * Returns the option string for the given {@code handle}. If the option has more than one value, the values are joined with
+   * its value separator.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @return The option string for the given {@code handle}, or {@code null} if the option is not present.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public String getOption(final int handle) {
+    final Option option = getValuedOption(handle);
+    return option == null ? null : option.getValue();
+  }
 
-      final StringBuilder description = new StringBuilder(option.getDescription());
-      if (option.getArgument().getDefault() != null)
-        description.append("\nDefault: ").append(option.getArgument().getDefault());
+  /**
+   * Returns the first value of the option with the given {@code name} as an {@code int}, or {@code defaultValue} if the
+   * option is not present. The values of the option are converted once, and cached.
+   *
+   * @param name The name of the {@link Option}.
+   * @param defaultValue The value to return if the option is not present.
+   * @return The first value of the option with the given {@code name} as an {@code int}, or {@code defaultValue} if the
+   *         option is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code int}.
+   */
+  public int getInt(final String name, final int defaultValue) {
+    final Option option = getValuedOption(name);
+    return option == null ? defaultValue : option.getInts()[0];
+  }
 
-      OptionBuilder.withDescription(description.toString());
-    }
+  /**
+   * Returns the first value of the option with the given {@code handle} as an {@code int}, or {@code defaultValue} if the
+   * option is not present. The values of the option are converted once, and cached.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @param defaultValue The value to return if the option is not present.
+   * @return The first value of the option with the given {@code handle} as an {@code int}, or {@code defaultValue} if the
+   *         option is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code int}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public int getInt(final int handle, final int defaultValue) {
+    final Option option = getValuedOption(handle);
+    return option == null ? defaultValue : option.getInts()[0];
+  }
 
-    apacheOptions.addOption(OptionBuilder.create(shortName));
+  /**
+   * Returns the first value of the option with the given {@code name} as a {@code long}, or {@code defaultValue} if the
+   * option is not present. The values of the option are converted once, and cached.
+   *
+   * @param name The name of the {@link Option}.
+   * @param defaultValue The value to return if the option is not present.
+   * @return The first value of the option with the given {@code name} as a {@code long}, or {@code defaultValue} if the
+   *         option is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code long}.
+   */
+  public long getLong(final String name, final long defaultValue) {
+    final Option option = getValuedOption(name);
+    return option == null ? defaultValue : option.getLongs()[0];
   }
 
-  private final Map<String,Option> optionNameToOption;
-  private final String mainClassName;
-  private final String[] args;
-  private final Collection<Option> options;
-  private final String[] arguments;
+  /**
+   * Returns the first value of the option with the given {@code handle} as a {@code long}, or {@code defaultValue} if the
+   * option is not present. The values of the option are converted once, and cached.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @param defaultValue The value to return if the option is not present.
+   * @return The first value of the option with the given {@code handle} as a {@code long}, or {@code defaultValue} if the
+   *         option is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code long}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public long getLong(final int handle, final long defaultValue) {
+    final Option option = getValuedOption(handle);
+    return option == null ? defaultValue : option.getLongs()[0];
+  }
 
-  private Options(final String mainClass, final String[] args, final Collection<Option> options, final String[] arguments) {
-    this.mainClassName = mainClass;
-    this.args = args;
-    final int i$;
-    if (options == null || (i$ = options.size()) == 0) {
-      this.options = Collections.EMPTY_LIST;
-      this.optionNameToOption = Collections.EMPTY_MAP;
-    }
-    else {
-      this.options = Collections.unmodifiableCollection(options);
-      this.optionNameToOption = new HashMap<>(i$);
-      for (final Option option : this.options) // [C]
-        optionNameToOption.put(option.getName(), option);
-    }
-    this.arguments = arguments;
+  /**
+   * Returns the first value of the option with the given {@code name} as a {@code double}, or {@code defaultValue} if the
+   * option is not present. The values of the option are converted once, and cached.
+   *
+   * @param name The name of the {@link Option}.
+   * @param defaultValue The value to return if the option is not present.
+   * @return The first value of the option with the given {@code name} as a {@code double}, or {@code defaultValue} if the
+   *         option is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code double}.
+   */
+  public double getDouble(final String name, final double defaultValue) {
+    final Option option = getValuedOption(name);
+    return option == null ? defaultValue : option.getDoubles()[0];
   }
 
   /**
-   * Returns an array of unnamed arguments in original order, or {@code null} in case there are no unnamed arguments.
+   * Returns the first value of the option with the given {@code handle} as a {@code double}, or {@code defaultValue} if the
+   * option is not present. The values of the option are converted once, and cached.
    *
-   * @return An array of unnamed arguments in original order, or {@code null} in case there are no unnamed arguments.
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @param defaultValue The value to return if the option is not present.
+   * @return The first value of the option with the given {@code handle} as a {@code double}, or {@code defaultValue} if the
+   *         option is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code double}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
    */
-  public String[] getArguments() {
-    return arguments;
+  public double getDouble(final int handle, final double defaultValue) {
+    final Option option = getValuedOption(handle);
+    return option == null ? defaultValue : option.getDoubles()[0];
   }
 
   /**
-   * Returns all {@link Option}s in this instance.
+   * Returns the first value of the option with the given {@code name} as a {@code boolean}, or {@code false} if the option
+   * is not present. An option without an argument has the value {@code true} if present. Values of {@code true},
+   * {@code yes} and {@code on} are {@code true}, and values of {@code false}, {@code no} and {@code off} are {@code false},
+   * ignoring case. The values of the option are converted once, and cached.
    *
-   * @return All {@link Option}s in this instance.
+   * @param name The name of the {@link Option}.
+   * @return The first value of the option with the given {@code name} as a {@code boolean}, or {@code false} if the option
+   *         is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code boolean}.
    */
-  public Collection<Option> getOptions() {
-    return options;
+  public boolean getBoolean(final String name) {
+    final Option option = getValuedOption(name);
+    return option != null && option.getBooleans()[0];
   }
 
   /**
-   * Returns the first option string for the given {@code name}.
+   * Returns the first value of the option with the given {@code handle} as a {@code boolean}, or {@code false} if the option
+   * is not present. An option without an argument has the value {@code true} if present. Values of {@code true},
+   * {@code yes} and {@code on} are {@code true}, and values of {@code false}, {@code no} and {@code off} are {@code false},
+   * ignoring case. The values of the option are converted once, and cached.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @return The first value of the option with the given {@code handle} as a {@code boolean}, or {@code false} if the option
+   *         is not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code boolean}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public boolean getBoolean(final int handle) {
+    final Option option = getValuedOption(handle);
+    return option != null && option.getBooleans()[0];
+  }
+
+  /**
+   * Returns the values of the option with the given {@code name} as an {@code int[]}, or {@code null} if the option is not
+   * present. The values of the option are converted once, and the cached array is returned, which must not be modified.
    *
    * @param name The name of the {@link Option}.
-   * @return The first option string for the given {@code name}.
+   * @return The values of the option with the given {@code name} as an {@code int[]}, or {@code null} if the option is not
+   *         present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code int}.
    */
-  public String getOption(final String name) {
-    final Option options = optionNameToOption.get(name);
-    if (options == null || options.getValues().length == 0)
-      return null;
+  public int[] getIntArray(final String name) {
+    final Option option = getValuedOption(name);
+    return option == null ? null : option.getInts();
+  }
 
-    if (options.getValues().length == 1)
-      return options.getValues()[0];
+  /**
+   * Returns the values of the option with the given {@code handle} as an {@code int[]}, or {@code null} if the option is not
+   * present. The values of the option are converted once, and the cached array is returned, which must not be modified.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @return The values of the option with the given {@code handle} as an {@code int[]}, or {@code null} if the option is not
+   *         present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code int}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public int[] getIntArray(final int handle) {
+    final Option option = getValuedOption(handle);
+    return option == null ? null : option.getInts();
+  }
+
+  /**
+   * Returns the values of the option with the given {@code name} as a {@code long[]}, or {@code null} if the option is not
+   * present. The values of the option are converted once, and the cached array is returned, which must not be modified.
+   *
+   * @param name The name of the {@link Option}.
+   * @return The values of the option with the given {@code name} as a {@code long[]}, or {@code null} if the option is not
+   *         present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code long}.
+   */
+  public long[] getLongArray(final String name) {
+    final Option option = getValuedOption(name);
+    return option == null ? null : option.getLongs();
+  }
+
+  /**
+   * Returns the values of the option with the given {@code handle} as a {@code long[]}, or {@code null} if the option is not
+   * present. The values of the option are converted once, and the cached array is returned, which must not be modified.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @return The values of the option with the given {@code handle} as a {@code long[]}, or {@code null} if the option is not
+   *         present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code long}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public long[] getLongArray(final int handle) {
+    final Option option = getValuedOption(handle);
+    return option == null ? null : option.getLongs();
+  }
+
+  /**
+   * Returns the values of the option with the given {@code name} as a {@code double[]}, or {@code null} if the option is not
+   * present. The values of the option are converted once, and the cached array is returned, which must not be modified.
+   *
+   * @param name The name of the {@link Option}.
+   * @return The values of the option with the given {@code name} as a {@code double[]}, or {@code null} if the option is
+   *         not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code double}.
+   */
+  public double[] getDoubleArray(final String name) {
+    final Option option = getValuedOption(name);
+    return option == null ? null : option.getDoubles();
+  }
 
-    return Arrays.stream(options.getValues()).reduce(String.valueOf(options.getValueSeparator()), String::concat);
+  /**
+   * Returns the values of the option with the given {@code handle} as a {@code double[]}, or {@code null} if the option is not
+   * present. The values of the option are converted once, and the cached array is returned, which must not be modified.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @return The values of the option with the given {@code handle} as a {@code double[]}, or {@code null} if the option is
+   *         not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code double}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public double[] getDoubleArray(final int handle) {
+    final Option option = getValuedOption(handle);
+    return option == null ? null : option.getDoubles();
+  }
+
+  /**
+   * Returns the values of the option with the given {@code name} as a {@code boolean[]}, or {@code null} if the option is
+   * not present. The values of the option are converted once, and the cached array is returned, which must not be modified.
+   *
+   * @param name The name of the {@link Option}.
+   * @return The values of the option with the given {@code name} as a {@code boolean[]}, or {@code null} if the option is
+   *         not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code boolean}.
+   */
+  public boolean[] getBooleanArray(final String name) {
+    final Option option = getValuedOption(name);
+    return option == null ? null : option.getBooleans();
+  }
+
+  /**
+   * Returns the values of the option with the given {@code handle} as a {@code boolean[]}, or {@code null} if the option is
+   * not present. The values of the option are converted once, and the cached array is returned, which must not be modified.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @return The values of the option with the given {@code handle} as a {@code boolean[]}, or {@code null} if the option is
+   *         not present.
+   * @throws IllegalArgumentException If a value of the option is not a valid {@code boolean}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public boolean[] getBooleanArray(final int handle) {
+    final Option option = getValuedOption(handle);
+    return option == null ? null : option.getBooleans();
   }
 
   /**
@@ -489,7 +677,19 @@ public final class Options {
    * @return An array of all option strings for the given {@code name}.
    */
   public String[] getOptions(final String name) {
-    final Option reqOption = optionNameToOption.get(name);
+    final Option reqOption = findOption(name);
+    return reqOption != null ? reqOption.getValues() : null;
+  }
+
+  /**
+   * Returns an array of all option strings for the given {@code handle}.
+   *
+   * @param handle The handle of the {@link Option}, as per {@link CompiledSpec#getHandle(String)}.
+   * @return An array of all option strings for the given {@code handle}.
+   * @throws ArrayIndexOutOfBoundsException If {@code handle} is not a handle of the {@link CompiledSpec} of this instance.
+   */
+  public String[] getOptions(final int handle) {
+    final Option reqOption = values[handle];
     return reqOption != null ? reqOption.getValues() : null;
   }
 
@@ -506,9 +706,82 @@ public final class Options {
       ps.print(" " + arg);
   }
 
+  /**
+   * Holder of the name of the main class of this JVM, which is resolved once when it is first requested.
+   */
+  private static final class MainClassName {
+    private static final String value = resolveMainClassName();
+  }
+
+  /**
+   * Returns the name of the main class of this JVM, as per the {@code sun.java.command} system property, or {@code null} if
+   * it is not available. If the JVM was launched with {@code -jar}, the {@code Main-Class} of the jar is returned. No stack
+   * is captured, so this is the class with which the JVM was launched, which is not necessarily the caller of
+   * {@link CompiledSpec#parse(String[])}.
+   */
+  private static String resolveMainClassName() {
+    final String command = System.getProperty("sun.java.command");
+    if (command != null && command.length() > 0) {
+      final String jar = getJar(command, System.getProperty("java.class.path"));
+      if (jar == null) {
+        // The name of a class cannot contain a space
+        final int index = command.indexOf(' ');
+        return index == -1 ? command : command.substring(0, index);
+      }
+
+      try (final JarFile jarFile = new JarFile(jar)) {
+        final Manifest manifest = jarFile.getManifest();
+        final String mainClass = manifest == null ? null : manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+        return mainClass != null ? mainClass : jar;
+      }
+      catch (final IOException | SecurityException e) {
+        return jar;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the path of the jar in the provided {@code sun.java.command} if the JVM was launched with {@code -jar}, or
+   * {@code null} otherwise. The path may contain spaces, and is therefore matched against {@code java.class.path}, which is
+   * the path of the jar when launched with {@code -jar}, or otherwise against the files that exist.
+   *
+   * @param command The value of the {@code sun.java.command} system property.
+   * @param classPath The value of the {@code java.class.path} system property.
+   * @return The path of the jar in {@code command}, or {@code null} if the JVM was not launched with {@code -jar}.
+   */
+  static String getJar(final String command, final String classPath) {
+    if (classPath != null && classPath.endsWith(".jar") && command.startsWith(classPath) && (command.length() == classPath.length() || command.charAt(classPath.length()) == ' '))
+      return classPath;
+
+    // Otherwise, the first existing file that ends with ".jar" before a space, or the first word if it ends with ".jar"
+    for (int index = command.indexOf(".jar "); index != -1; index = command.indexOf(".jar ", index + 1)) { // [N]
+      final String jar = command.substring(0, index + 4);
+      if (new File(jar).isFile())
+        return jar;
+    }
+
+    final int index = command.indexOf(' ');
+    final String name = index == -1 ? command : command.substring(0, index);
+    return name.endsWith(".jar") ? name : null;
+  }
+
+  /**
+   * Returns the name of the class with {@code main(String[])}, which is resolved once for this JVM when it is first requested
+   * if it was not provided to {@link CompiledSpec#parse(Class,String[])}. A resolved name is that of the main class with
+   * which the JVM was launched, rather than that of the caller of the parse.
+   *
+   * @return The name of the class with {@code main(String[])}, or {@code null} if it could not be determined.
+   */
+  String getMainClassName() {
+    final String mainClassName = this.mainClassName;
+    return mainClassName != null ? mainClassName : MainClassName.value;
+  }
+
   @Override
   public String toString() {
-    final StringBuilder buffer = new StringBuilder(mainClassName);
+    final StringBuilder buffer = new StringBuilder(String.valueOf(getMainClassName()));
     if (args.length == 0)
       return buffer.toString();
 
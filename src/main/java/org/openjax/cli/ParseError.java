@@ -0,0 +1,143 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.util.List;
+
+/**
+ * Immutable error of parsing {@code String[] args}, as collected by {@link CompiledSpec#tryParse(String[])}.
+ */
+public final class ParseError {
+  /**
+   * The kind of a {@link ParseError}.
+   */
+  public enum Kind {
+    /** An option that is not specified. */
+    UNRECOGNIZED_OPTION,
+    /** A prefix of an option that matches more than one option. */
+    AMBIGUOUS_OPTION,
+    /** A value of an option that does not accept a value, or a value in excess of the {@code maxOccurs} of an option. */
+    UNEXPECTED_VALUE,
+    /** An option with a required argument that is specified without a value. */
+    MISSING_VALUE,
+    /** A required option that is not specified. */
+    MISSING_OPTION,
+    /** A value of an option that does not match its pattern or type. */
+    INVALID_VALUE,
+    /** A number of unnamed arguments that is not within the {@code minOccurs} and {@code maxOccurs} of the spec. */
+    ARGUMENT_COUNT,
+    /** A subcommand that is not specified, or that is not specified in the spec. */
+    INVALID_COMMAND,
+    /** An argument file that cannot be read or tokenized. */
+    ARGUMENT_FILE,
+    /** The implicit {@code --help} option. */
+    HELP
+  }
+
+  /**
+   * Returns the messages of the provided errors, separated by {@code '\n'}, or {@code null} if there are none.
+   */
+  static String toMessage(final List<ParseError> errors) {
+    final int size = errors.size();
+    if (size == 0)
+      return null;
+
+    if (size == 1)
+      return errors.get(0).message;
+
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < size; ++i) // [RA]
+      builder.append('\n').append(errors.get(i).message);
+
+    return builder.substring(1);
+  }
+
+  private final Kind kind;
+  private final String option;
+  private final String value;
+  private final int index;
+  private final String message;
+
+  ParseError(final Kind kind, final String option, final String value, final int index, final String message) {
+    this.kind = kind;
+    this.option = option;
+    this.value = value;
+    this.index = index;
+    this.message = message;
+  }
+
+  /**
+   * Returns a {@link ParseError} with the index of this error in {@code args} incremented by the provided offset, such as
+   * of the {@code args} of a subcommand in the {@code args} of its enclosing command.
+   */
+  ParseError offset(final int offset) {
+    return index == -1 || offset == 0 ? this : new ParseError(kind, option, value, index + offset, message);
+  }
+
+  /**
+   * Returns the {@link Kind} of this error.
+   *
+   * @return The {@link Kind} of this error.
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Returns the display name of the option of this error, such as {@code "-C,--config"}, or {@code null} if this error
+   * does not pertain to a specified option.
+   *
+   * @return The display name of the option of this error, or {@code null} if this error does not pertain to a specified
+   *         option.
+   */
+  public String getOption() {
+    return option;
+  }
+
+  /**
+   * Returns the token or value of this error, or {@code null} if this error does not pertain to a token or value.
+   *
+   * @return The token or value of this error, or {@code null} if this error does not pertain to a token or value.
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the index in {@code args} of the token of this error, which is the index of the {@code @path} argument for
+   * tokens of an argument file, or {@code -1} if this error does not pertain to a token.
+   *
+   * @return The index in {@code args} of the token of this error, or {@code -1} if this error does not pertain to a token.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns the message of this error, as it is printed before help by {@link CompiledSpec#parse(String[])}.
+   *
+   * @return The message of this error.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return kind + (index == -1 ? "" : "@" + index) + ": " + message;
+  }
+}
@@ -0,0 +1,71 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+/**
+ * Service provider interface for listeners of the phases of loading CLI XML and of parsing {@code args}, such as for
+ * metrics. Implementations are located with {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/org.openjax.cli.ParseListener} when CLI XML is first loaded or compiled. On Java 11
+ * and above, a listener that records each phase as a {@code org.openjax.cli.Phase} JDK Flight Recorder event is also
+ * registered if {@code -Dorg.openjax.cli.jfr=true}.
+ * <p>
+ * Phases are only timed while at least one listener {@linkplain #isEnabled() is enabled}. Listeners are notified on the
+ * thread of the phase, and must therefore be thread-safe.
+ */
+public interface ParseListener {
+  /** The phases of loading CLI XML and of parsing {@code args}. */
+  enum Phase {
+    /** Loading and compiling CLI XML, which includes the phases that follow. The count is the number of options. */
+    LOAD,
+    /** Creating the JAXB {@code Unmarshaller} with the XML Schema of the CLI XML, with {@link Options.Loader#JAXB}. */
+    SCHEMA,
+    /**
+     * Unmarshalling the CLI XML with JAXB, which is validated against the XML Schema as it is unmarshalled, with
+     * {@link Options.Loader#JAXB}. The count is the number of options.
+     */
+    UNMARSHAL,
+    /** Building the option table of a {@link CompiledSpec}. The count is the number of options. */
+    BUILD,
+    /** Tokenizing {@code args}. The count is the length of {@code args}. */
+    TOKENIZE,
+    /** Filling the default values of options that are not specified. The count is the number of default values filled. */
+    DEFAULTS,
+    /** Validating the values of options against their patterns and types. The count is the number of values validated. */
+    VALIDATE,
+    /** Rendering help, which is rendered once per width. The count is the width. */
+    HELP
+  }
+
+  /**
+   * Returns whether this listener is enabled, which is checked before each phase is timed. The default implementation
+   * returns {@code true}.
+   *
+   * @return Whether this listener is enabled.
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * Called when a phase has completed.
+   *
+   * @param phase The {@link Phase}.
+   * @param nanos The duration of the phase in nanoseconds.
+   * @param count The count of the phase, as per the {@link Phase}.
+   */
+  void onPhase(Phase phase, long nanos, int count);
+}
@@ -0,0 +1,108 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.util.ArrayList;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.openjax.cli.ParseListener.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The registered {@link ParseListener}s, which time each {@link Phase} only while at least one of them is enabled.
+ *
+ * <pre>
+ * final long start = ParseListeners.start();
+ * ...
+ * ParseListeners.end(Phase.TOKENIZE, start, args.length);
+ * </pre>
+ */
+final class ParseListeners {
+  private static final Logger logger = LoggerFactory.getLogger(ParseListeners.class);
+  private static final String JFR_LISTENER = "org.openjax.cli.JfrParseListener";
+  private static final ParseListener[] listeners = load();
+
+  private static ParseListener[] load() {
+    final ArrayList<ParseListener> listeners = new ArrayList<>();
+    // ServiceLoader is only run if a provider configuration file is present, so as to not add to the first parse otherwise
+    final ClassLoader classLoader = ParseListeners.class.getClassLoader();
+    final String resource = "META-INF/services/" + ParseListener.class.getName();
+    if (classLoader != null ? classLoader.getResource(resource) != null : ClassLoader.getSystemResource(resource) != null) {
+      try {
+        for (final ParseListener listener : ServiceLoader.load(ParseListener.class, classLoader)) // [I]
+          listeners.add(listener);
+      }
+      catch (final ServiceConfigurationError e) {
+        if (logger.isWarnEnabled()) { logger.warn("Unable to load " + ParseListener.class.getName() + ": " + e.getMessage()); }
+      }
+    }
+
+    // JfrParseListener is a Java 11 class of the multi-release JAR, and is absent on Java 8. It is opt-in, because JFR
+    // metadata is otherwise initialized on each start, even without a recording
+    if ("true".equalsIgnoreCase(System.getProperty("org.openjax.cli.jfr"))) {
+      try {
+        listeners.add((ParseListener)Class.forName(JFR_LISTENER).getDeclaredConstructor().newInstance());
+      }
+      catch (final ReflectiveOperationException | LinkageError e) {
+      }
+    }
+
+    return listeners.toArray(new ParseListener[listeners.size()]);
+  }
+
+  /**
+   * Returns the start time of a phase in nanoseconds if a listener is enabled, and otherwise {@code 0}.
+   *
+   * @return The start time of a phase in nanoseconds if a listener is enabled, and otherwise {@code 0}.
+   */
+  static long start() {
+    for (final ParseListener listener : listeners) // [A]
+      if (listener.isEnabled())
+        return System.nanoTime();
+
+    return 0;
+  }
+
+  /**
+   * Notifies the enabled listeners of the completion of the provided phase, if it was timed.
+   *
+   * @param phase The {@link Phase}.
+   * @param start The start time of the phase, as returned by {@link #start()}.
+   * @param count The count of the phase, as per the {@link Phase}.
+   */
+  static void end(final Phase phase, final long start, final int count) {
+    if (start == 0)
+      return;
+
+    final long nanos = System.nanoTime() - start;
+    for (final ParseListener listener : listeners) { // [A]
+      if (listener.isEnabled()) {
+        try {
+          listener.onPhase(phase, nanos, count);
+        }
+        catch (final RuntimeException e) {
+          if (logger.isWarnEnabled()) { logger.warn(listener.getClass().getName() + " failed on " + phase, e); }
+        }
+      }
+    }
+  }
+
+  private ParseListeners() {
+  }
+}
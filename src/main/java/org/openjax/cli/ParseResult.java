@@ -0,0 +1,89 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable result of parsing {@code String[] args} with {@link CompiledSpec#tryParse(String[])}, which is either the
+ * parsed {@link Options}, or the {@link ParseError}s that were encountered.
+ */
+public final class ParseResult {
+  private final String[] args;
+  private final Options options;
+  private final List<ParseError> errors;
+
+  ParseResult(final String[] args, final Options options, final List<ParseError> errors) {
+    this.args = args;
+    this.options = options;
+    this.errors = errors.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(errors);
+  }
+
+  /**
+   * Returns the {@code String[] args} that were parsed.
+   *
+   * @return The {@code String[] args} that were parsed.
+   */
+  public String[] getArgs() {
+    return args;
+  }
+
+  /**
+   * Returns whether {@code args} were parsed without error.
+   *
+   * @return Whether {@code args} were parsed without error.
+   */
+  public boolean isSuccess() {
+    return errors.isEmpty();
+  }
+
+  /**
+   * Returns the parsed {@link Options}, or {@code null} if an error was encountered.
+   *
+   * @return The parsed {@link Options}, or {@code null} if an error was encountered.
+   */
+  public Options getOptions() {
+    return options;
+  }
+
+  /**
+   * Returns the {@link ParseError}s that were encountered, in the order of the phases of parsing in which they were
+   * encountered, which is empty if {@code args} were parsed without error.
+   *
+   * @return The unmodifiable {@link List} of {@link ParseError}s that were encountered.
+   */
+  public List<ParseError> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Returns the messages of the errors that were encountered, separated by {@code '\n'}, or {@code null} if {@code args}
+   * were parsed without error.
+   *
+   * @return The messages of the errors that were encountered, or {@code null} if {@code args} were parsed without error.
+   */
+  public String getError() {
+    return ParseError.toMessage(errors);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(args) + (errors.isEmpty() ? " OK" : " ERROR " + errors);
+  }
+}
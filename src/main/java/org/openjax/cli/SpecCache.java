@@ -0,0 +1,323 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
+
+import org.openjax.cli.ParseListener.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An on-disk cache of {@link CompiledSpec}s, which stores each CLI XML specification that has been validated and compiled
+ * as a compact binary snapshot in a cache directory. Snapshots are keyed by a hash of the bytes of the CLI XML and the
+ * version of this library, and are memory-mapped on subsequent compilations of the same CLI XML, whereby the loading and
+ * validation of the CLI XML against its schema is skipped entirely.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * public class MyApp {
+ *   public void main(String[] args) {
+ *     SpecCache cache = new SpecCache(Paths.get(System.getProperty("user.home"), ".cache", "myapp"));
+ *     Options options = cache.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml")).parse(args);
+ *     ...
+ *   }
+ * }
+ * </code>
+ * </pre>
+ *
+ * Instances of this class are thread-safe. Concurrent processes sharing a cache directory are safe as well, because each
+ * snapshot is written to a temporary file that is atomically moved into place.
+ */
+public final class SpecCache {
+  private static final Logger logger = LoggerFactory.getLogger(SpecCache.class);
+  private static final int MAGIC = 0x434C4953; // "CLIS"
+  private static final int FORMAT_VERSION = 4;
+  private static final String SUFFIX = ".spec";
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private static String getLibraryVersion() {
+    final String version = SpecCache.class.getPackage().getImplementationVersion();
+    return FORMAT_VERSION + ":" + (version != null ? version : "");
+  }
+
+  private static byte[] readBytes(final URL url) throws IOException {
+    try (final InputStream in = url.openStream()) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[8192];
+      for (int len; (len = in.read(buffer)) != -1;)
+        out.write(buffer, 0, len);
+
+      return out.toByteArray();
+    }
+  }
+
+  static String hash(final byte[] bytes) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(getLibraryVersion().getBytes(StandardCharsets.UTF_8));
+      final byte[] hash = digest.digest(bytes);
+      final char[] chars = new char[hash.length * 2];
+      for (int i = 0, j = 0; i < hash.length; ++i) { // [A]
+        chars[j++] = HEX[(hash[i] >> 4) & 0xf];
+        chars[j++] = HEX[hash[i] & 0xf];
+      }
+
+      return new String(chars);
+    }
+    catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void writeString(final DataOutputStream out, final String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    }
+    else {
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * Returns a count of elements read from {@code buffer}, which is checked against the remaining bytes before an array of
+   * it is allocated, of which each element occupies at least {@code minBytes}.
+   */
+  private static int readCount(final ByteBuffer buffer, final int minBytes, final boolean nullable) throws IOException {
+    final int count = buffer.getInt();
+    if (count == -1 && nullable)
+      return count;
+
+    if (count < 0 || count > buffer.remaining() / minBytes)
+      throw new IOException("Corrupt snapshot: invalid count " + count + " with " + buffer.remaining() + " bytes remaining");
+
+    return count;
+  }
+
+  private static String readString(final ByteBuffer buffer) throws IOException {
+    final int length = readCount(buffer, 1, true);
+    if (length == -1)
+      return null;
+
+    final byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  static void writeSnapshot(final CompiledSpec spec, final DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    writeString(out, spec.getArgumentsLabel());
+    out.writeShort(spec.getArgumentsMinOccurs());
+    out.writeShort(spec.getArgumentsMaxOccurs());
+    out.writeInt(spec.getOptionCount());
+    for (int i = 0, i$ = spec.getOptionCount(); i < i$; ++i) { // [N]
+      final OptionSpec option = spec.getOptionSpec(i);
+      writeString(out, option.getLongName());
+      writeString(out, option.getShortName());
+      writeString(out, option.getLabel());
+      out.writeChar(option.getValueSeparator());
+      out.writeBoolean(option.isRequired());
+      out.writeInt(option.getMaxOccurs());
+      writeString(out, option.getPattern() != null ? option.getPattern().pattern() : null);
+      final ArgumentType type = option.getType();
+      writeString(out, type != null ? type.getName() : null);
+      if (type != null) {
+        writeString(out, type.getMin());
+        writeString(out, type.getMax());
+        final String[] values = type.getValues();
+        out.writeInt(values != null ? values.length : -1);
+        if (values != null)
+          for (final String value : values) // [A]
+            writeString(out, value);
+      }
+
+      writeString(out, option.getDefault());
+      writeString(out, option.getDescription());
+    }
+
+    out.writeInt(spec.getCommandCount());
+    for (int i = 0, i$ = spec.getCommandCount(); i < i$; ++i) { // [N]
+      final CommandSpec command = spec.getCommand(i);
+      writeString(out, command.getName());
+      writeString(out, command.getSpec());
+      writeString(out, command.getDescription());
+    }
+  }
+
+  static CompiledSpec readSnapshot(final ByteBuffer buffer) throws IOException {
+    return readSnapshot(buffer, null);
+  }
+
+  static CompiledSpec readSnapshot(final ByteBuffer buffer, final URL base) throws IOException {
+    try {
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+        throw new IOException("Unrecognized snapshot format");
+
+      final String argumentsLabel = readString(buffer);
+      final short argumentsMinOccurs = buffer.getShort();
+      final short argumentsMaxOccurs = buffer.getShort();
+      final OptionSpec[] options = new OptionSpec[readCount(buffer, 4, false)];
+      for (int i = 0; i < options.length; ++i) { // [A]
+        final String longName = readString(buffer);
+        final String shortName = readString(buffer);
+        final String label = readString(buffer);
+        final char valueSeparator = buffer.getChar();
+        final boolean required = buffer.get() != 0;
+        final int maxOccurs = buffer.getInt();
+        final String pattern = readString(buffer);
+        final String typeName = readString(buffer);
+        ArgumentType type = null;
+        if (typeName != null) {
+          final String min = readString(buffer);
+          final String max = readString(buffer);
+          final int count = readCount(buffer, 4, true);
+          final String[] values = count == -1 ? null : new String[count];
+          for (int j = 0; j < count; ++j) // [A]
+            values[j] = readString(buffer);
+
+          type = new ArgumentType(typeName, min, max, values);
+        }
+
+        final String defaultValue = readString(buffer);
+        final String description = readString(buffer);
+        options[i] = label == null ? new OptionSpec(longName, shortName, description) : new OptionSpec(longName, shortName, label, valueSeparator, required, maxOccurs, pattern != null ? Pattern.compile(pattern) : null, type, defaultValue, description);
+      }
+
+      final CommandSpec[] commands = new CommandSpec[readCount(buffer, 4, false)];
+      for (int i = 0; i < commands.length; ++i) // [A]
+        commands[i] = new CommandSpec(readString(buffer), readString(buffer), readString(buffer));
+
+      if (buffer.hasRemaining())
+        throw new IOException("Unexpected trailing bytes in snapshot");
+
+      return commands.length > 0 ? new CompiledSpec(options, commands, base, null) : new CompiledSpec(options, argumentsLabel, argumentsMinOccurs, argumentsMaxOccurs, null);
+    }
+    catch (final BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException | NullPointerException e) {
+      throw new IOException("Corrupt snapshot", e);
+    }
+  }
+
+  private final Path directory;
+
+  /**
+   * Creates a new {@link SpecCache} that stores snapshots in the provided directory. The directory is created when the first
+   * snapshot is written, if it does not exist.
+   *
+   * @param directory The {@link Path} of the cache directory.
+   * @throws NullPointerException If {@code directory} is null.
+   */
+  public SpecCache(final Path directory) {
+    if (directory == null)
+      throw new NullPointerException("directory == null");
+
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the {@link Path} of the cache directory.
+   *
+   * @return The {@link Path} of the cache directory.
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Returns the {@link CompiledSpec} of the CLI XML specification at the provided {@link URL}. If a snapshot of the same CLI
+   * XML exists in the cache directory, it is memory-mapped and returned without loading or validating the CLI XML.
+   * Otherwise, the CLI XML is validated and compiled as per {@link Options#compile(URL)}, and a snapshot of the result is
+   * written to the cache directory. Failure to write the snapshot is logged, and does not fail this method.
+   *
+   * @param cliURL The {@link URL} pointing to the CLI XML.
+   * @return The {@link CompiledSpec} of the CLI XML specification at the provided {@link URL}.
+   * @throws IOException If an I/O error has occurred reading the CLI XML.
+   * @throws NullPointerException If {@code cliURL} is null.
+   * @throws IllegalArgumentException If an error was encountered while creating the {@link javax.xml.bind.JAXBContext}, or
+   *           an {@link javax.xml.stream.XMLStreamException} has occurred.
+   * @throws IllegalStateException If an instance of this the {@link javax.xml.stream.XMLInputFactory} cannot be loaded.
+   */
+  public CompiledSpec compile(final URL cliURL) throws IOException {
+    final byte[] bytes = readBytes(cliURL);
+    final Path file = directory.resolve(hash(bytes) + SUFFIX);
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final long start = ParseListeners.start();
+      final CompiledSpec spec = readSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), cliURL);
+      ParseListeners.end(Phase.LOAD, start, spec.getOptionCount());
+      return spec;
+    }
+    catch (final NoSuchFileException e) {
+      // Not cached yet
+    }
+    catch (final IOException e) {
+      if (logger.isWarnEnabled()) { logger.warn("Ignoring unreadable snapshot " + file + ": " + e.getMessage()); }
+    }
+
+    final CompiledSpec spec = Options.compile(new ByteArrayInputStream(bytes), Options.Loader.DEFAULT, cliURL);
+    try {
+      write(spec, file);
+    }
+    catch (final IOException e) {
+      if (logger.isWarnEnabled()) { logger.warn("Unable to write snapshot " + file + ": " + e.getMessage()); }
+    }
+
+    return spec;
+  }
+
+  private void write(final CompiledSpec spec, final Path file) throws IOException {
+    Files.createDirectories(directory);
+    final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        writeSnapshot(spec, out);
+      }
+
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
@@ -0,0 +1,394 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Loader of CLI XML specifications that builds a {@link CompiledSpec} in a single forward pass over an
+ * {@link XMLStreamReader}, without JAXB. The loader accepts documents in the {@code cli-1.0.xsd}, {@code cli-1.1.xsd} and
+ * {@code cli-1.2.xsd} namespaces, and enforces the same constraints as the schemas, including the order of elements,
+ * required attributes, the lexical forms of {@code use}, {@code minOccurs} and {@code maxOccurs}, and the uniqueness of
+ * long and short option names. The {@code type}, {@code min}, {@code max} and {@code values} attributes of
+ * {@code <argument>}, and the {@code <command>} element, are only accepted in the {@code cli-1.2.xsd} namespace.
+ */
+final class SpecReader {
+  static final String NAMESPACE_1_0 = "http://www.openjax.org/cli-1.0.xsd";
+  static final String NAMESPACE_1_1 = "http://www.openjax.org/cli-1.1.xsd";
+  static final String NAMESPACE_1_2 = "http://www.openjax.org/cli-1.2.xsd";
+
+  private static final Pattern namePattern = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}._\\-]*");
+  private static final Pattern occursPattern = Pattern.compile("([0-9]+)|(unbounded)");
+
+  private static boolean isNamespace(final String namespace) {
+    return NAMESPACE_1_2.equals(namespace) || NAMESPACE_1_1.equals(namespace) || NAMESPACE_1_0.equals(namespace);
+  }
+
+  /**
+   * Reads the CLI XML specification from the provided {@link XMLStreamReader}, which must be positioned before the root
+   * element.
+   *
+   * @param reader The {@link XMLStreamReader}.
+   * @param base The {@link URL} of the CLI XML, against which the specs of subcommands are resolved, or {@code null} if it
+   *          is not known.
+   * @return The {@link CompiledSpec} of the CLI XML specification.
+   * @throws XMLStreamException If the CLI XML is not well-formed, or is not valid as per its schema.
+   * @throws NullPointerException If {@code reader} is null.
+   */
+  static CompiledSpec read(final XMLStreamReader reader, final URL base) throws XMLStreamException {
+    return new SpecReader(reader).read(base);
+  }
+
+  private final XMLStreamReader reader;
+  private final HashSet<String> longNames = new HashSet<>();
+  private final HashSet<String> shortNames = new HashSet<>();
+  private String namespace;
+
+  private SpecReader(final XMLStreamReader reader) {
+    this.reader = reader;
+  }
+
+  private XMLStreamException error(final String message) {
+    return new XMLStreamException(message, reader.getLocation());
+  }
+
+  private int nextTag() throws XMLStreamException {
+    final int event = reader.nextTag();
+    if (event == XMLStreamConstants.START_ELEMENT && !namespace.equals(reader.getNamespaceURI()))
+      throw error("Unexpected element {" + reader.getNamespaceURI() + "}" + reader.getLocalName());
+
+    return event;
+  }
+
+  private void requireStart(final int event, final String localName) throws XMLStreamException {
+    if (event != XMLStreamConstants.START_ELEMENT || !localName.equals(reader.getLocalName()))
+      throw error("Expected <" + localName + ">" + (event == XMLStreamConstants.START_ELEMENT ? ", but found <" + reader.getLocalName() + ">" : ""));
+  }
+
+  private void requireEnd(final int event) throws XMLStreamException {
+    if (event != XMLStreamConstants.END_ELEMENT)
+      throw error("Unexpected element <" + reader.getLocalName() + ">");
+  }
+
+  private static String collapse(final String value) {
+    return value == null ? null : value.trim().replaceAll("\\s+", " ");
+  }
+
+  private String name(final String attribute, final String value, final boolean required) throws XMLStreamException {
+    if (value == null) {
+      if (required)
+        throw error("Missing required attribute \"" + attribute + "\" on <" + reader.getLocalName() + ">");
+
+      return null;
+    }
+
+    final String name = collapse(value);
+    if (!namePattern.matcher(name).matches())
+      throw error("Invalid value \"" + value + "\" of attribute \"" + attribute + "\": not a valid name");
+
+    return name;
+  }
+
+  private String nonEmpty(final String attribute, final String value) throws XMLStreamException {
+    if (value != null && value.length() == 0)
+      throw error("Invalid value of attribute \"" + attribute + "\": must not be empty");
+
+    return value;
+  }
+
+  private int occurs(final String attribute, final String value, final int max, final int unbounded) throws XMLStreamException {
+    if (value == null)
+      return 1;
+
+    final String token = collapse(value);
+    if (!occursPattern.matcher(token).matches())
+      throw error("Invalid value \"" + value + "\" of attribute \"" + attribute + "\": must match ([0-9]+)|(unbounded)");
+
+    if ("unbounded".equals(token))
+      return unbounded;
+
+    try {
+      final int occurs = Integer.parseInt(token);
+      if (occurs > max)
+        throw error("Invalid value \"" + value + "\" of attribute \"" + attribute + "\": must not exceed " + max);
+
+      return occurs;
+    }
+    catch (final NumberFormatException e) {
+      throw error("Invalid value \"" + value + "\" of attribute \"" + attribute + "\": must not exceed " + max);
+    }
+  }
+
+  private void unexpectedAttribute(final int index) throws XMLStreamException {
+    final String attributeNamespace = reader.getAttributeNamespace(index);
+    if (!XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(attributeNamespace))
+      throw error("Unexpected attribute \"" + reader.getAttributeLocalName(index) + "\" on <" + reader.getLocalName() + ">");
+  }
+
+  private boolean isLocal(final int index) {
+    final String attributeNamespace = reader.getAttributeNamespace(index);
+    return attributeNamespace == null || attributeNamespace.length() == 0;
+  }
+
+  private CompiledSpec read(final URL base) throws XMLStreamException {
+    int event = reader.nextTag();
+    if (event != XMLStreamConstants.START_ELEMENT || !"cli".equals(reader.getLocalName()) || !isNamespace(reader.getNamespaceURI()))
+      throw error("Expected root element {" + NAMESPACE_1_2 + "}cli");
+
+    namespace = reader.getNamespaceURI();
+    for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) // [N]
+      unexpectedAttribute(i);
+
+    final ArrayList<OptionSpec> options = new ArrayList<>();
+    while ((event = nextTag()) == XMLStreamConstants.START_ELEMENT && "option".equals(reader.getLocalName()))
+      options.add(readOption());
+
+    if (event == XMLStreamConstants.START_ELEMENT && NAMESPACE_1_2.equals(namespace) && "command".equals(reader.getLocalName())) {
+      final ArrayList<CommandSpec> commands = new ArrayList<>();
+      final HashSet<String> commandNames = new HashSet<>();
+      do {
+        commands.add(readCommand(commandNames));
+      }
+      while ((event = nextTag()) == XMLStreamConstants.START_ELEMENT && "command".equals(reader.getLocalName()));
+
+      requireEnd(event);
+      return new CompiledSpec(options.toArray(new OptionSpec[options.size()]), commands.toArray(new CommandSpec[commands.size()]), base, null);
+    }
+
+    String argumentsLabel = null;
+    short argumentsMinOccurs = 0;
+    short argumentsMaxOccurs = 0;
+    if (event == XMLStreamConstants.START_ELEMENT) {
+      requireStart(event, "arguments");
+      String minOccurs = null;
+      String maxOccurs = null;
+      for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) { // [N]
+        final String localName = reader.getAttributeLocalName(i);
+        if (!isLocal(i))
+          unexpectedAttribute(i);
+        else if ("label".equals(localName))
+          argumentsLabel = name(localName, reader.getAttributeValue(i), true);
+        else if ("minOccurs".equals(localName))
+          minOccurs = reader.getAttributeValue(i);
+        else if ("maxOccurs".equals(localName))
+          maxOccurs = reader.getAttributeValue(i);
+        else
+          unexpectedAttribute(i);
+      }
+
+      name("label", argumentsLabel, true);
+      if (minOccurs == null) {
+        argumentsMinOccurs = 1;
+      }
+      else {
+        try {
+          argumentsMinOccurs = Short.parseShort(collapse(minOccurs));
+        }
+        catch (final NumberFormatException e) {
+          argumentsMinOccurs = -1;
+        }
+
+        if (argumentsMinOccurs < 0)
+          throw error("Invalid value \"" + minOccurs + "\" of attribute \"minOccurs\": must be a non-negative short");
+      }
+
+      argumentsMaxOccurs = (short)occurs("maxOccurs", maxOccurs, Short.MAX_VALUE, CompiledSpec.UNBOUNDED);
+      if (argumentsMaxOccurs != CompiledSpec.UNBOUNDED && argumentsMaxOccurs < argumentsMinOccurs)
+        throw error("minOccurs > maxOccurs on <arguments> element");
+
+      requireEnd(nextTag());
+      event = nextTag();
+    }
+
+    requireEnd(event);
+    return new CompiledSpec(options.toArray(new OptionSpec[options.size()]), argumentsLabel, argumentsMinOccurs, argumentsMaxOccurs, null);
+  }
+
+  private CommandSpec readCommand(final HashSet<String> commandNames) throws XMLStreamException {
+    String name = null;
+    String spec = null;
+    for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) { // [N]
+      final String localName = reader.getAttributeLocalName(i);
+      if (!isLocal(i))
+        unexpectedAttribute(i);
+      else if ("name".equals(localName))
+        name = name(localName, reader.getAttributeValue(i), true);
+      else if ("spec".equals(localName))
+        spec = reader.getAttributeValue(i).trim();
+      else
+        unexpectedAttribute(i);
+    }
+
+    name("name", name, true);
+    if (spec == null)
+      throw error("Missing required attribute \"spec\" on <command>");
+
+    if (!commandNames.add(name))
+      throw error("Duplicate command name: " + name);
+
+    requireStart(nextTag(), "description");
+    for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) // [N]
+      unexpectedAttribute(i);
+
+    final String description = reader.getElementText();
+    if (description.length() == 0)
+      throw error("<description> must not be empty");
+
+    requireEnd(nextTag());
+    return new CommandSpec(name, spec, description);
+  }
+
+  private OptionSpec readOption() throws XMLStreamException {
+    requireStart(nextTag(), "name");
+    String longName = null;
+    String shortName = null;
+    for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) { // [N]
+      final String localName = reader.getAttributeLocalName(i);
+      if (!isLocal(i))
+        unexpectedAttribute(i);
+      else if ("long".equals(localName))
+        longName = name(localName, reader.getAttributeValue(i), false);
+      else if ("short".equals(localName))
+        shortName = name(localName, reader.getAttributeValue(i), false);
+      else
+        unexpectedAttribute(i);
+    }
+
+    if (longName == null && shortName == null)
+      throw error("both [long] and [short] option names are null");
+
+    if (longName != null && !longNames.add(longName))
+      throw error("Duplicate long option name: " + longName);
+
+    if (shortName != null && !shortNames.add(shortName))
+      throw error("Duplicate short option name: " + shortName);
+
+    requireEnd(nextTag());
+
+    int event = nextTag();
+    final boolean hasArgument = event == XMLStreamConstants.START_ELEMENT && "argument".equals(reader.getLocalName());
+    String label = null;
+    char valueSeparator = '\0';
+    boolean required = false;
+    int maxOccurs = 1;
+    Pattern pattern = null;
+    String type = null;
+    String min = null;
+    String max = null;
+    String[] values = null;
+    ArgumentType argumentType = null;
+    String defaultValue = null;
+    if (hasArgument) {
+      final boolean typed = NAMESPACE_1_2.equals(namespace);
+      for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) { // [N]
+        final String localName = reader.getAttributeLocalName(i);
+        final String value = reader.getAttributeValue(i);
+        if (!isLocal(i)) {
+          unexpectedAttribute(i);
+        }
+        else if ("label".equals(localName)) {
+          label = name(localName, value, true);
+        }
+        else if ("valueSeparator".equals(localName)) {
+          if (value.length() != 1)
+            throw error("Invalid value \"" + value + "\" of attribute \"valueSeparator\": must be a single character");
+
+          valueSeparator = value.charAt(0);
+        }
+        else if ("use".equals(localName)) {
+          final String use = collapse(value);
+          if (!"required".equals(use) && !"optional".equals(use))
+            throw error("Invalid value \"" + value + "\" of attribute \"use\": must be \"required\" or \"optional\"");
+
+          required = "required".equals(use);
+        }
+        else if ("maxOccurs".equals(localName)) {
+          maxOccurs = occurs(localName, value, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+        else if ("pattern".equals(localName)) {
+          try {
+            pattern = Pattern.compile(nonEmpty(localName, value));
+          }
+          catch (final PatternSyntaxException e) {
+            throw error("Invalid value \"" + value + "\" of attribute \"pattern\": " + e.getDescription());
+          }
+        }
+        else if ("default".equals(localName)) {
+          defaultValue = nonEmpty(localName, value);
+        }
+        else if (typed && "type".equals(localName)) {
+          type = name(localName, value, true);
+        }
+        else if (typed && "min".equals(localName)) {
+          min = nonEmpty(localName, value);
+        }
+        else if (typed && "max".equals(localName)) {
+          max = nonEmpty(localName, value);
+        }
+        else if (typed && "values".equals(localName)) {
+          final String collapsed = collapse(value);
+          if (collapsed.length() == 0)
+            throw error("Invalid value of attribute \"values\": must not be empty");
+
+          values = collapsed.split(" ");
+        }
+        else {
+          unexpectedAttribute(i);
+        }
+      }
+
+      name("label", label, true);
+      if (maxOccurs < 1)
+        throw error("Invalid value \"0\" of attribute \"maxOccurs\": must be at least 1");
+
+      if (type == null && (min != null || max != null || values != null))
+        throw error("Attributes \"min\", \"max\" and \"values\" require attribute \"type\"");
+
+      if (type != null) {
+        try {
+          argumentType = new ArgumentType(type, min, max, values);
+        }
+        catch (final IllegalArgumentException e) {
+          throw error("Invalid type of <argument>: " + e.getMessage());
+        }
+      }
+
+      requireEnd(nextTag());
+      event = nextTag();
+    }
+
+    requireStart(event, "description");
+    for (int i = 0, i$ = reader.getAttributeCount(); i < i$; ++i) // [N]
+      unexpectedAttribute(i);
+
+    final String description = reader.getElementText();
+    if (description.length() == 0)
+      throw error("<description> must not be empty");
+
+    requireEnd(nextTag());
+    return hasArgument ? new OptionSpec(longName, shortName, label, valueSeparator, required, maxOccurs, pattern, argumentType, defaultValue, description) : new OptionSpec(longName, shortName, description);
+  }
+}
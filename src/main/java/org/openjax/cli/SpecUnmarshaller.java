@@ -0,0 +1,237 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.UnmarshallerHandler;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
+
+import org.openjax.cli.ParseListener.Phase;
+import org.openjax.cli_1_1.Cli;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+/**
+ * Unmarshaller of CLI XML into the {@link Cli} JAXB binding for {@link Options.Loader#JAXB}, which supports the
+ * {@code cli-1.0.xsd} and {@code cli-1.1.xsd} namespaces, as detected from the root element.
+ * <p>
+ * Both namespaces are unmarshalled with a single {@link JAXBContext}, which is created once. The CLI XML is validated in
+ * the same pass against the XML Schema of its namespace, which is loaded once per context class loader, and elements of
+ * {@code cli-1.0.xsd} are thereafter presented to JAXB in the {@code cli-1.1.xsd} namespace, of which it is a subset.
+ */
+final class SpecUnmarshaller {
+  private static final String[] namespaces = {SpecReader.NAMESPACE_1_0, SpecReader.NAMESPACE_1_1};
+  private static final String[] schemaFiles = {"cli-1.0.xsd", "cli-1.1.xsd"};
+  private static final Map<ClassLoader,Schema[]> schemas = new WeakHashMap<>();
+  private static volatile JAXBContext jaxbContext;
+  private static volatile SAXParserFactory saxParserFactory;
+
+  private static JAXBContext getJaxbContext() throws JAXBException {
+    JAXBContext jaxbContext = SpecUnmarshaller.jaxbContext;
+    if (jaxbContext == null) {
+      synchronized (SpecUnmarshaller.class) {
+        jaxbContext = SpecUnmarshaller.jaxbContext;
+        if (jaxbContext == null)
+          SpecUnmarshaller.jaxbContext = jaxbContext = JAXBContext.newInstance(Cli.class);
+      }
+    }
+
+    return jaxbContext;
+  }
+
+  private static SAXParserFactory getSaxParserFactory() {
+    SAXParserFactory saxParserFactory = SpecUnmarshaller.saxParserFactory;
+    if (saxParserFactory == null) {
+      synchronized (SpecUnmarshaller.class) {
+        saxParserFactory = SpecUnmarshaller.saxParserFactory;
+        if (saxParserFactory == null) {
+          saxParserFactory = SAXParserFactory.newInstance();
+          saxParserFactory.setNamespaceAware(true);
+          SpecUnmarshaller.saxParserFactory = saxParserFactory;
+        }
+      }
+    }
+
+    return saxParserFactory;
+  }
+
+  /**
+   * Returns the {@link Schema} of the provided namespace, which is loaded once per context class loader, from the context
+   * class loader if it provides the schema, and otherwise from the class loader of this class.
+   *
+   * @param namespace The namespace of the root element.
+   * @return The {@link Schema} of the provided namespace.
+   * @throws SAXException If the namespace is not supported, or if the schema cannot be loaded.
+   * @throws IllegalStateException If the schema cannot be found.
+   */
+  static Schema getSchema(final String namespace) throws SAXException {
+    int version = namespaces.length - 1;
+    while (version >= 0 && !namespaces[version].equals(namespace))
+      --version;
+
+    if (version == -1)
+      throw new SAXException("Unsupported namespace of " + Options.Loader.JAXB + " loader: " + namespace);
+
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    final ClassLoader classLoader = contextClassLoader != null ? contextClassLoader : SpecUnmarshaller.class.getClassLoader();
+    synchronized (schemas) {
+      Schema[] versions = schemas.get(classLoader);
+      if (versions == null)
+        schemas.put(classLoader, versions = new Schema[namespaces.length]);
+
+      Schema schema = versions[version];
+      if (schema == null) {
+        final String schemaFile = schemaFiles[version];
+        URL resource = classLoader.getResource(schemaFile);
+        if (resource == null && (resource = SpecUnmarshaller.class.getClassLoader().getResource(schemaFile)) == null)
+          throw new IllegalStateException("Unable to find " + schemaFile + " in class loader " + classLoader);
+
+        versions[version] = schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(resource);
+      }
+
+      return schema;
+    }
+  }
+
+  /**
+   * Presents the elements of {@code cli-1.0.xsd} to its {@link ContentHandler} in the {@code cli-1.1.xsd} namespace.
+   */
+  private static final class NamespaceFilter extends XMLFilterImpl {
+    private static String map(final String uri) {
+      return SpecReader.NAMESPACE_1_0.equals(uri) ? SpecReader.NAMESPACE_1_1 : uri;
+    }
+
+    private NamespaceFilter(final ContentHandler handler) {
+      setContentHandler(handler);
+    }
+
+    @Override
+    public void startPrefixMapping(final String prefix, final String uri) throws SAXException {
+      super.startPrefixMapping(prefix, map(uri));
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes atts) throws SAXException {
+      super.startElement(map(uri), localName, qName, atts);
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+      super.endElement(map(uri), localName, qName);
+    }
+  }
+
+  /**
+   * Defers the events of the document until its root element, from the namespace of which the {@link ValidatorHandler}
+   * of the {@link Schema} of the namespace is created, to which the events are thereafter forwarded.
+   */
+  private static final class VersionHandler extends XMLFilterImpl {
+    private final UnmarshallerHandler unmarshallerHandler;
+    private final ArrayList<String> prefixes = new ArrayList<>(4);
+    private Locator locator;
+
+    private VersionHandler(final UnmarshallerHandler unmarshallerHandler) {
+      this.unmarshallerHandler = unmarshallerHandler;
+    }
+
+    @Override
+    public void setDocumentLocator(final Locator locator) {
+      this.locator = locator;
+    }
+
+    @Override
+    public void startDocument() {
+    }
+
+    @Override
+    public void startPrefixMapping(final String prefix, final String uri) throws SAXException {
+      if (getContentHandler() != null) {
+        super.startPrefixMapping(prefix, uri);
+      }
+      else {
+        prefixes.add(prefix);
+        prefixes.add(uri);
+      }
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes atts) throws SAXException {
+      if (getContentHandler() == null) {
+        final long start = ParseListeners.start();
+        final ValidatorHandler validatorHandler = getSchema(uri).newValidatorHandler();
+        ParseListeners.end(Phase.SCHEMA, start, 0);
+        validatorHandler.setContentHandler(SpecReader.NAMESPACE_1_0.equals(uri) ? new NamespaceFilter(unmarshallerHandler) : unmarshallerHandler);
+        setContentHandler(validatorHandler);
+        if (locator != null)
+          validatorHandler.setDocumentLocator(locator);
+
+        validatorHandler.startDocument();
+        for (int i = 0, i$ = prefixes.size(); i < i$; i += 2) // [RA]
+          validatorHandler.startPrefixMapping(prefixes.get(i), prefixes.get(i + 1));
+      }
+
+      super.startElement(uri, localName, qName, atts);
+    }
+  }
+
+  /**
+   * Unmarshals the CLI XML in the provided {@link InputStream} into the {@link Cli} JAXB binding, validating it against
+   * the XML Schema of its namespace.
+   *
+   * @param in The {@link InputStream} of the CLI XML.
+   * @return The {@link Cli} JAXB binding of the CLI XML.
+   * @throws IOException If an I/O error has occurred.
+   * @throws JAXBException If an error was encountered while creating the {@link JAXBContext}, or while unmarshalling.
+   * @throws SAXException If the CLI XML is not well-formed, is not valid, or is of an unsupported namespace.
+   * @throws IllegalStateException If the {@link SAXParserFactory} cannot be configured, or the XML Schema cannot be found.
+   */
+  static Cli unmarshal(final InputStream in) throws IOException, JAXBException, SAXException {
+    final XMLReader reader;
+    try {
+      reader = getSaxParserFactory().newSAXParser().getXMLReader();
+    }
+    catch (final ParserConfigurationException e) {
+      throw new IllegalStateException(e);
+    }
+
+    final UnmarshallerHandler unmarshallerHandler = getJaxbContext().createUnmarshaller().getUnmarshallerHandler();
+    reader.setContentHandler(new VersionHandler(unmarshallerHandler));
+    reader.parse(new InputSource(in));
+    return (Cli)unmarshallerHandler.getResult();
+  }
+
+  private SpecUnmarshaller() {
+  }
+}
@@ -0,0 +1,554 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * Single-pass tokenizer of {@code String[] args} as per an array of {@link OptionSpec}s. Option names are resolved via
+ * {@link NameTrie}s of long and short names, and options are thereafter identified by their index in the array.
+ * <p>
+ * The following forms are supported:
+ * <ul>
+ * <li>{@code --long value}, {@code --long=value}, and unambiguous prefixes of {@code --long}.</li>
+ * <li>{@code -s value}, {@code -svalue}, {@code -s=value}, and {@code -long} with a single dash.</li>
+ * <li>Bundled short flags, such as {@code -abc}, of which the last may have an attached value.</li>
+ * <li>{@code --} to signify that all remaining tokens are unnamed arguments.</li>
+ * <li>{@code @path} to expand the tokens of the argument file at {@code path} in place, as per {@link ArgFile}, and
+ * {@code @@token} to specify the literal {@code @token}. Tokens in argument files are not themselves expanded, and
+ * expansion is disabled if the {@code org.openjax.cli.argfiles} system property is set to {@code false}.</li>
+ * </ul>
+ * If the tokenizer has subcommands, tokenization stops at the first unnamed argument, which must be the name of a
+ * subcommand, and the tokens that follow it are left to the spec of the subcommand. The name of a subcommand also ends the
+ * values of an option.
+ * An option with an argument consumes following tokens as values, until its {@code maxOccurs} is reached, or until a token
+ * that is an option or {@code --} is encountered. Each value is split by the value separator of the option (a space if none
+ * is specified), with the remainder of the value retained by the last value if {@code maxOccurs} is reached. Values of
+ * repeated occurrences of an option are accumulated.
+ * <p>
+ * Instances of this class are immutable, and thread-safe.
+ */
+final class Tokenizer {
+  private static final boolean ARGFILES = !"false".equalsIgnoreCase(System.getProperty("org.openjax.cli.argfiles"));
+
+  /**
+   * The mutable state and result of the tokenization of a {@code String[] args}.
+   */
+  static final class Result {
+    /** The values of the options. */
+    final ValueArena values;
+    /** The unnamed arguments. */
+    final ArgumentList arguments;
+    /** The index of the subcommand, or {@code -1} if no subcommand was specified. */
+    int command = -1;
+    /** The index in {@code args} of the first token after the subcommand. */
+    int commandEnd;
+    /** Whether the implicit {@code --help} option was specified. */
+    boolean help;
+    /** The message of the first error, or {@code null} if no error was encountered. */
+    String error;
+    /** All errors that were encountered, or {@code null} if errors are not collected. */
+    final ArrayList<ParseError> errors;
+
+    private Result(final int length, final String[] args, final boolean collect) {
+      this.values = new ValueArena(length, args);
+      this.arguments = new ArgumentList(args);
+      this.errors = collect ? new ArrayList<>(2) : null;
+    }
+
+    /**
+     * Returns a new array of the values of the option at the provided index, or {@code null} if the option was not
+     * specified. An option that was specified without a value has an empty array of values.
+     *
+     * @param index The index of the option.
+     * @return A new array of the values of the option at the provided index, or {@code null} if the option was not specified.
+     */
+    String[] getValues(final int index) {
+      return values.toArray(index);
+    }
+  }
+
+  /**
+   * Cursor over the tokens of {@code String[] args}, which expands {@code @path} arguments into the tokens of their
+   * {@link ArgFile}s. Tokens of {@link ArgFile}s are referred to by their offsets, and are decoded only when required.
+   */
+  private static final class Cursor {
+    private final String[] args;
+    private final ArgumentList arguments;
+    private final Path base;
+    private boolean expand;
+    private int i;
+    private ArgFile file;
+    private long next = -1;
+
+    private int index;
+    private ArgFile tokenFile;
+    private long offset;
+    private String token;
+    private boolean escaped;
+    private boolean pushBack;
+    private String error;
+
+    private Cursor(final String[] args, final ArgumentList arguments, final Path base, final boolean expand) {
+      this.args = args;
+      this.arguments = arguments;
+      this.base = base;
+      this.expand = expand;
+    }
+
+    /**
+     * Advances to the next token, and returns {@code true} if there is one, or {@code false} if there are no more tokens or
+     * an error was encountered, in which case {@link #error} is set.
+     */
+    private boolean next() {
+      if (pushBack) {
+        pushBack = false;
+        return true;
+      }
+
+      token = null;
+      escaped = false;
+      while (true) {
+        if (file != null) {
+          if (next != -1) {
+            tokenFile = file;
+            offset = next;
+            try {
+              next = file.next(file.end(offset));
+            }
+            catch (final IllegalArgumentException e) {
+              error = e.getMessage() + position(tokenFile, offset);
+              return false;
+            }
+
+            return true;
+          }
+
+          file = null;
+        }
+
+        if (i == args.length)
+          return false;
+
+        index = i;
+        tokenFile = null;
+        final String arg = args[i++];
+        if (!expand || arg.length() < 2 || arg.charAt(0) != '@') {
+          token = arg;
+          return true;
+        }
+
+        if (arg.charAt(1) == '@') {
+          token = arg.substring(1);
+          escaped = true;
+          return true;
+        }
+
+        try {
+          file = new ArgFile(base != null ? base.resolve(arg.substring(1)) : Paths.get(arg.substring(1)));
+          next = file.next(0);
+        }
+        catch (final IOException | InvalidPathException e) {
+          error = "Unable to read argument file " + arg.substring(1) + ": " + e.getMessage();
+          return false;
+        }
+      }
+    }
+
+    /**
+     * Returns the current token, which is decoded if it is a token of an {@link ArgFile}.
+     */
+    private String token() {
+      return token != null ? token : (token = tokenFile.decode(offset));
+    }
+
+    /**
+     * Returns whether the current token starts with {@code '-'}, which is determined without decoding a token of an
+     * {@link ArgFile} that cannot start with {@code '-'}.
+     */
+    private boolean isDashed() {
+      if (tokenFile != null && token == null && !tokenFile.mayBeDashed(offset))
+        return false;
+
+      final String token = token();
+      return token.length() > 0 && token.charAt(0) == '-';
+    }
+
+    /**
+     * Signifies that the current token is to be returned again by the next call to {@link #next()}.
+     */
+    private void pushBack() {
+      pushBack = true;
+    }
+
+    /**
+     * Adds the current token to the unnamed arguments.
+     */
+    private void addArgument() {
+      if (tokenFile != null)
+        arguments.add(tokenFile, offset);
+      else if (escaped)
+        arguments.addEscaped(index);
+      else
+        arguments.add(index);
+    }
+  }
+
+  /**
+   * Returns the position of the token at the provided offset of the provided {@link ArgFile} in the form of
+   * {@code " (at path:line)"}, or an empty string if {@code file} is null.
+   */
+  private static String position(final ArgFile file, final long offset) {
+    return file == null ? "" : " (at " + file.position(offset) + ")";
+  }
+
+  private final OptionSpec[] options;
+  private final int helpIndex;
+  private final NameTrie longNames;
+  private final NameTrie shortNames;
+  private final NameTrie commands;
+
+  /**
+   * Creates a new {@link Tokenizer} for the provided {@link OptionSpec}s, without subcommands.
+   *
+   * @param options The {@link OptionSpec}s.
+   * @param implicitHelp Whether the implicit {@code --help} option is to be recognized, at the index equal to
+   *          {@code options.length}.
+   * @throws IllegalArgumentException If more than one option has the same long or short name.
+   * @throws NullPointerException If {@code options} or a member thereof is null.
+   */
+  Tokenizer(final OptionSpec[] options, final boolean implicitHelp) {
+    this(options, implicitHelp, null);
+  }
+
+  /**
+   * Creates a new {@link Tokenizer} for the provided {@link OptionSpec}s and names of subcommands.
+   *
+   * @param options The {@link OptionSpec}s.
+   * @param implicitHelp Whether the implicit {@code --help} option is to be recognized, at the index equal to
+   *          {@code options.length}.
+   * @param commands The names of the subcommands, or {@code null} if there are no subcommands.
+   * @throws IllegalArgumentException If more than one option has the same long or short name, or more than one subcommand
+   *           has the same name.
+   * @throws NullPointerException If {@code options} or a member thereof is null.
+   */
+  Tokenizer(final OptionSpec[] options, final boolean implicitHelp, final String[] commands) {
+    this.options = options;
+    this.helpIndex = implicitHelp ? options.length : -1;
+    final String[] longNames = new String[options.length + 1];
+    final String[] shortNames = new String[options.length];
+    for (int i = 0; i < options.length; ++i) { // [A]
+      longNames[i] = options[i].getLongName();
+      shortNames[i] = options[i].getShortName();
+    }
+
+    if (implicitHelp)
+      longNames[options.length] = "help";
+
+    this.longNames = new NameTrie(longNames);
+    this.shortNames = new NameTrie(shortNames);
+    this.commands = commands != null && commands.length > 0 ? new NameTrie(commands) : null;
+  }
+
+  private static int indexOf(final String token, final char ch, final int from) {
+    final int index = token.indexOf(ch, from);
+    return index == -1 ? token.length() : index;
+  }
+
+  /**
+   * Returns the index of the option that {@code token} refers to, {@link NameTrie#AMBIGUOUS} if {@code token} is an
+   * ambiguous prefix of more than one long name, or {@link NameTrie#NONE} if {@code token} does not refer to an option.
+   */
+  private int resolve(final String token) {
+    final int length = token.length();
+    if (length < 2 || token.charAt(0) != '-')
+      return NameTrie.NONE;
+
+    if (token.charAt(1) == '-')
+      return length == 2 ? NameTrie.NONE : longNames.getPrefix(token, 2, indexOf(token, '=', 2));
+
+    final int end = indexOf(token, '=', 1);
+    int index = shortNames.get(token, 1, end);
+    if (index == NameTrie.NONE && (index = longNames.getPrefix(token, 1, end)) == NameTrie.NONE)
+      index = shortNames.get(token, 1, 2);
+
+    return index;
+  }
+
+  private boolean isOption(final Cursor cursor) {
+    if (!cursor.isDashed())
+      return false;
+
+    final String token = cursor.token();
+    return resolve(token) != NameTrie.NONE || "--".equals(token);
+  }
+
+  private boolean isCommand(final Cursor cursor) {
+    if (commands == null || cursor.tokenFile != null || cursor.escaped)
+      return false;
+
+    final String token = cursor.token();
+    return commands.get(token, 0, token.length()) != NameTrie.NONE;
+  }
+
+  /**
+   * Adds the current token of the {@link Cursor} to the unnamed arguments, or, if this tokenizer has subcommands, resolves
+   * it as the subcommand at which tokenization stops. Returns {@code true} if tokenization is to stop.
+   */
+  private boolean argument(final Result result, final Cursor cursor) {
+    if (commands == null) {
+      cursor.addArgument();
+      return false;
+    }
+
+    final String token = cursor.token();
+    if (cursor.tokenFile != null)
+      error(result, ParseError.Kind.INVALID_COMMAND, null, token, cursor.index, "Command must not be specified in an argument file: " + token + position(cursor.tokenFile, cursor.offset));
+    else if (cursor.escaped || (result.command = commands.get(token, 0, token.length())) == NameTrie.NONE)
+      error(result, ParseError.Kind.INVALID_COMMAND, null, token, cursor.index, "Unknown command: " + token);
+    else
+      result.commandEnd = cursor.index + 1;
+
+    return true;
+  }
+
+  /**
+   * Reports an error in the provided {@link Result}, and returns {@code true} if tokenization is to stop, which is unless
+   * errors are collected.
+   */
+  private static boolean error(final Result result, final ParseError.Kind kind, final String option, final String value, final int index, final String message) {
+    if (result.error == null)
+      result.error = message;
+
+    if (result.errors == null)
+      return true;
+
+    result.errors.add(new ParseError(kind, option, value, index, message));
+    return false;
+  }
+
+  /**
+   * Tokenizes the provided {@code args}. Tokenization stops at the first error, which is reported in
+   * {@link Result#error}.
+   *
+   * @param args The {@code String[] args}.
+   * @return The {@link Result} of the tokenization.
+   * @throws NullPointerException If {@code args} or a member thereof is null.
+   */
+  Result tokenize(final String[] args) {
+    return tokenize(args, false, null);
+  }
+
+  /**
+   * Tokenizes the provided {@code args}. If {@code collect} is {@code true}, tokens in error are skipped, and all errors
+   * are reported in {@link Result#errors}, of which the first is also reported in {@link Result#error}. Otherwise,
+   * tokenization stops at the first error, which is reported in {@link Result#error}. Tokenization always stops at an
+   * error of an argument file, or of a subcommand.
+   *
+   * @param args The {@code String[] args}.
+   * @param collect Whether to collect all errors.
+   * @param base The directory against which the paths of argument files are resolved, or {@code null} for the working
+   *          directory of this JVM.
+   * @return The {@link Result} of the tokenization.
+   * @throws NullPointerException If {@code args} or a member thereof is null.
+   */
+  Result tokenize(final String[] args, final boolean collect, final Path base) {
+    final Result result = new Result(options.length, args, collect);
+    final Cursor cursor = new Cursor(args, result.arguments, base, ARGFILES);
+    while (cursor.next()) {
+      if (!cursor.isDashed()) {
+        if (argument(result, cursor))
+          break;
+
+        continue;
+      }
+
+      final String token = cursor.token();
+      final int length = token.length();
+      if (length < 2) {
+        if (argument(result, cursor))
+          break;
+
+        continue;
+      }
+
+      if (token.charAt(1) == '-') {
+        if (length == 2) {
+          // Argument files are not expanded after the end of options
+          cursor.expand = false;
+          while (cursor.next())
+            if (argument(result, cursor))
+              break;
+
+          break;
+        }
+
+        final int end = indexOf(token, '=', 2);
+        final int index = longNames.getPrefix(token, 2, end);
+        if (index < 0) {
+          final String name = token.substring(0, end);
+          final boolean ambiguous = index == NameTrie.AMBIGUOUS;
+          if (error(result, ambiguous ? ParseError.Kind.AMBIGUOUS_OPTION : ParseError.Kind.UNRECOGNIZED_OPTION, null, name, cursor.index, (ambiguous ? "Ambiguous option: " : "Unrecognized option: ") + name + position(cursor.tokenFile, cursor.offset)))
+            return result;
+        }
+        else {
+          option(result, index, token, end < length ? end + 1 : -1, cursor);
+        }
+      }
+      else {
+        final int end = indexOf(token, '=', 1);
+        int index = shortNames.get(token, 1, end);
+        if (index == NameTrie.NONE)
+          index = longNames.getPrefix(token, 1, end);
+
+        if (index >= 0) {
+          option(result, index, token, end < length ? end + 1 : -1, cursor);
+        }
+        else if (index == NameTrie.AMBIGUOUS && shortNames.get(token, 1, 2) == NameTrie.NONE) {
+          final String name = token.substring(0, end);
+          if (error(result, ParseError.Kind.AMBIGUOUS_OPTION, null, name, cursor.index, "Ambiguous option: " + name + position(cursor.tokenFile, cursor.offset)))
+            return result;
+        }
+        else {
+          // Bundled short options, of which an option with an argument takes the remainder of the token as its value
+          for (int j = 1; j < length; ++j) { // [N]
+            final int bundled = shortNames.get(token, j, j + 1);
+            if (bundled == NameTrie.NONE) {
+              if (error(result, ParseError.Kind.UNRECOGNIZED_OPTION, null, token, cursor.index, "Unrecognized option: " + token + position(cursor.tokenFile, cursor.offset)))
+                return result;
+
+              break;
+            }
+
+            if (options[bundled].hasArgument()) {
+              final int start = j + 1 < length && token.charAt(j + 1) == '=' ? j + 2 : j + 1;
+              option(result, bundled, token, start < length ? start : -1, cursor);
+              break;
+            }
+
+            option(result, bundled, token, -1, cursor);
+          }
+        }
+      }
+
+      if (cursor.error != null || result.error != null && result.errors == null)
+        break;
+    }
+
+    // An error of the cursor precedes an error that it may have caused, such as a missing argument
+    if (cursor.error != null) {
+      result.error = null;
+      error(result, ParseError.Kind.ARGUMENT_FILE, null, null, cursor.index, cursor.error);
+    }
+
+    return result;
+  }
+
+  /**
+   * Processes an occurrence of the option at the provided index in {@code token}, and consumes its values from the
+   * {@link Cursor}.
+   */
+  private void option(final Result result, final int index, final String token, final int start, final Cursor cursor) {
+    if (index == helpIndex) {
+      result.help = true;
+      return;
+    }
+
+    final ArgFile file = cursor.tokenFile;
+    final long offset = cursor.offset;
+    final int tokenIndex = cursor.index;
+    final OptionSpec option = options[index];
+    if (!option.hasArgument()) {
+      if (start != -1)
+        error(result, ParseError.Kind.UNEXPECTED_VALUE, option.getDisplayName(), token, tokenIndex, "Option " + option.getDisplayName() + " does not accept a value: " + token + position(file, offset));
+      else
+        result.values.specify(index);
+
+      return;
+    }
+
+    result.values.specify(index);
+    final int count = result.values.count(index);
+    if (start != -1 && !value(result, index, option, token, tokenIndex, file, offset, start)) {
+      error(result, ParseError.Kind.UNEXPECTED_VALUE, option.getDisplayName(), token, tokenIndex, "Too many values for option " + option.getDisplayName() + ": " + token + position(file, offset));
+      return;
+    }
+
+    while (result.values.count(index) < option.getMaxOccurs() && cursor.next()) {
+      if (isOption(cursor) || isCommand(cursor)) {
+        cursor.pushBack();
+        break;
+      }
+
+      value(result, index, option, cursor.token(), cursor.index, cursor.tokenFile, cursor.offset, 0);
+    }
+
+    if (result.values.count(index) == count && option.isRequired() && cursor.error == null)
+      error(result, ParseError.Kind.MISSING_VALUE, option.getDisplayName(), null, tokenIndex, "Missing argument for option: " + option.getDisplayName() + position(file, offset));
+  }
+
+  /**
+   * Specifies the option at the provided index in {@code result}, and adds the provided value to it, split by its value
+   * separator as per the values of tokens, unless the option already has {@code maxOccurs} values.
+   *
+   * @param result The {@link Result}.
+   * @param index The index of the option.
+   * @param option The {@link OptionSpec} of the option.
+   * @param value The value, or {@code null} to only specify the option.
+   */
+  static void addValues(final Result result, final int index, final OptionSpec option, final String value) {
+    result.values.specify(index);
+    if (value != null)
+      value(result, index, option, value, -1, null, 0, 0);
+  }
+
+  /**
+   * Adds the value in {@code token} from {@code start} to the option at the provided index, split by its value separator.
+   * The values refer to {@code token} by {@code tokenIndex}, which is {@code -1} if {@code token} is not a member of
+   * {@code args}, or by {@code file} and {@code fileOffset} if {@code token} is a token of an {@link ArgFile}. Returns
+   * {@code false} if the option cannot accept further values.
+   */
+  private static boolean value(final Result result, final int index, final OptionSpec option, final String token, final int tokenIndex, final ArgFile file, final long fileOffset, int start) {
+    final int maxOccurs = option.getMaxOccurs();
+    if (result.values.count(index) >= maxOccurs)
+      return false;
+
+    int end = token.length();
+    // Strip enclosing quotes, as long as there are no other quotes in the value
+    if (end - start > 1 && token.charAt(start) == '"' && token.charAt(end - 1) == '"' && token.indexOf('"', start + 1) == end - 1) {
+      ++start;
+      --end;
+    }
+
+    final char separator = option.getValueSeparator() != '\0' ? option.getValueSeparator() : ' ';
+    for (int from = start, to; result.values.count(index) < maxOccurs; from = to + 1) { // [N]
+      to = token.indexOf(separator, from);
+      if (to == -1 || to >= end || result.values.count(index) == maxOccurs - 1) {
+        result.values.add(index, token, tokenIndex, file, fileOffset, from, end);
+        break;
+      }
+
+      result.values.add(index, token, tokenIndex, file, fileOffset, from, to);
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,42 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.openjax.cli;
+
+/**
+ * Validator of the values of an option argument, as resolved from the {@code type}, {@code min}, {@code max} and
+ * {@code values} attributes of an {@code <argument>} element. Implementations must be immutable and thread-safe.
+ *
+ * @see ArgumentType
+ * @see ValidatorProvider
+ */
+public interface Validator {
+  /**
+   * Returns whether the provided value is valid.
+   *
+   * @param value The value.
+   * @return Whether the provided value is valid.
+   * @throws NullPointerException If {@code value} is null.
+   */
+  boolean validate(String value);
+
+  /**
+   * Returns a description of the requirement imposed by this validator, such as {@code "int in [1, 10]"}, which is printed
+   * when a value is not valid.
+   *
+   * @return A description of the requirement imposed by this validator.
+   */
+  String getRequirement();
+}
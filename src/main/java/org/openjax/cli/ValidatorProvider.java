@@ -0,0 +1,51 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.openjax.cli;
+
+/**
+ * Service provider interface for custom argument types. Implementations are located with {@link java.util.ServiceLoader}
+ * from {@code META-INF/services/org.openjax.cli.ValidatorProvider}, and are consulted for each {@code type} of an
+ * {@code <argument>} element that is not a built-in type.
+ * <p>
+ * For example, with a provider of the {@code "port"} type, a CLI XML may specify:
+ *
+ * <pre>
+ * <code>
+ * &lt;argument label="PORT" type="port" min="1024"/&gt;
+ * </code>
+ * </pre>
+ *
+ * @see ArgumentType
+ */
+public interface ValidatorProvider {
+  /**
+   * Returns the name of the type that this provider supports, which must not be the name of a built-in type.
+   *
+   * @return The name of the type that this provider supports.
+   */
+  String getType();
+
+  /**
+   * Returns a new {@link Validator} for the provided parameters of the {@code <argument>} element.
+   *
+   * @param min The {@code min} attribute, or {@code null}.
+   * @param max The {@code max} attribute, or {@code null}.
+   * @param values The members of the {@code values} attribute, or {@code null}.
+   * @return A new {@link Validator} for the provided parameters of the {@code <argument>} element.
+   * @throws IllegalArgumentException If the parameters are not valid for this type.
+   */
+  Validator newValidator(String min, String max, String[] values);
+}
@@ -0,0 +1,324 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.util.Arrays;
+
+/**
+ * Compact arena of the values of all options of a parse, which refers to the tokens of {@code String[] args} and of
+ * {@link ArgFile}s instead of holding each value as a {@link String}. Each value is represented by a single {@code long},
+ * of which the top two bits are a tag of its source:
+ * <ul>
+ * <li>{@link #ARG}: The index of a token in {@code args}, and the range of the value in that token.</li>
+ * <li>{@link #FILE}: A token of an {@link ArgFile}, and its offset in the file, of which the value is the entire token.</li>
+ * <li>{@link #POOL}: The index of a token in a pool of strings, and the range of the value in that token.</li>
+ * <li>{@link #POOL_WHOLE}: The index of a value in a pool of strings.</li>
+ * </ul>
+ * Values split from a token by a value separator are therefore not copied. Tokens that are neither members of {@code args}
+ * nor entire values from {@link ArgFile}s (i.e. overrides, {@code @@} escapes, and tokens of {@link ArgFile}s that are
+ * split into values) are retained once per token in the pool. A value that does not fit in a reference of its source is
+ * retained in the pool by itself, so there is no limit to the number of values other than that of an array. Values are
+ * decoded when they are requested.
+ * <p>
+ * Values are recorded in the order in which they are encountered, and are grouped by option when this arena is sealed, so
+ * that the values of each option occupy a contiguous range.
+ * <p>
+ * Instances of this class are mutable while tokenizing, and are effectively immutable once sealed.
+ */
+final class ValueArena {
+  private static final int TAG_SHIFT = 62;
+  private static final long ARG = 0L;
+  private static final long FILE = 1L;
+  private static final long POOL = 2L;
+  private static final long POOL_WHOLE = 3L;
+
+  // Layout of ARG and POOL references: index (20 bits), start (21 bits), length (21 bits)
+  private static final int LENGTH_BITS = 21;
+  private static final int START_SHIFT = LENGTH_BITS;
+  private static final int INDEX_SHIFT = START_SHIFT + LENGTH_BITS;
+  private static final int RANGE_MASK = (1 << LENGTH_BITS) - 1;
+  private static final int INDEX_MASK = (1 << (TAG_SHIFT - INDEX_SHIFT)) - 1;
+
+  // Layout of FILE references: source (14 bits), offset (48 bits)
+  private static final int SOURCE_SHIFT = 48;
+  private static final long OFFSET_MASK = (1L << SOURCE_SHIFT) - 1;
+  private static final int MAX_FILES = (1 << (TAG_SHIFT - SOURCE_SHIFT)) - 1;
+
+  private static final long POOL_INDEX_MASK = (1L << TAG_SHIFT) - 1;
+
+  private final String[] args;
+  private final int[] counts;
+  private final boolean[] specified;
+  private ArgFile[] files;
+  private int fileCount;
+  private String[] strings;
+  private int stringCount;
+  private long[] refs;
+  private int[] owners;
+  private int size;
+  private boolean interleaved;
+  private int[] offsets;
+
+  /**
+   * Creates a new empty {@link ValueArena} for the provided number of options and {@code args}.
+   *
+   * @param length The number of options.
+   * @param args The {@code String[] args}.
+   */
+  ValueArena(final int length, final String[] args) {
+    this.args = args;
+    this.counts = new int[length];
+    this.specified = new boolean[length];
+  }
+
+  private static int grow(final int length) {
+    return Math.max(8, length * 2);
+  }
+
+  /**
+   * Returns the index of the provided string in the pool, which is added unless it is the last member of the pool.
+   */
+  private int pool(final String string) {
+    if (stringCount > 0 && strings[stringCount - 1] == string)
+      return stringCount - 1;
+
+    if (strings == null)
+      strings = new String[grow(0)];
+    else if (stringCount == strings.length)
+      strings = Arrays.copyOf(strings, grow(stringCount));
+
+    strings[stringCount] = string;
+    return stringCount++;
+  }
+
+  /**
+   * Returns the 1-based source of the provided {@link ArgFile}, or {@code -1} if the number of {@link ArgFile}s exceeds
+   * the capacity of a reference.
+   */
+  private int source(final ArgFile file) {
+    int source = fileCount;
+    while (source > 0 && files[source - 1] != file)
+      --source;
+
+    if (source == 0) {
+      if (fileCount == MAX_FILES)
+        return -1;
+
+      if (files == null)
+        files = new ArgFile[1];
+      else if (fileCount == files.length)
+        files = Arrays.copyOf(files, fileCount * 2);
+
+      files[fileCount] = file;
+      source = ++fileCount;
+    }
+
+    return source;
+  }
+
+  private static long range(final long tag, final int index, final int start, final int length) {
+    return tag << TAG_SHIFT | (long)index << INDEX_SHIFT | (long)start << START_SHIFT | length;
+  }
+
+  /**
+   * Specifies the option at the provided index, without adding a value.
+   *
+   * @param index The index of the option.
+   */
+  void specify(final int index) {
+    specified[index] = true;
+  }
+
+  /**
+   * Returns whether the option at the provided index is specified.
+   *
+   * @param index The index of the option.
+   * @return Whether the option at the provided index is specified.
+   */
+  boolean isSpecified(final int index) {
+    return specified[index];
+  }
+
+  /**
+   * Returns the number of values of the option at the provided index.
+   *
+   * @param index The index of the option.
+   * @return The number of values of the option at the provided index.
+   */
+  int count(final int index) {
+    return counts[index];
+  }
+
+  /**
+   * Adds the range of {@code token} from {@code start} to {@code end} as a value of the option at the provided index.
+   *
+   * @param index The index of the option.
+   * @param token The token.
+   * @param tokenIndex The index of {@code token} in {@code args}, or {@code -1} if it is not a member of {@code args}.
+   * @param file The {@link ArgFile} of {@code token}, or {@code null} if it is not a token of an {@link ArgFile}.
+   * @param fileOffset The offset of {@code token} in {@code file}.
+   * @param start The start of the value in {@code token}, inclusive.
+   * @param end The end of the value in {@code token}, exclusive.
+   * @throws IllegalStateException If this arena is sealed.
+   */
+  void add(final int index, final String token, final int tokenIndex, final ArgFile file, final long fileOffset, final int start, final int end) {
+    if (offsets != null)
+      throw new IllegalStateException("Arena is sealed");
+
+    final boolean whole = start == 0 && end == token.length();
+    if (file != null && whole) {
+      final int source = source(file);
+      if (source != -1) {
+        addRef(index, FILE << TAG_SHIFT | (long)source << SOURCE_SHIFT | fileOffset);
+        return;
+      }
+    }
+
+    // The range of a whole token is encoded as a length of RANGE_MASK
+    if (start < RANGE_MASK && end - start < RANGE_MASK) {
+      final int length = whole ? RANGE_MASK : end - start;
+      if (file == null && tokenIndex >= 0 && tokenIndex <= INDEX_MASK && tokenIndex < args.length && args[tokenIndex] == token) {
+        addRef(index, range(ARG, tokenIndex, whole ? 0 : start, length));
+        return;
+      }
+
+      // A token of an ArgFile that is split into values is pooled, so that it is not decoded once per value
+      final int pooled = pool(token);
+      if (pooled <= INDEX_MASK) {
+        addRef(index, range(POOL, pooled, whole ? 0 : start, length));
+        return;
+      }
+    }
+
+    // The value does not fit in a reference of its source, so it is retained in the pool by itself
+    addRef(index, POOL_WHOLE << TAG_SHIFT | pool(whole ? token : token.substring(start, end)));
+  }
+
+  private void addRef(final int index, final long ref) {
+    if (refs == null) {
+      refs = new long[grow(0)];
+      owners = new int[refs.length];
+    }
+    else if (size == refs.length) {
+      refs = Arrays.copyOf(refs, grow(size));
+      owners = Arrays.copyOf(owners, refs.length);
+    }
+
+    // The values of an option are interleaved with those of another if the option already has values, but not the last
+    if (size > 0 && owners[size - 1] != index && counts[index] > 0)
+      interleaved = true;
+
+    refs[size] = ref;
+    owners[size++] = index;
+    specified[index] = true;
+    ++counts[index];
+  }
+
+  /**
+   * Groups the values by option, and trims the backing arrays. Once sealed, values can no longer be added.
+   */
+  void seal() {
+    if (offsets != null)
+      return;
+
+    final int[] offsets = new int[counts.length];
+    for (int i = 0, offset = 0; i < counts.length; ++i) { // [A]
+      offsets[i] = offset;
+      offset += counts[i];
+    }
+
+    if (interleaved) {
+      // Counting sort of the references by option, which retains the order of the values of each option
+      final long[] sorted = new long[size];
+      final int[] next = offsets.clone();
+      for (int i = 0; i < size; ++i) // [A]
+        sorted[next[owners[i]]++] = refs[i];
+
+      refs = sorted;
+    }
+    else if (size > 0) {
+      // The values of each option are already contiguous, but the options are in the order in which they are encountered
+      for (int i = size - 1; i >= 0; --i) // [A]
+        offsets[owners[i]] = i;
+
+      if (size < refs.length)
+        refs = Arrays.copyOf(refs, size);
+    }
+
+    if (strings != null && stringCount < strings.length)
+      strings = Arrays.copyOf(strings, stringCount);
+
+    owners = null;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Returns the offset of the first value of the option at the provided index, for use with {@link #get(int)}. This arena
+   * is sealed if it is not already.
+   *
+   * @param index The index of the option.
+   * @return The offset of the first value of the option at the provided index.
+   */
+  int offset(final int index) {
+    seal();
+    return offsets[index];
+  }
+
+  /**
+   * Returns the value at the provided offset, as per {@link #offset(int)}, which is decoded from its source.
+   *
+   * @param offset The offset of the value.
+   * @return The value at the provided offset.
+   */
+  String get(final int offset) {
+    final long ref = refs[offset];
+    final long tag = ref >>> TAG_SHIFT;
+    if (tag == FILE)
+      return files[(int)((ref >>> SOURCE_SHIFT) & MAX_FILES) - 1].decode(ref & OFFSET_MASK);
+
+    if (tag == POOL_WHOLE)
+      return strings[(int)(ref & POOL_INDEX_MASK)];
+
+    final int index = (int)(ref >>> INDEX_SHIFT) & INDEX_MASK;
+    final String token = tag == ARG ? args[index] : strings[index];
+    final int length = (int)ref & RANGE_MASK;
+    if (length == RANGE_MASK)
+      return token;
+
+    final int start = (int)(ref >>> START_SHIFT) & RANGE_MASK;
+    return token.substring(start, start + length);
+  }
+
+  /**
+   * Returns a new array of the values of the option at the provided index, or {@code null} if the option is not specified.
+   * An option that is specified without a value has an empty array of values.
+   *
+   * @param index The index of the option.
+   * @return A new array of the values of the option at the provided index, or {@code null} if the option is not specified.
+   */
+  String[] toArray(final int index) {
+    if (!specified[index])
+      return null;
+
+    final int offset = offset(index);
+    final String[] values = new String[counts[index]];
+    for (int i = 0; i < values.length; ++i) // [A]
+      values[i] = get(offset + i);
+
+    return values;
+  }
+}
@@ -0,0 +1,75 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * {@link ParseListener} that records each {@link ParseListener.Phase} as an {@code org.openjax.cli.Phase} JDK Flight
+ * Recorder event, which is only timed while the event is enabled in a recording. This class is compiled for Java 11 into
+ * the multi-release JAR, and is registered by {@link ParseListeners} when it is present and
+ * {@code -Dorg.openjax.cli.jfr=true} is set.
+ */
+final class JfrParseListener implements ParseListener {
+  @Name("org.openjax.cli.Phase")
+  @Label("CLI Phase")
+  @Category({"OpenJAX", "CLI"})
+  @Description("A phase of loading CLI XML or of parsing args")
+  @StackTrace(false)
+  static final class PhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Count")
+    @Description("The number of options, the length of args, the number of values, or the width of help, as per the phase")
+    int count;
+  }
+
+  /**
+   * Holder of the {@link EventType} of {@link PhaseEvent}, which is only registered with JFR on first use.
+   */
+  private static final class EventTypeHolder {
+    private static final EventType eventType = EventType.getEventType(PhaseEvent.class);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return EventTypeHolder.eventType.isEnabled();
+  }
+
+  @Override
+  public void onPhase(final Phase phase, final long nanos, final int count) {
+    final PhaseEvent event = new PhaseEvent();
+    if (event.shouldCommit()) {
+      event.phase = phase.name();
+      event.elapsed = nanos;
+      event.count = count;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArgFileTest {
+  private static final OptionSpec[] options = {
+    new OptionSpec("verbose", "v", "Verbose"),
+    new OptionSpec("config", "C", "CONFIG", '\0', true, 1, null, null, "Config"),
+    new OptionSpec("users", "U", "USER", ',', true, Integer.MAX_VALUE, null, null, "Users")
+  };
+
+  private static final Tokenizer tokenizer = new Tokenizer(options, true);
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private String argFile(final String content) throws IOException {
+    final Path path = folder.newFile().toPath();
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    return "@" + path;
+  }
+
+  @Test
+  public void testTokens() throws IOException {
+    final String file = argFile("# comment\n-U bob,joe -v --config \"a b.xml\"\n  'x \\' y' é#z\n");
+    final String[] args = {"first", file, "last"};
+    final Tokenizer.Result result = tokenizer.tokenize(args);
+    assertNull(result.error, result.error);
+    assertArrayEquals(new String[0], result.getValues(0));
+    assertArrayEquals(new String[] {"a b.xml"}, result.getValues(1));
+    assertArrayEquals(new String[] {"bob", "joe"}, result.getValues(2));
+
+    final Options options = new Options(null, args, null, null, result.arguments);
+    assertEquals(4, options.getArgumentCount());
+    assertEquals("x ' y", options.getArgument(1));
+    assertEquals("first,x ' y,é#z,last", options.argumentStream().collect(Collectors.joining(",")));
+    assertArrayEquals(new String[] {"first", "x ' y", "é#z", "last"}, options.getArguments());
+  }
+
+  @Test
+  public void testValuesAcrossFiles() throws IOException {
+    // Values of an option continue into an argument file, which is not expanded recursively
+    final String file = argFile("bob @joe\n");
+    final Tokenizer.Result result = tokenizer.tokenize(new String[] {"-U", "amy", file, "--", "@x"});
+    assertNull(result.error, result.error);
+    assertArrayEquals(new String[] {"amy", "bob", "@joe"}, result.getValues(2));
+    assertArrayEquals(new String[] {"@x"}, new Options(null, null, null, null, result.arguments).getArguments());
+  }
+
+  @Test
+  public void testEscape() {
+    final String[] args = {"@@x", "@", "y"};
+    final Tokenizer.Result result = tokenizer.tokenize(args);
+    assertNull(result.error, result.error);
+    assertArrayEquals(new String[] {"@x", "@", "y"}, new Options(null, args, null, null, result.arguments).getArguments());
+  }
+
+  @Test
+  public void testErrors() throws IOException {
+    final String file = argFile("-v\n\n--foo\n");
+    String error = tokenizer.tokenize(new String[] {file}).error;
+    assertEquals("Unrecognized option: --foo (at " + file.substring(1) + ":3)", error);
+
+    error = tokenizer.tokenize(new String[] {"-C", argFile("\n-v\n")}).error;
+    assertTrue(error, error.startsWith("Missing argument for option: -C,--config"));
+
+    error = tokenizer.tokenize(new String[] {argFile("-v\n'open\n")}).error;
+    assertTrue(error, error.startsWith("Unterminated quote (at ") && error.endsWith(":2)"));
+
+    final String missing = folder.getRoot().toPath().resolve("missing").toString();
+    error = tokenizer.tokenize(new String[] {"-v", "@" + missing}).error;
+    assertTrue(error, error.startsWith("Unable to read argument file " + missing));
+  }
+
+  @Test
+  public void testLines() throws IOException {
+    final ArgFile file = new ArgFile(Paths.get(argFile("a\nb\n\nc\n").substring(1)));
+    assertEquals(1, file.line(0));
+    assertEquals(4, file.line(5));
+    assertEquals(4, file.line(5));
+    assertEquals(2, file.line(2));
+    assertEquals(5, file.line(7));
+    assertEquals(1, file.line(1));
+  }
+
+  @Test
+  public void testCollectedErrors() throws IOException {
+    final String file = argFile("--foo\n-v\n--bar\n\n--baz\n");
+    final Tokenizer.Result result = tokenizer.tokenize(new String[] {file}, true, null);
+    assertEquals(3, result.errors.size());
+    assertTrue(result.errors.get(0).getMessage(), result.errors.get(0).getMessage().endsWith(":1)"));
+    assertTrue(result.errors.get(1).getMessage(), result.errors.get(1).getMessage().endsWith(":3)"));
+    assertTrue(result.errors.get(2).getMessage(), result.errors.get(2).getMessage().endsWith(":5)"));
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    final Tokenizer.Result result = tokenizer.tokenize(new String[] {argFile(""), argFile("  # only a comment"), "-v"});
+    assertNull(result.error, result.error);
+    assertEquals(0, result.arguments.size());
+    assertArrayEquals(new String[0], result.getValues(0));
+  }
+}
@@ -0,0 +1,153 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class ArgumentTypeTest {
+  public static class EvenValidatorProvider implements ValidatorProvider {
+    @Override
+    public String getType() {
+      return "even";
+    }
+
+    @Override
+    public Validator newValidator(final String min, final String max, final String[] values) {
+      return new Validator() {
+        @Override
+        public boolean validate(final String value) {
+          try {
+            return Integer.parseInt(value) % 2 == 0;
+          }
+          catch (final NumberFormatException e) {
+            return false;
+          }
+        }
+
+        @Override
+        public String getRequirement() {
+          return "even";
+        }
+      };
+    }
+  }
+
+  private static void assertValid(final ArgumentType type, final String ... values) {
+    for (final String value : values) // [A]
+      assertTrue(type.getName() + ": " + value, type.getValidator().validate(value));
+  }
+
+  private static void assertNotValid(final ArgumentType type, final String ... values) {
+    for (final String value : values) // [A]
+      assertFalse(type.getName() + ": " + value, type.getValidator().validate(value));
+  }
+
+  private static void assertIllegal(final String name, final String min, final String max, final String ... values) {
+    try {
+      new ArgumentType(name, min, max, values);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testNumbers() {
+    final ArgumentType type = new ArgumentType("int", "1", "10");
+    assertEquals("int in [1, 10]", type.getValidator().getRequirement());
+    assertValid(type, "1", "10", "+5");
+    assertNotValid(type, "0", "11", "1.5", "x", "", "99999999999");
+    assertValid(new ArgumentType("long", null, "0"), "-99999999999", "0");
+    assertNotValid(new ArgumentType("long", null, "0"), "1");
+    assertEquals("long <= 0", new ArgumentType("long", null, "0").getValidator().getRequirement());
+    assertValid(new ArgumentType("double", "0", "1"), "0", "0.5", "1e-3");
+    assertNotValid(new ArgumentType("double", "0", "1"), "1.1", "NaN", "x");
+    assertIllegal("int", "10", "1");
+    assertIllegal("int", "a", null);
+    assertIllegal("int", null, null, "a");
+  }
+
+  @Test
+  public void testBooleanAndEnum() {
+    assertValid(new ArgumentType("boolean", null, null), "true", "FALSE", "yes", "No", "on", "off");
+    assertNotValid(new ArgumentType("boolean", null, null), "1", "y", "");
+    assertIllegal("boolean", "a", null);
+    final ArgumentType type = new ArgumentType("enum", null, null, "red", "green");
+    assertEquals("one of [red, green]", type.getValidator().getRequirement());
+    assertValid(type, "red", "green");
+    assertNotValid(type, "blue", "Red");
+    assertIllegal("enum", null, null);
+  }
+
+  @Test
+  public void testDurationAndSize() {
+    assertEquals(5_400_000_000_000L, ArgumentType.parseDuration("1h30m"));
+    assertEquals(5_400_000_000_000L, ArgumentType.parseDuration("PT1H30M"));
+    assertEquals(1_500_000L, ArgumentType.parseDuration("1ms500us"));
+    final ArgumentType duration = new ArgumentType("duration", "1s", "1h");
+    assertValid(duration, "1s", "59m", "3600s", "PT10M");
+    assertNotValid(duration, "999ms", "2h", "10", "1x", "h", "");
+    assertEquals(1536L, ArgumentType.parseSize("1536"));
+    assertEquals(2048L, ArgumentType.parseSize("2k"));
+    assertEquals(2000L, ArgumentType.parseSize("2KB"));
+    assertEquals(3L << 30, ArgumentType.parseSize("3GiB"));
+    final ArgumentType size = new ArgumentType("size", null, "1m");
+    assertValid(size, "0", "1024k", "1mb");
+    assertNotValid(size, "1025k", "1g", "-1", "1.5k", "99999999999t");
+  }
+
+  @Test
+  public void testProvider() {
+    final ArgumentType type = new ArgumentType("even", null, null);
+    assertValid(type, "2", "-4");
+    assertNotValid(type, "3", "x");
+    assertIllegal("bogus", null, null);
+  }
+
+  @Test
+  public void testParse() {
+    final CompiledSpec spec = new CompiledSpec(new OptionSpec[] {
+      new OptionSpec("port", "p", "PORT", '\0', true, 1, null, new ArgumentType("int", "1", "65535"), null, "port"),
+      new OptionSpec("level", null, "LEVEL", ',', false, Integer.MAX_VALUE, null, new ArgumentType("enum", null, null, "a", "b"), "a", "level")
+    }, null, (short)0, (short)0, null);
+    final Options options = spec.parse(new String[] {"-p", "8080", "--level", "a,b,a"});
+    assertEquals("8080", options.getOption("port"));
+    assertArrayEquals(new String[] {"a", "b", "a"}, options.getOptions("level"));
+  }
+
+  @Test
+  public void testSpecReaderAndSnapshot() throws Exception {
+    final String xml = "<cli xmlns=\"" + SpecReader.NAMESPACE_1_2 + "\"><option><name long=\"mode\"/><argument label=\"MODE\" type=\"enum\" values=\" fast  slow \"/><description>mode</description></option><option><name long=\"timeout\"/><argument label=\"TIMEOUT\" type=\"duration\" max=\"1m\"/><description>timeout</description></option></cli>";
+    final CompiledSpec spec = Options.compile(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), Options.Loader.STAX);
+    assertArrayEquals(new String[] {"fast", "slow"}, spec.getOptionSpec(0).getType().getValues());
+    assertEquals("1m", spec.getOptionSpec(1).getType().getMax());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    SpecCache.writeSnapshot(spec, new DataOutputStream(out));
+    final CompiledSpec snapshot = SpecCache.readSnapshot(ByteBuffer.wrap(out.toByteArray()));
+    assertEquals("enum", snapshot.getOptionSpec(0).getType().getName());
+    assertArrayEquals(new String[] {"fast", "slow"}, snapshot.getOptionSpec(0).getType().getValues());
+    assertEquals("duration <= 1m", snapshot.getOptionSpec(1).getType().getValidator().getRequirement());
+  }
+}
@@ -0,0 +1,124 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.StringWriter;
+import java.net.URL;
+
+import org.apache.commons.cli.HelpFormatter;
+import org.junit.Test;
+
+public class CliOptionsProcessorTest {
+  enum Mode {
+    FAST,
+    SAFE
+  }
+
+  @CliOptions
+  static class Config {
+    @CliOption(shortName = "p", min = "1", max = "65535", defaultValue = "8080", description = "port to listen on")
+    int port;
+
+    @CliOption(description = "maximum number of threads")
+    long maxThreads = 4;
+
+    @CliOption(shortName = "r", description = "ratio")
+    double ratio = 0.5;
+
+    @CliOption(shortName = "v", description = "verbose mode")
+    boolean verbose;
+
+    @CliOption(shortName = "n", label = "NAME", required = true, pattern = "[a-z]+", description = "name of the server")
+    String name;
+
+    @CliOption(valueSeparator = ',', description = "users")
+    String[] users;
+
+    @CliOption(valueSeparator = ',', description = "sizes")
+    int[] sizes;
+
+    @CliOption(defaultValue = "SAFE", description = "mode")
+    Mode mode;
+
+    @CliArguments(label = "FILE", minOccurs = 1)
+    String[] files;
+
+    String unbound = "unbound";
+  }
+
+  @Test
+  public void testBind() {
+    final Config config = ConfigBinder.bind(new String[] {"-n", "main", "-v", "--users", "bob,joe", "--sizes=1,2,3", "--mode", "FAST", "a", "b"});
+    assertEquals(8080, config.port);
+    assertEquals(4, config.maxThreads);
+    assertEquals(0.5, config.ratio, 0);
+    assertTrue(config.verbose);
+    assertEquals("main", config.name);
+    assertArrayEquals(new String[] {"bob", "joe"}, config.users);
+    assertArrayEquals(new int[] {1, 2, 3}, config.sizes);
+    assertEquals(Mode.FAST, config.mode);
+    assertArrayEquals(new String[] {"a", "b"}, config.files);
+    assertEquals("unbound", config.unbound);
+
+    final Options options = ConfigBinder.SPEC.parse(new String[] {"-n", "x", "-p", "80", "--max-threads", "16", "-r", "2.5", "f"});
+    final Config other = ConfigBinder.bind(options, new Config());
+    assertEquals(80, other.port);
+    assertEquals(16, other.maxThreads);
+    assertEquals(2.5, other.ratio, 0);
+    assertFalse(other.verbose);
+    assertNull(other.users);
+    assertEquals(Mode.SAFE, other.mode);
+    assertEquals(ConfigBinder.SPEC.getHandle("max-threads"), ConfigBinder.Handle.MAX_THREADS);
+  }
+
+  @Test
+  public void testValidation() {
+    final CompiledSpec spec = ConfigBinder.SPEC;
+    assertEquals("Incorrect argument form: -p,--port 0\n  Required: int in [1, 65535]", spec.tryParse(new String[] {"-n", "x", "-p", "0", "f"}).getError());
+    assertEquals("Incorrect argument form: -n,--name X\n  Required: [a-z]+", spec.tryParse(new String[] {"-n", "X", "f"}).getError());
+    assertEquals(ParseError.Kind.INVALID_VALUE, spec.tryParse(new String[] {"-n", "x", "--mode", "SLOW", "f"}).getErrors().get(0).getKind());
+    assertEquals("Invalid number of arguments: 0", spec.tryParse(new String[] {"-n", "x"}).getError());
+  }
+
+  @Test
+  public void testDerivedXml() throws Exception {
+    final URL url = CliOptionsProcessorTest.class.getResource("Config.cli.xml");
+    assertNotNull(url);
+    final CompiledSpec spec = Options.compile(url);
+    assertEquals(ConfigBinder.SPEC.getOptionCount(), spec.getOptionCount());
+    assertEquals(ConfigBinder.HELP, spec.getHelp(HelpFormatter.DEFAULT_WIDTH));
+    assertEquals("FILE", spec.getArgumentsLabel());
+    assertEquals(1, spec.getArgumentsMinOccurs());
+    assertEquals(-1, spec.getArgumentsMaxOccurs());
+
+    final StringWriter out = new StringWriter();
+    CliOptionsProcessor.writeXml(spec, out);
+    final StringWriter expected = new StringWriter();
+    CliOptionsProcessor.writeXml(ConfigBinder.SPEC, expected);
+    assertEquals(expected.toString(), out.toString());
+  }
+
+  @Test
+  public void testKebabCase() {
+    assertEquals("max-threads", CliOptionsProcessor.kebabCase("maxThreads"));
+    assertEquals("url", CliOptionsProcessor.kebabCase("URL"));
+    assertEquals("http-url", CliOptionsProcessor.kebabCase("httpURL"));
+    assertEquals("a-b", CliOptionsProcessor.kebabCase("a_b"));
+  }
+}
@@ -0,0 +1,67 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import org.apache.commons.cli.HelpFormatter;
+import org.junit.Test;
+
+@CliSpec("cli.xml")
+public class CliSpecProcessorTest {
+  private static final String[] args = {"--users", "bob,joe", "-V", "file1", "file2", "file3"};
+
+  @Test
+  public void testGeneratedSpec() throws Exception {
+    final CompiledSpec expected = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+    final CompiledSpec actual = CliSpecProcessorTestCli.SPEC;
+    assertNull(actual.getBinding());
+    assertEquals(expected.getOptionCount(), actual.getOptionCount());
+    assertEquals(expected.getArgumentsLabel(), actual.getArgumentsLabel());
+    assertEquals(expected.getArgumentsMinOccurs(), actual.getArgumentsMinOccurs());
+    assertEquals(expected.getArgumentsMaxOccurs(), actual.getArgumentsMaxOccurs());
+
+    final Options options = actual.parse(args);
+    assertEquals("config.xml", options.getOption("config"));
+    assertArrayEquals(new String[] {"bob", "joe"}, options.getOptions("users"));
+    assertEquals("true", options.getOption("V"));
+    assertArrayEquals(new String[] {"file1", "file2", "file3"}, options.getArguments());
+  }
+
+  @Test
+  public void testGeneratedHandles() {
+    final CompiledSpec spec = CliSpecProcessorTestCli.SPEC;
+    assertEquals(spec.getHandle("config"), CliSpecProcessorTestCli.Handle.CONFIG);
+    assertEquals(spec.getHandle("users"), CliSpecProcessorTestCli.Handle.USERS);
+    assertEquals(spec.getHandle("V"), CliSpecProcessorTestCli.Handle.V);
+
+    final Options options = spec.parse(args);
+    assertEquals("config.xml", options.getOption(CliSpecProcessorTestCli.Handle.CONFIG));
+    assertArrayEquals(new String[] {"bob", "joe"}, options.getOptions(CliSpecProcessorTestCli.Handle.USERS));
+    assertTrue(options.getBoolean(CliSpecProcessorTestCli.Handle.V));
+    assertNull(options.getOption(CliSpecProcessorTestCli.Handle.SILENT));
+    assertEquals("A_B", CliSpecProcessor.constantName("a-b"));
+    assertEquals("_1X", CliSpecProcessor.constantName("1x"));
+  }
+
+  @Test
+  public void testGeneratedHelp() throws Exception {
+    final CompiledSpec spec = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+    assertEquals(spec.getHelp(HelpFormatter.DEFAULT_WIDTH), CliSpecProcessorTestCli.HELP);
+    assertSame(CliSpecProcessorTestCli.HELP, CliSpecProcessorTestCli.SPEC.getHelp(HelpFormatter.DEFAULT_WIDTH));
+  }
+}
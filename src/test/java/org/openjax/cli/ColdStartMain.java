@@ -0,0 +1,59 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Minimal {@code main(String[])} that is launched in a fresh JVM by {@link ColdStartTest} to measure the time, classes and
+ * memory needed to parse the first option.
+ */
+public final class ColdStartMain {
+  static final String MARKER = "cli.coldstart.parsed";
+
+  /**
+   * Returns the peak resident set size of this process in kB, or {@code -1} if it cannot be determined.
+   */
+  private static long getPeakRss() {
+    final byte[] bytes = new byte[4096];
+    try (final FileInputStream in = new FileInputStream("/proc/self/status")) {
+      final String status = new String(bytes, 0, Math.max(0, in.read(bytes)), "US-ASCII");
+      final int start = status.indexOf("VmHWM:");
+      if (start == -1)
+        return -1;
+
+      final int end = status.indexOf("kB", start);
+      return Long.parseLong(status.substring(start + 6, end).trim());
+    }
+    catch (final IOException | RuntimeException e) {
+      return -1;
+    }
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final Options options = Options.parse(ColdStartMain.class.getClassLoader().getResource("cli.xml"), new String[] {"--users", "bob,joe", "file1", "file2", "file3"});
+    if (!"config.xml".equals(options.getOption("config")))
+      System.exit(2);
+
+    System.out.println(MARKER);
+    System.out.println("rss=" + getPeakRss());
+  }
+
+  private ColdStartMain() {
+  }
+}
@@ -0,0 +1,119 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Regression test of the cold start of {@link Options#parse(java.net.URL,String[])}, which launches {@link ColdStartMain}
+ * in fresh JVMs and asserts that the median time to the first parsed option, the median number of classes loaded by then,
+ * and the median peak RSS are within budget. The number of JVMs and the budgets are configured with the following system
+ * properties:
+ * <ul>
+ * <li>{@code cli.coldstart.forks}: The number of JVMs to launch (default: 5, or 0 to skip).</li>
+ * <li>{@code cli.coldstart.maxMillis}: The budget of the wall time from launch to the first parsed option (default:
+ * 330).</li>
+ * <li>{@code cli.coldstart.maxClasses}: The budget of classes loaded by the first parsed option (default: 1200).</li>
+ * <li>{@code cli.coldstart.maxRssKb}: The budget of peak RSS in kB, checked only where it can be determined (default:
+ * 55296).</li>
+ * </ul>
+ * The default budgets are about 25% over the baseline on JDK 17 (265ms, 964 classes and 42MB), so as to fail on a
+ * regression, and are to be lowered as the cold start improves. The wall time is budgeted over the baseline of a build
+ * under load, as it varies with the other processes of the build, whereas the number of classes and the RSS do not.
+ */
+public class ColdStartTest {
+  private static final Logger logger = LoggerFactory.getLogger(ColdStartTest.class);
+
+  private static final int forks = Integer.getInteger("cli.coldstart.forks", 5);
+  private static final long maxMillis = Long.getLong("cli.coldstart.maxMillis", 330);
+  private static final long maxClasses = Long.getLong("cli.coldstart.maxClasses", 1200);
+  private static final long maxRssKb = Long.getLong("cli.coldstart.maxRssKb", 55296);
+
+  private static long median(final long[] values) {
+    final long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  /**
+   * Launches {@link ColdStartMain} in a fresh JVM, and returns the wall time to the first parsed option in milliseconds,
+   * the number of classes loaded by then, and the peak RSS in kB.
+   */
+  private static long[] launch() throws IOException, InterruptedException {
+    final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    final ProcessBuilder builder = new ProcessBuilder(java, "-verbose:class", "-cp", System.getProperty("java.class.path"), ColdStartMain.class.getName());
+    builder.redirectErrorStream(true);
+
+    final long start = System.nanoTime();
+    final Process process = builder.start();
+    long millis = -1;
+    long classes = 0;
+    long rss = -1;
+    try (final BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+      for (String line; (line = in.readLine()) != null;) {
+        if (millis == -1) {
+          if (ColdStartMain.MARKER.equals(line))
+            millis = (System.nanoTime() - start) / 1000000;
+          else if (line.startsWith("[Loaded ") || line.contains("[class,load]"))
+            ++classes;
+        }
+        else if (line.startsWith("rss=")) {
+          rss = Long.parseLong(line.substring(4));
+        }
+      }
+    }
+
+    assertEquals("Exit code of " + ColdStartMain.class.getSimpleName(), 0, process.waitFor());
+    assertNotEquals("Did not parse options", -1, millis);
+    return new long[] {millis, classes, rss};
+  }
+
+  @Test
+  public void testColdStart() throws Exception {
+    Assume.assumeTrue(forks > 0);
+    final long[] millis = new long[forks];
+    final long[] classes = new long[forks];
+    final long[] rss = new long[forks];
+    for (int i = 0; i < forks; ++i) { // [N]
+      final long[] result = launch();
+      millis[i] = result[0];
+      classes[i] = result[1];
+      rss[i] = result[2];
+    }
+
+    final long medianMillis = median(millis);
+    final long medianClasses = median(classes);
+    final long medianRss = median(rss);
+    if (logger.isInfoEnabled()) { logger.info("Cold start (median of " + forks + "): " + medianMillis + "ms, " + medianClasses + " classes, " + (medianRss == -1 ? "?" : medianRss + "kB") + " peak RSS"); }
+
+    assertTrue("Time to first option " + medianMillis + "ms exceeds budget of " + maxMillis + "ms", medianMillis <= maxMillis);
+    assertTrue("Classes loaded by first option " + medianClasses + " exceeds budget of " + maxClasses, medianClasses <= maxClasses);
+    if (medianRss != -1)
+      assertTrue("Peak RSS " + medianRss + "kB exceeds budget of " + maxRssKb + "kB", medianRss <= maxRssKb);
+  }
+}
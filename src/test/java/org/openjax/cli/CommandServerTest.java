@@ -0,0 +1,157 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class CommandServerTest {
+  private static final CompiledSpec spec = new CompiledSpec(new OptionSpec[] {
+    new OptionSpec("name", "n", "NAME", '\0', true, 1, null, null, "name to greet"),
+    new OptionSpec("fail", null, "fail")
+  }, "ARG", (short)0, (short)2, null);
+
+  private static final CommandServer.Handler handler = (options, cwd, out, err) -> {
+    if (options.getBoolean("fail"))
+      throw new IllegalStateException("failed");
+
+    if (options.getArgumentCount() == 1 && "cwd".equals(options.getArgument(0)))
+      out.println(cwd);
+
+    out.println("hello " + options.getOption("name"));
+    err.println("args " + options.getArgumentCount());
+    return options.getArgumentCount();
+  };
+
+  private static String call(final Path path, final int expected, final String expectedErr, final String ... args) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    assertEquals(expected, CommandClient.call(path, args, 40, out, err));
+    if (expectedErr != null)
+      assertTrue(err.toString("UTF-8"), err.toString("UTF-8").startsWith(expectedErr));
+
+    return out.toString("UTF-8");
+  }
+
+  private static void assertServer(final Path path, final boolean tcp) throws IOException {
+    try (final CommandServer server = new CommandServer(spec, handler).bind(path, tcp)) {
+      assertEquals(path, server.getPath());
+      assertEquals(tcp, Files.isRegularFile(path));
+      if (path.getFileSystem().supportedFileAttributeViews().contains("posix"))
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(path)));
+
+      try (final Stream<Path> files = Files.list(path.getParent())) {
+        assertEquals(1, files.count());
+      }
+
+      for (int i = 0; i < 3; ++i) // [N]
+        assertEquals("hello world" + System.lineSeparator(), call(path, 2, "args 2", "--name", "world", "a", "b"));
+
+      // Errors and help are printed to the client with an exit code of 1, and do not exit the server
+      final String missing = call(path, 1, null, "a");
+      assertTrue(missing, missing.startsWith("Missing argument: -n,--name" + System.lineSeparator() + "usage:"));
+      assertEquals("", call(path, 1, "usage:", "-n", "x", "a", "b", "c"));
+      final String help = call(path, 1, "", "--help");
+      assertTrue(help, help.startsWith("usage:"));
+      for (final String line : help.split(System.lineSeparator())) // [A]
+        assertTrue(line, line.length() <= 40);
+
+      assertEquals("", call(path, 1, "java.lang.IllegalStateException: failed", "-n", "x", "--fail"));
+      assertEquals("hello " + "é" + System.lineSeparator(), call(path, 0, null, "-n", "é"));
+
+      // Argument files and relative paths are resolved against the working directory of the client
+      final Path cwd = Files.createTempDirectory("cli");
+      try {
+        Files.write(cwd.resolve("args"), "-n cwd cwd".getBytes(StandardCharsets.UTF_8));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, CommandClient.call(path, cwd, new String[] {"@args"}, 40, out, new ByteArrayOutputStream()));
+        assertEquals(cwd.toAbsolutePath() + System.lineSeparator() + "hello cwd" + System.lineSeparator(), out.toString("UTF-8"));
+      }
+      finally {
+        Files.deleteIfExists(cwd.resolve("args"));
+        Files.deleteIfExists(cwd);
+      }
+    }
+
+    assertFalse(Files.exists(path));
+  }
+
+  @Test
+  public void testUnixDomainSocket() throws IOException {
+    if (CommandClient.UNIX == null)
+      return;
+
+    final Path dir = Files.createTempDirectory("cli");
+    try {
+      assertServer(dir.resolve("cli.sock"), false);
+    }
+    finally {
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testTcp() throws IOException {
+    final Path dir = Files.createTempDirectory("cli");
+    final Path path = dir.resolve("cli.port");
+    try {
+      assertServer(path, true);
+
+      // A request without the token of the server is rejected
+      try (final CommandServer server = new CommandServer(spec, handler).bind(path, true)) {
+        final String[] parts = new String(Files.readAllBytes(path), StandardCharsets.UTF_8).split(" ");
+        Files.write(path, (parts[0] + " " + parts[1] + " " + parts[2].replace(parts[2].charAt(0), parts[2].charAt(0) == 'a' ? 'b' : 'a')).getBytes(StandardCharsets.UTF_8));
+        try {
+          call(path, 0, null, "-n", "x");
+          fail("Expected IOException");
+        }
+        catch (final IOException e) {
+        }
+      }
+
+      // A token of the wrong length is rejected before it is read
+      try (final CommandServer server = new CommandServer(spec, handler).bind(path, true)) {
+        final int port = Integer.parseInt(new String(Files.readAllBytes(path), StandardCharsets.UTF_8).split(" ")[1]);
+        try (final SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+          final DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+          out.writeInt(1 << 26);
+          out.flush();
+          assertEquals(-1, new DataInputStream(Channels.newInputStream(channel)).read());
+        }
+      }
+    }
+    finally {
+      Files.deleteIfExists(path);
+      Files.deleteIfExists(dir);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CommandTest {
+  private static final String root = "<cli xmlns=\"" + SpecReader.NAMESPACE_1_2 + "\">" +
+    "<option><name long=\"verbose\" short=\"v\"/><description>Verbose</description></option>" +
+    "<option><name long=\"include\" short=\"I\"/><argument label=\"DIR\" maxOccurs=\"unbounded\"/><description>Include</description></option>" +
+    "<command name=\"commit\" spec=\"commands/commit.xml\"><description>Record changes</description></command>" +
+    "<command name=\"push\" spec=\"commands/missing.xml\"><description>Update remote refs</description></command>" +
+    "</cli>";
+
+  private static final String commit = "<cli xmlns=\"" + SpecReader.NAMESPACE_1_2 + "\">" +
+    "<option><name long=\"message\" short=\"m\"/><argument label=\"MSG\" use=\"required\"/><description>Message</description></option>" +
+    "<option><name long=\"verbose\" short=\"v\"/><description>Verbose</description></option>" +
+    "<arguments label=\"FILE\" minOccurs=\"0\" maxOccurs=\"unbounded\"/>" +
+    "</cli>";
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private URL write() throws IOException {
+    final Path directory = folder.getRoot().toPath();
+    Files.createDirectories(directory.resolve("commands"));
+    Files.write(directory.resolve("commands/commit.xml"), commit.getBytes(StandardCharsets.UTF_8));
+    final Path rootXml = directory.resolve("root.xml");
+    Files.write(rootXml, root.getBytes(StandardCharsets.UTF_8));
+    return rootXml.toUri().toURL();
+  }
+
+  @Test
+  public void testParse() throws IOException {
+    final CompiledSpec spec = Options.compile(write());
+    assertEquals(2, spec.getCommandCount());
+    assertEquals("commit", spec.getCommand(0).getName());
+    assertEquals("commands/commit.xml", spec.getCommand(0).getSpec());
+    assertNull(spec.getArgumentsLabel());
+
+    // Values of -I end at the name of the subcommand, and the options that follow it belong to the subcommand
+    final Options options = spec.parse(new String[] {"-I", "a", "b", "commit", "-v", "-m", "fix", "x.java"});
+    assertArrayEquals(new String[] {"a", "b"}, options.getOptions("include"));
+    assertNull(options.getOption("verbose"));
+    assertEquals("commit", options.getCommand());
+    final Options commandOptions = options.getCommandOptions();
+    assertEquals("fix", commandOptions.getOption("message"));
+    assertTrue(commandOptions.getBoolean("verbose"));
+    assertArrayEquals(new String[] {"x.java"}, commandOptions.getArguments());
+    assertNull(commandOptions.getCommand());
+    assertSame(spec.getCommandSpec("commit"), spec.getCommandSpec("commit"));
+  }
+
+  @Test
+  public void testLazyLoading() throws IOException {
+    // The spec of "push" does not exist, which is only an error when "push" is selected
+    final CompiledSpec spec = Options.compile(write());
+    assertEquals("commit", spec.parse(new String[] {"commit", "-m", "x"}).getCommand());
+    try {
+      spec.parse(new String[] {"push"});
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Unable to load spec of command push"));
+    }
+
+    try {
+      spec.getCommandSpec("pull");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testTryParse() throws IOException {
+    final CompiledSpec spec = Options.compile(write());
+
+    // Errors of the subcommand refer to the indexes of its tokens in the args of the enclosing command
+    final ParseResult result = spec.tryParse(new String[] {"-x", "-v", "commit", "-v", "-q", "-m"});
+    assertEquals(result.getErrors().toString(), 3, result.getErrors().size());
+    assertEquals(0, result.getErrors().get(0).getIndex());
+    assertEquals(4, result.getErrors().get(1).getIndex());
+    assertEquals(ParseError.Kind.MISSING_VALUE, result.getErrors().get(2).getKind());
+    assertEquals(5, result.getErrors().get(2).getIndex());
+
+    assertEquals("Unknown command: pull", spec.tryParse(new String[] {"pull"}).getError());
+    final ParseError error = spec.tryParse(new String[] {"push"}).getErrors().get(0);
+    assertEquals(ParseError.Kind.INVALID_COMMAND, error.getKind());
+    assertTrue(error.getMessage(), error.getMessage().startsWith("Unable to load spec of command push"));
+    assertEquals("Missing command", spec.tryParse(new String[] {"-v"}).getError());
+
+    // The CLI XML of "commit" is malformed, which is also a failure to load the subcommand
+    final CompiledSpec malformed = Options.compile(write());
+    Files.write(folder.getRoot().toPath().resolve("commands/commit.xml"), "<cli".getBytes(StandardCharsets.UTF_8));
+    assertEquals(ParseError.Kind.INVALID_COMMAND, malformed.tryParse(new String[] {"commit", "-m", "x"}).getErrors().get(0).getKind());
+  }
+
+  @Test
+  public void testTokenizer() {
+    final Tokenizer tokenizer = new Tokenizer(new OptionSpec[] {new OptionSpec("verbose", "v", "Verbose")}, true, new String[] {"commit", "push"});
+    final Tokenizer.Result result = tokenizer.tokenize(new String[] {"-v", "push", "-x", "commit"});
+    assertNull(result.error, result.error);
+    assertEquals(1, result.command);
+    assertEquals(2, result.commandEnd);
+    assertEquals(0, result.arguments.size());
+    assertEquals("Unknown command: pull", tokenizer.tokenize(new String[] {"pull"}).error);
+    assertEquals("Unknown command: @commit", tokenizer.tokenize(new String[] {"@@commit"}).error);
+    assertEquals(-1, tokenizer.tokenize(new String[] {"-v"}).command);
+    assertEquals(0, tokenizer.tokenize(new String[] {"--", "commit"}).command);
+  }
+
+  @Test
+  public void testHelp() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Options.compile(write()).printHelp(new PrintStream(out, true, "UTF-8"));
+    final String help = out.toString("UTF-8");
+    assertTrue(help, help.contains("[options] <command> [...]"));
+    assertTrue(help, help.contains("Commands:\n commit    Record changes\n push      Update remote refs"));
+  }
+
+  @Test
+  public void testSnapshot() throws IOException {
+    final URL url = write();
+    final CompiledSpec spec = Options.compile(url);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    SpecCache.writeSnapshot(spec, new DataOutputStream(out));
+    final CompiledSpec snapshot = SpecCache.readSnapshot(ByteBuffer.wrap(out.toByteArray()), url);
+    assertEquals(2, snapshot.getCommandCount());
+    assertEquals("Update remote refs", snapshot.getCommand(1).getDescription());
+    assertEquals("fix", snapshot.parse(new String[] {"commit", "-m", "fix"}).getCommandOptions().getOption("message"));
+  }
+}
@@ -0,0 +1,115 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CompletionTest {
+  private static final String root = "<cli xmlns=\"" + SpecReader.NAMESPACE_1_2 + "\">" +
+    "<option><name long=\"verbose\" short=\"v\"/><description>Verbose\n  output</description></option>" +
+    "<option><name long=\"config\" short=\"C\"/><argument label=\"FILE\"/><description>Config's file</description></option>" +
+    "<option><name long=\"mode\"/><argument label=\"MODE\" type=\"enum\" values=\"fast safe\"/><description>Mode</description></option>" +
+    "<command name=\"commit\" spec=\"commit.xml\"><description>Record changes</description></command>" +
+    "<command name=\"config\" spec=\"commit.xml\"><description>Get and set options</description></command>" +
+    "</cli>";
+
+  private static final String commit = "<cli xmlns=\"" + SpecReader.NAMESPACE_1_2 + "\">" +
+    "<option><name long=\"message\" short=\"m\"/><argument label=\"MSG\"/><description>Message</description></option>" +
+    "<option><name long=\"amend\"/><argument label=\"AMEND\" type=\"boolean\"/><description>Amend</description></option>" +
+    "<arguments label=\"FILE\" minOccurs=\"0\" maxOccurs=\"unbounded\"/>" +
+    "</cli>";
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private CompiledSpec spec() throws IOException {
+    final Path directory = folder.getRoot().toPath();
+    Files.write(directory.resolve("commit.xml"), commit.getBytes(StandardCharsets.UTF_8));
+    final Path rootXml = directory.resolve("root.xml");
+    Files.write(rootXml, root.getBytes(StandardCharsets.UTF_8));
+    final URL url = rootXml.toUri().toURL();
+    return Options.compile(url);
+  }
+
+  private String complete(final Path script, final String line) throws IOException, InterruptedException {
+    final String[] words = line.split(" ", -1);
+    final StringBuilder array = new StringBuilder();
+    for (final String word : words) // [A]
+      array.append(" '").append(word).append('\'');
+
+    final String command = "source '" + script + "'; COMP_WORDS=(" + array + "); COMP_CWORD=" + (words.length - 1) + "; _app_complete; echo \"${COMPREPLY[*]}\"";
+    final Process process = new ProcessBuilder("bash", "--norc", "-c", command).redirectErrorStream(true).start();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    for (int len; (len = process.getInputStream().read(buffer)) != -1;)
+      out.write(buffer, 0, len);
+
+    assertEquals(0, process.waitFor());
+    return new String(out.toByteArray(), StandardCharsets.UTF_8).trim();
+  }
+
+  @Test
+  public void testBash() throws Exception {
+    Assume.assumeTrue(new File("/bin/bash").canExecute());
+    final Path script = folder.getRoot().toPath().resolve("app.bash");
+    Files.write(script, Completion.generate(Completion.Shell.BASH, "app", spec()).getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("--verbose -v --config -C --mode --help", complete(script, "app -"));
+    assertEquals("--config", complete(script, "app --c"));
+    assertEquals("commit config", complete(script, "app co"));
+    assertEquals("fast safe", complete(script, "app --mode "));
+    assertEquals("safe", complete(script, "app --mode = s"));
+    assertEquals("", complete(script, "app --config "));
+    // The value of --config is not the subcommand config
+    assertEquals("commit config", complete(script, "app --config config "));
+    assertEquals("--message -m --amend --help", complete(script, "app -v commit -"));
+    assertEquals("true false", complete(script, "app config --amend "));
+    assertEquals("--message", complete(script, "app commit -m x --me"));
+  }
+
+  @Test
+  public void testScripts() throws IOException {
+    final CompiledSpec spec = spec();
+    final String zsh = Completion.generate(Completion.Shell.ZSH, "app", spec);
+    assertTrue(zsh, zsh.startsWith("#compdef app\n"));
+    assertTrue(zsh, zsh.contains("':--mode') compadd -- 'fast' 'safe'; return;;"));
+    assertTrue(zsh, zsh.contains("'config') compadd -- '--message' '-m' '--amend' '--help';;"));
+
+    final String fish = Completion.generate(Completion.Shell.FISH, "app", spec);
+    assertTrue(fish, fish.contains("printf '%s\\t%s\\n' '--verbose' 'Verbose output' '-v' 'Verbose output' '--config' 'Config\\'s file'"));
+    assertTrue(fish, fish.endsWith("complete -c 'app' -f -a '(_app_complete)'\n"));
+    try {
+      Completion.generate(Completion.Shell.BASH, "", spec);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Stress test that compiles and parses on many threads at once, each with its own distinct options, to assert that neither
+ * the compilation of specs nor the parsing of args shares mutable state across threads.
+ */
+public class ConcurrentParseTest {
+  private static final URL cliXml = ClassLoader.getSystemClassLoader().getResource("cli.xml");
+  private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+  private static final int ITERATIONS = 200;
+
+  private static CompiledSpec newSpec(final int thread) {
+    final String name = "opt" + thread;
+    return new CompiledSpec(new OptionSpec[] {
+      new OptionSpec(name, "o" + thread, "VALUE", ',', true, Integer.MAX_VALUE, null, null, "option of thread " + thread),
+      new OptionSpec("flag" + thread, null, "flag of thread " + thread)
+    }, "ARG", (short)1, (short)1, null);
+  }
+
+  private static String help(final CompiledSpec spec) throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final PrintStream ps = new PrintStream(out, true, "UTF-8")) {
+      spec.printHelp(ps);
+    }
+
+    return out.toString("UTF-8");
+  }
+
+  @Test
+  public void testConcurrentCompileAndParse() throws Exception {
+    final CompiledSpec shared = Options.compile(cliXml);
+    final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final ArrayList<Future<Void>> futures = new ArrayList<>(THREADS);
+      for (int t = 0; t < THREADS; ++t) { // [N]
+        final int thread = t;
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            barrier.await();
+            for (int i = 0; i < ITERATIONS; ++i) { // [N]
+              final CompiledSpec spec = newSpec(thread);
+              assertTrue(help(spec).contains("--opt" + thread + " <VALUE1,VALUE2...>"));
+
+              final Options options = spec.parse(new String[] {"--opt" + thread, "a" + i + ",b" + i, "--flag" + thread, "arg" + thread});
+              assertArrayEquals(new String[] {"a" + i, "b" + i}, options.getOptions("opt" + thread));
+              assertEquals("true", options.getOption("flag" + thread));
+              assertArrayEquals(new String[] {"arg" + thread}, options.getArguments());
+
+              final Options sharedOptions = shared.parse(new String[] {"-U", "user" + thread + ",user" + i, "f1", "f2", "f" + i});
+              assertArrayEquals(new String[] {"user" + thread, "user" + i}, sharedOptions.getOptions("users"));
+              assertArrayEquals(new String[] {"f1", "f2", "f" + i}, sharedOptions.getArguments());
+            }
+
+            return null;
+          }
+        }));
+      }
+
+      for (final Future<Void> future : futures) // [L]
+        future.get(2, TimeUnit.MINUTES);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testParseAll() throws Exception {
+    final CompiledSpec spec = Options.compile(cliXml);
+    final ArrayList<String[]> argvs = new ArrayList<>();
+    for (int i = 0; i < 10_000; ++i) // [N]
+      argvs.add(i % 10 == 0 ? new String[] {"-U", "bad$" + i + ",joe", "f1", "f2", "f3"} : i % 10 == 1 ? new String[] {"-U", "user" + i + ",joe", "f1"} : new String[] {"-U", "user" + i + ",joe", "f1", "f2", "f" + i});
+
+    final List<ParseResult> results = spec.parseAll(argvs);
+    assertEquals(argvs.size(), results.size());
+    for (int i = 0; i < results.size(); ++i) { // [RA]
+      final ParseResult result = results.get(i);
+      assertSame(argvs.get(i), result.getArgs());
+      if (i % 10 == 0) {
+        assertFalse(result.isSuccess());
+        assertNull(result.getOptions());
+        assertEquals("Incorrect argument form: -U,--users bad$" + i + "\n  Required: [ a-zA-Z0-9]+", result.getError());
+      }
+      else if (i % 10 == 1) {
+        assertEquals("Invalid number of arguments: 1", result.getError());
+      }
+      else {
+        assertTrue(result.getError(), result.isSuccess());
+        assertEquals("user" + i + ",joe", result.getOptions().getOption("users"));
+        assertEquals("f" + i, result.getOptions().getArgument(2));
+      }
+    }
+
+    // The Stream is parsed in the ForkJoinPool in which it is consumed
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final long errors = pool.submit(() -> spec.parseAll(argvs.stream()).filter(r -> !r.isSuccess()).count()).get();
+      assertEquals(2_000, errors);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LiveOptionsTest {
+  private static final String[] args = {"--users", "bob,joe", "file1", "file2", "file3"};
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private static CompiledSpec spec() throws IOException {
+    return Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+  }
+
+  private static void write(final Path path, final String content) throws IOException {
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testLayers() throws IOException {
+    final Path path = folder.getRoot().toPath().resolve("cli.properties");
+    try (final LiveOptions live = new LiveOptions(spec(), args, path)) {
+      assertEquals("config.xml", live.get().getOption("config"));
+      assertNull(live.get().getOption("silent"));
+
+      // argv takes precedence over the overrides file
+      write(path, "config=other.xml\nusers=alice\nsilent=true\nV=false\n");
+      final Options options = live.reload();
+      assertSame(options, live.get());
+      assertEquals("other.xml", options.getOption("config"));
+      assertArrayEquals(new String[] {"bob", "joe"}, options.getOptions("users"));
+      assertTrue(options.getBoolean("silent"));
+      assertNull(options.getOption("V"));
+      assertArrayEquals(new String[] {"file1", "file2", "file3"}, options.getArguments());
+    }
+  }
+
+  @Test
+  public void testRequired() throws IOException {
+    final Path path = folder.getRoot().toPath().resolve("cli.xml");
+    final String[] args = {"file1", "file2", "file3"};
+    try {
+      new LiveOptions(spec(), args, path);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("users"));
+    }
+
+    write(path, "<!DOCTYPE properties SYSTEM \"http://java.sun.com/dtd/properties.dtd\"><properties><entry key=\"users\">$</entry></properties>");
+    try {
+      new LiveOptions(spec(), args, path);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Incorrect argument form"));
+    }
+
+    write(path, "<!DOCTYPE properties SYSTEM \"http://java.sun.com/dtd/properties.dtd\"><properties><entry key=\"users\">alice</entry></properties>");
+    try (final LiveOptions live = new LiveOptions(spec(), args, path)) {
+      assertArrayEquals(new String[] {"alice"}, live.get().getOptions("users"));
+    }
+  }
+
+  @Test
+  public void testInvalid() throws IOException {
+    final Path path = folder.getRoot().toPath().resolve("cli.properties");
+    write(path, "config=a.xml\n");
+    try (final LiveOptions live = new LiveOptions(spec(), args, path)) {
+      final Options options = live.get();
+      for (final String content : new String[] {"unknown=x\n", "silent=maybe\n", "V=1\n"}) { // [A]
+        write(path, "config=a.xml\n" + content);
+        try {
+          live.reload();
+          fail("Expected IllegalArgumentException: " + content);
+        }
+        catch (final IllegalArgumentException e) {
+        }
+
+        assertSame(options, live.get());
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentReload() throws InterruptedException, IOException {
+    final Path path = folder.getRoot().toPath().resolve("cli.properties");
+    final AtomicBoolean notifying = new AtomicBoolean();
+    final AtomicBoolean overlapped = new AtomicBoolean();
+    final AtomicReference<Options> last = new AtomicReference<>();
+    try (final LiveOptions live = new LiveOptions(spec(), args, path)) {
+      live.subscribe(options -> {
+        if (!notifying.compareAndSet(false, true))
+          overlapped.set(true);
+
+        last.set(options);
+        Thread.yield();
+        notifying.set(false);
+      });
+
+      final Thread[] threads = new Thread[4];
+      for (int i = 0; i < threads.length; ++i) { // [A]
+        final int n = i;
+        threads[i] = new Thread(() -> {
+          try {
+            for (int j = 0; j < 50; ++j) { // [N]
+              write(path, "config=" + n + "-" + j + ".xml\n");
+              live.reload();
+            }
+          }
+          catch (final IllegalArgumentException | IOException e) {
+            // A reload may read a partially written file
+          }
+        });
+        threads[i].start();
+      }
+
+      for (final Thread thread : threads) // [A]
+        thread.join();
+
+      assertFalse("Subscribers were notified concurrently", overlapped.get());
+      assertSame(last.get(), live.get());
+    }
+  }
+
+  @Test
+  public void testWatch() throws InterruptedException, IOException {
+    final Path path = folder.getRoot().toPath().resolve("cli.properties");
+    final LinkedBlockingQueue<Options> queue = new LinkedBlockingQueue<>();
+    try (final LiveOptions live = new LiveOptions(spec(), args, path)) {
+      // A failing subscriber neither skips the remaining subscribers, nor stops the watcher
+      live.subscribe(options -> {
+        throw new IllegalArgumentException("subscriber");
+      });
+      live.subscribe(queue::add);
+      live.watch();
+      for (final String config : new String[] {"watched.xml", "rewatched.xml"}) { // [A]
+        write(path, "config=" + config + "\n");
+        Options options;
+        do
+          assertNotNull("Timed out waiting for reload", options = queue.poll(30, TimeUnit.SECONDS));
+        while (!config.equals(options.getOption("config")));
+        assertEquals(config, live.get().getOption("config"));
+      }
+    }
+  }
+}
@@ -64,6 +64,119 @@ public class OptionsTest {
     assertArrayEquals("arguments != [file1, file2, file3]", new String[] {"file1", "file2", "file3"}, options.getArguments());
   }
 
+  @Test
+  public void testCompiledSpec() throws Exception {
+    final CompiledSpec spec = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+    assertEquals(3, spec.getArgumentsMinOccurs());
+    assertEquals(-1, spec.getArgumentsMaxOccurs());
+    for (int i = 0; i < 3; ++i) { // [N]
+      final Options options = spec.parse(new String[] {"--users", "bob,joe", "-V", "file1", "file2", "file3"});
+      assertEquals("config.xml", options.getOption("config"));
+      assertArrayEquals(new String[] {"bob", "joe"}, options.getOptions("users"));
+      assertArrayEquals(new String[] {"file1", "file2", "file3"}, options.getArguments());
+    }
+  }
+
+  @Test
+  public void testTypedAccessors() {
+    final CompiledSpec spec = new CompiledSpec(new OptionSpec[] {
+      new OptionSpec("port", null, "PORT", '\0', false, 1, null, null, "port"),
+      new OptionSpec("sizes", null, "SIZE", ',', false, Integer.MAX_VALUE, null, null, "sizes"),
+      new OptionSpec("ratio", null, "RATIO", '\0', false, 1, null, null, "0.5", "ratio"),
+      new OptionSpec("color", null, "COLOR", '\0', false, 1, null, null, "color"),
+      new OptionSpec("verbose", "v", "verbose")
+    }, null, (short)0, (short)0, null);
+
+    final Options options = spec.parse(new String[] {"--port", "8080", "--sizes", "1,2,3000000000", "--color=off", "-v"});
+    assertEquals(8080, options.getInt("port", 0));
+    assertEquals(8080L, options.getLong("port", 0));
+    assertEquals(-1, options.getInt("missing", -1));
+    assertEquals(0.5, options.getDouble("ratio", 0), 0);
+    assertArrayEquals(new long[] {1, 2, 3000000000L}, options.getLongArray("sizes"));
+    assertSame(options.getLongArray("sizes"), options.getLongArray("sizes"));
+    assertArrayEquals(new double[] {1, 2, 3e9}, options.getDoubleArray("sizes"), 0);
+    assertEquals("1,2,3000000000", options.getOption("sizes"));
+    assertNull(options.getIntArray("missing"));
+    assertFalse(options.getBoolean("color"));
+    assertTrue(options.getBoolean("verbose"));
+    assertFalse(options.getBoolean("missing"));
+    try {
+      options.getIntArray("sizes");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertEquals("Invalid int value of option \"sizes\": 3000000000", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testHandles() throws Exception {
+    final CompiledSpec spec = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+    final int config = spec.getHandle("config");
+    final int users = spec.getHandle("users");
+    final int silent = spec.getHandle("silent");
+    assertEquals("config", spec.getOptionSpec(config).getName());
+    try {
+      spec.getHandle("unknown");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    final Options options = spec.parse(new String[] {"--users", "bob,joe", "file1", "file2", "file3"});
+    assertEquals("config.xml", options.getOption(config));
+    assertEquals("bob,joe", options.getOption(users));
+    assertArrayEquals(new String[] {"bob", "joe"}, options.getOptions(users));
+    assertNull(options.getOption(silent));
+    assertFalse(options.getBoolean(silent));
+    assertEquals(options.getOption("users"), options.getOption(users));
+    assertEquals(2, options.getOptions().size());
+  }
+
+  @Test
+  public void testDuplicateNames() {
+    // A long name may equal a short name
+    new CompiledSpec(new OptionSpec[] {new OptionSpec("v", null, "v"), new OptionSpec("verbose", "v", "verbose")}, null, (short)0, (short)0, null);
+    try {
+      new CompiledSpec(new OptionSpec[] {new OptionSpec("verbose", "v", "verbose"), new OptionSpec("version", "v", "version")}, null, (short)0, (short)0, null);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertEquals("Duplicate option name: -v,--version", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testArgumentStream() {
+    final CompiledSpec spec = new CompiledSpec(new OptionSpec[] {
+      new OptionSpec("verbose", "v", "verbose")
+    }, "FILE", (short)0, (short)-1, null);
+
+    // More than Short.MAX_VALUE arguments are accepted when unbounded
+    final String[] args = new String[100_001];
+    args[0] = "-v";
+    for (int i = 1; i < args.length; ++i) // [A]
+      args[i] = String.valueOf(i);
+
+    final Options options = spec.parse(args);
+    assertEquals(100_000, options.getArgumentCount());
+    assertEquals("1", options.getArgument(0));
+    assertEquals("100000", options.getArgument(99_999));
+    assertEquals(5_000_050_000L, options.argumentStream().parallel().mapToLong(Long::parseLong).sum());
+    assertEquals(100_000, options.argumentStream().parallel().count());
+    assertNotNull(options.argumentSpliterator().trySplit());
+
+    // Unnamed arguments interleaved with options
+    final String[] interleaved = {"a", "-v", "b", "c", "-v", "d"};
+    final Options interleavedOptions = spec.parse(interleaved);
+    assertArrayEquals(new String[] {"a", "b", "c", "d"}, interleavedOptions.argumentStream().toArray());
+    assertEquals("abcd", interleavedOptions.argumentStream().parallel().reduce("", String::concat));
+    assertArrayEquals(new String[] {"a", "b", "c", "d"}, interleavedOptions.getArguments());
+    assertEquals("d", interleavedOptions.getArgument(3));
+    assertNull(spec.parse(new String[] {"-v"}).getArguments());
+    assertEquals(0, spec.parse(new String[] {"-v"}).argumentStream().count());
+  }
+
   @Test
   public void testEmptyOptions() throws Exception {
     final Options options = Options.parse(ClassLoader.getSystemClassLoader().getResource("empty.xml"), Strings.EMPTY_ARRAY);
@@ -80,6 +193,47 @@ public class OptionsTest {
     assertEquals("java " + OptionsTest.class.getName(), baos.toString());
   }
 
+  @Test
+  public void testMainClassName() throws Exception {
+    final CompiledSpec spec = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+    final String[] args = {"--users", "bob,joe", "file1", "file2", "file3"};
+    assertEquals(OptionsTest.class.getName() + " --users bob,joe file1 file2 file3", spec.parse(OptionsTest.class, args).toString());
+
+    // Resolved lazily from the launcher of this JVM
+    final Options options = spec.parse(args);
+    assertNotNull(options.getMainClassName());
+    assertEquals(options.getMainClassName() + " --users bob,joe file1 file2 file3", options.toString());
+    assertSame(options.getMainClassName(), spec.parse(args).getMainClassName());
+
+    assertNull(Options.getJar("org.example.Main a.jar", "lib/a.jar"));
+    assertEquals("/opt/my app/app.jar", Options.getJar("/opt/my app/app.jar --jar x.jar", "/opt/my app/app.jar"));
+    assertEquals("app.jar", Options.getJar("app.jar --x", "/opt/x.jar:/opt/y.jar"));
+  }
+
+  @Test
+  public void testHelp() throws Exception {
+    final CompiledSpec spec = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+    final String help = spec.getHelp(74);
+    assertSame(help, spec.getHelp(74));
+    assertTrue(help, help.startsWith("usage:" + System.lineSeparator() + "[options] <FILE> <FILE2> <FILE3> [FILE4] [FILE5] [...]"));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    spec.printHelp(new PrintStream(out, true, "UTF-8"), 74);
+    assertEquals(help, out.toString("UTF-8"));
+
+    final String narrow = spec.getHelp(30);
+    assertNotEquals(help, narrow);
+    for (final String line : narrow.split(System.lineSeparator())) // [A]
+      assertTrue(line, line.length() <= 30);
+
+    try {
+      spec.getHelp(0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
   @Test
   public void testExecuteSuccess() throws Exception {
     Options.parse(ClassLoader.getSystemClassLoader().getResource("cli.xml"), new String[] {"--config", "config.xml", "--users", "bob,joe", "file1.txt", "file2.txt", "file3.txt"});
@@ -0,0 +1,88 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.openjax.cli.ParseError.Kind;
+
+public class ParseErrorTest {
+  private static final CompiledSpec spec = new CompiledSpec(new OptionSpec[] {
+    new OptionSpec("name", "n", "NAME", '\0', true, 1, null, null, "name"),
+    new OptionSpec("port", "p", "PORT", '\0', false, 1, Pattern.compile("[0-9]+"), null, "port"),
+    new OptionSpec("users", "u", "USER", ',', false, 2, Pattern.compile("[a-z]+"), null, "users"),
+    new OptionSpec("verbose", "v", "verbose")
+  }, "FILE", (short)1, (short)2, null);
+
+  private static void assertError(final ParseError error, final Kind kind, final String option, final String value, final int index, final String message) {
+    assertEquals(kind, error.getKind());
+    assertEquals(option, error.getOption());
+    assertEquals(value, error.getValue());
+    assertEquals(index, error.getIndex());
+    assertEquals(message, error.getMessage());
+  }
+
+  @Test
+  public void testAllErrors() {
+    final String[] args = {"--unknown", "-vx", "--port", "http", "-u", "bob,Joe", "--verbose=yes", "a", "b", "c"};
+    final String[] copy = args.clone();
+    final ParseResult result = spec.tryParse(args);
+    assertArrayEquals(copy, args);
+    assertFalse(result.isSuccess());
+    assertNull(result.getOptions());
+
+    final List<ParseError> errors = result.getErrors();
+    assertEquals(errors.toString(), 7, errors.size());
+    assertError(errors.get(0), Kind.UNRECOGNIZED_OPTION, null, "--unknown", 0, "Unrecognized option: --unknown");
+    assertError(errors.get(1), Kind.UNRECOGNIZED_OPTION, null, "-vx", 1, "Unrecognized option: -vx");
+    assertError(errors.get(2), Kind.UNEXPECTED_VALUE, "-v,--verbose", "--verbose=yes", 6, "Option -v,--verbose does not accept a value: --verbose=yes");
+    assertError(errors.get(3), Kind.ARGUMENT_COUNT, null, null, -1, "Invalid number of arguments: 3");
+    assertError(errors.get(4), Kind.MISSING_OPTION, "-n,--name", null, -1, "Missing argument: -n,--name");
+    assertError(errors.get(5), Kind.INVALID_VALUE, "-p,--port", "http", -1, "Incorrect argument form: -p,--port http\n  Required: [0-9]+");
+    assertError(errors.get(6), Kind.INVALID_VALUE, "-u,--users", "Joe", -1, "Incorrect argument form: -u,--users Joe\n  Required: [a-z]+");
+    assertEquals(ParseError.toMessage(errors), result.getError());
+  }
+
+  @Test
+  public void testMissingValue() {
+    final ParseResult result = spec.tryParse(new String[] {"a", "-n", "--port"});
+    assertEquals(result.getErrors().toString(), 2, result.getErrors().size());
+    assertError(result.getErrors().get(0), Kind.MISSING_VALUE, "-n,--name", null, 1, "Missing argument for option: -n,--name");
+    // An option without a required value is specified as "true"
+    assertError(result.getErrors().get(1), Kind.INVALID_VALUE, "-p,--port", "true", -1, "Incorrect argument form: -p,--port true\n  Required: [0-9]+");
+  }
+
+  @Test
+  public void testSuccess() {
+    final ParseResult result = spec.tryParse(new String[] {"-n", "x", "a"});
+    assertTrue(result.isSuccess());
+    assertTrue(result.getErrors().isEmpty());
+    assertNull(result.getError());
+    assertEquals("x", result.getOptions().getOption("name"));
+  }
+
+  @Test
+  public void testHelp() {
+    final ParseResult result = spec.tryParse(new String[] {"--help", "-n", "x", "a"});
+    assertEquals(1, result.getErrors().size());
+    assertError(result.getErrors().get(0), Kind.HELP, null, null, -1, "Unexpected option: --help");
+  }
+}
@@ -0,0 +1,75 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.util.EnumMap;
+
+import org.junit.Test;
+import org.openjax.cli.ParseListener.Phase;
+
+public class ParseListenerTest {
+  public static class Recorder implements ParseListener {
+    private static volatile boolean enabled;
+    private static final EnumMap<Phase,Integer> counts = new EnumMap<>(Phase.class);
+
+    @Override
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    @Override
+    public void onPhase(final Phase phase, final long nanos, final int count) {
+      assertTrue(nanos >= 0);
+      synchronized (counts) {
+        counts.put(phase, count);
+      }
+    }
+  }
+
+  @Test
+  public void testPhases() throws Exception {
+    Recorder.enabled = true;
+    try {
+      final CompiledSpec spec = Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"), Options.Loader.JAXB);
+      spec.parse(new String[] {"--users", "bob,joe", "file1", "file2", "file3"});
+      spec.getHelp(33);
+      synchronized (Recorder.counts) {
+        assertEquals(Integer.valueOf(4), Recorder.counts.get(Phase.LOAD));
+        assertEquals(Integer.valueOf(0), Recorder.counts.get(Phase.SCHEMA));
+        assertEquals(Integer.valueOf(4), Recorder.counts.get(Phase.UNMARSHAL));
+        assertEquals(Integer.valueOf(4), Recorder.counts.get(Phase.BUILD));
+        assertEquals(Integer.valueOf(5), Recorder.counts.get(Phase.TOKENIZE));
+        assertEquals(Integer.valueOf(1), Recorder.counts.get(Phase.DEFAULTS));
+        assertEquals(Integer.valueOf(2), Recorder.counts.get(Phase.VALIDATE));
+        assertEquals(Integer.valueOf(33), Recorder.counts.get(Phase.HELP));
+        Recorder.counts.clear();
+      }
+    }
+    finally {
+      Recorder.enabled = false;
+    }
+
+    // Phases are not timed while no listener is enabled
+    assertEquals(0, ParseListeners.start());
+    Options.compile(ClassLoader.getSystemClassLoader().getResource("cli.xml"));
+    synchronized (Recorder.counts) {
+      assertTrue(Recorder.counts.toString(), Recorder.counts.isEmpty());
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SpecCacheTest {
+  private static final URL cliXml = ClassLoader.getSystemClassLoader().getResource("cli.xml");
+  private static final String[] args = {"--users", "bob,joe", "-V", "file1", "file2", "file3"};
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private static void assertOptions(final Options options) {
+    assertEquals("config.xml", options.getOption("config"));
+    assertArrayEquals(new String[] {"bob", "joe"}, options.getOptions("users"));
+    assertEquals("true", options.getOption("V"));
+    assertArrayEquals(new String[] {"file1", "file2", "file3"}, options.getArguments());
+  }
+
+  private static File[] list(final Path directory) {
+    return directory.toFile().listFiles((d, n) -> n.endsWith(".spec"));
+  }
+
+  @Test
+  public void testSnapshot() throws Exception {
+    final Path directory = folder.getRoot().toPath().resolve("cache");
+    final SpecCache cache = new SpecCache(directory);
+
+    final CompiledSpec compiled = cache.compile(cliXml);
+    assertOptions(compiled.parse(args.clone()));
+    final File[] files = list(directory);
+    assertEquals(1, files.length);
+
+    final CompiledSpec snapshot = cache.compile(cliXml);
+    assertEquals(compiled.getOptionCount(), snapshot.getOptionCount());
+    assertEquals(compiled.getArgumentsLabel(), snapshot.getArgumentsLabel());
+    assertEquals(compiled.getArgumentsMinOccurs(), snapshot.getArgumentsMinOccurs());
+    assertEquals(compiled.getArgumentsMaxOccurs(), snapshot.getArgumentsMaxOccurs());
+    assertOptions(snapshot.parse(args.clone()));
+    assertEquals(1, list(directory).length);
+
+    // Replace the snapshot with that of another spec, to assert that the CLI XML is not loaded again
+    try (final DataOutputStream out = new DataOutputStream(new FileOutputStream(files[0]))) {
+      SpecCache.writeSnapshot(Options.compile(ClassLoader.getSystemClassLoader().getResource("empty.xml")), out);
+    }
+
+    assertEquals(0, cache.compile(cliXml).getOptionCount());
+  }
+
+  @Test
+  public void testCorruptSnapshot() throws Exception {
+    final Path directory = folder.getRoot().toPath();
+    final SpecCache cache = new SpecCache(directory);
+    cache.compile(cliXml);
+
+    final File[] files = list(directory);
+    assertEquals(1, files.length);
+    Files.write(files[0].toPath(), new byte[] {1, 2, 3});
+
+    assertOptions(cache.compile(cliXml).parse(args.clone()));
+    assertTrue(files[0].length() > 3);
+    assertOptions(cache.compile(cliXml).parse(args.clone()));
+  }
+
+  @Test
+  public void testCorruptLength() throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final DataOutputStream out = new DataOutputStream(bytes)) {
+      SpecCache.writeSnapshot(Options.compile(cliXml), out);
+    }
+
+    // The length of the label of the arguments follows the magic and the version
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+    buffer.putInt(8, Integer.MAX_VALUE);
+    try {
+      SpecCache.readSnapshot(buffer);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Corrupt snapshot"));
+    }
+
+    buffer.putInt(8, -2);
+    buffer.rewind();
+    try {
+      SpecCache.readSnapshot(buffer);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Corrupt snapshot"));
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class SpecReaderTest {
+  private static final URL cliXml = ClassLoader.getSystemClassLoader().getResource("cli.xml");
+
+  private static CompiledSpec read(final String namespace, final String body) throws IOException {
+    final String xml = "<cli xmlns=\"" + namespace + "\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:schemaLocation=\"" + namespace + " cli.xsd\">" + body + "</cli>";
+    return Options.compile(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), Options.Loader.STAX);
+  }
+
+  private static CompiledSpec read(final String body) throws IOException {
+    return read(SpecReader.NAMESPACE_1_1, body);
+  }
+
+  private static void assertInvalid(final String body, final String message) throws IOException {
+    try {
+      read(body);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains(message));
+    }
+  }
+
+  private static void assertEquivalent(final OptionSpec expected, final OptionSpec actual) {
+    assertEquals(expected.getLongName(), actual.getLongName());
+    assertEquals(expected.getShortName(), actual.getShortName());
+    assertEquals(expected.getLabel(), actual.getLabel());
+    assertEquals(expected.getValueSeparator(), actual.getValueSeparator());
+    assertEquals(expected.isRequired(), actual.isRequired());
+    assertEquals(expected.getMaxOccurs(), actual.getMaxOccurs());
+    assertEquals(expected.getPattern() == null ? null : expected.getPattern().pattern(), actual.getPattern() == null ? null : actual.getPattern().pattern());
+    assertEquals(expected.getDefault(), actual.getDefault());
+    assertEquals(expected.getDescription(), actual.getDescription());
+  }
+
+  @Test
+  public void testEquivalentToJaxb() throws Exception {
+    final CompiledSpec jaxb = Options.compile(cliXml, Options.Loader.JAXB);
+    final CompiledSpec stax = Options.compile(cliXml, Options.Loader.STAX);
+    assertNotNull(jaxb.getBinding());
+    assertNull(stax.getBinding());
+    assertEquals(jaxb.getOptionCount(), stax.getOptionCount());
+    for (int i = 0, i$ = jaxb.getOptionCount(); i < i$; ++i) // [N]
+      assertEquivalent(jaxb.getOptionSpec(i), stax.getOptionSpec(i));
+
+    assertEquals(jaxb.getArgumentsLabel(), stax.getArgumentsLabel());
+    assertEquals(jaxb.getArgumentsMinOccurs(), stax.getArgumentsMinOccurs());
+    assertEquals(jaxb.getArgumentsMaxOccurs(), stax.getArgumentsMaxOccurs());
+  }
+
+  @Test
+  public void testInvalidJaxb() throws Exception {
+    // Invalid specs of the JAXB loader are thrown as with the StAX loader, instead of exiting the JVM
+    final String xml = "<cli xmlns=\"" + SpecReader.NAMESPACE_1_1 + "\"><arguments label=\"FILE\" minOccurs=\"2\" maxOccurs=\"1\"/></cli>";
+    try {
+      Options.compile(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), Options.Loader.JAXB);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("minOccurs > maxOccurs"));
+    }
+  }
+
+  @Test
+  public void testDefaults() throws Exception {
+    final CompiledSpec spec = read("<option><name long=\"foo\"/><argument label=\"FOO\"/><description>foo</description></option><arguments label=\"FILE\"/>");
+    final OptionSpec option = spec.getOptionSpec(0);
+    assertEquals(1, option.getMaxOccurs());
+    assertFalse(option.isRequired());
+    assertEquals('\0', option.getValueSeparator());
+    assertEquals(1, spec.getArgumentsMinOccurs());
+    assertEquals(1, spec.getArgumentsMaxOccurs());
+  }
+
+  @Test
+  public void testMaxOccurs() throws Exception {
+    assertEquals(-1, read("<arguments label=\"FILE\" minOccurs=\"0\" maxOccurs=\"unbounded\"/>").getArgumentsMaxOccurs());
+
+    // An explicit maxOccurs of Short.MAX_VALUE is bounded
+    final CompiledSpec spec = read("<arguments label=\"FILE\" minOccurs=\"0\" maxOccurs=\"32767\"/>");
+    assertEquals(Short.MAX_VALUE, spec.getArgumentsMaxOccurs());
+    final String[] args = new String[Short.MAX_VALUE + 1];
+    Arrays.fill(args, "x");
+    assertEquals(Short.MAX_VALUE, spec.parse(Arrays.copyOf(args, Short.MAX_VALUE)).getArgumentCount());
+    assertEquals(ParseError.Kind.ARGUMENT_COUNT, spec.tryParse(args).getErrors().get(0).getKind());
+  }
+
+  @Test
+  public void testNamespace10() throws Exception {
+    assertEquals(1, read(SpecReader.NAMESPACE_1_0, "<option><name short=\"V\"/><description>verbose</description></option>").getOptionCount());
+  }
+
+  @Test
+  public void testNamespace12() throws Exception {
+    final CompiledSpec spec = read(SpecReader.NAMESPACE_1_2, "<option><name long=\"n\"/><argument label=\"N\" type=\"int\" min=\"1\"/><description>n</description></option>");
+    assertEquals("int >= 1", spec.getOptionSpec(0).getType().getValidator().getRequirement());
+    try {
+      read(SpecReader.NAMESPACE_1_2, "<option><name long=\"n\"/><argument label=\"N\" min=\"1\"/><description>n</description></option>");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("require attribute \"type\""));
+    }
+
+    try {
+      read(SpecReader.NAMESPACE_1_2, "<option><name long=\"n\"/><argument label=\"N\" type=\"int\" min=\"x\"/><description>n</description></option>");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("Invalid type of <argument>"));
+    }
+
+    final CompiledSpec commands = read(SpecReader.NAMESPACE_1_2, "<command name=\"a\" spec=\"a.xml\"><description>a</description></command><command name=\"b\" spec=\"b.xml\"><description>b</description></command>");
+    assertEquals(2, commands.getCommandCount());
+    assertEquals("b.xml", commands.getCommand(1).getSpec());
+    try {
+      read(SpecReader.NAMESPACE_1_2, "<command name=\"a\" spec=\"a.xml\"><description>a</description></command><command name=\"a\" spec=\"b.xml\"><description>b</description></command>");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("Duplicate command name: a"));
+    }
+
+    // <command> is only accepted in the cli-1.2.xsd namespace
+    assertInvalid("<command name=\"a\" spec=\"a.xml\"><description>a</description></command>", "Expected <arguments>");
+  }
+
+  @Test
+  public void testInvalid() throws Exception {
+    assertInvalid("<option><name long=\"a\"/><description>a</description></option><option><name long=\"a\"/><description>b</description></option>", "Duplicate long option name: a");
+    assertInvalid("<option><name short=\"a\"/><description>a</description></option><option><name short=\"a\"/><description>b</description></option>", "Duplicate short option name: a");
+    assertInvalid("<option><name/><description>a</description></option>", "option names are null");
+    assertInvalid("<option><name long=\"a\"/><argument/><description>a</description></option>", "Missing required attribute \"label\"");
+    assertInvalid("<option><name long=\"a\"/><argument label=\"A\" maxOccurs=\"many\"/><description>a</description></option>", "maxOccurs");
+    assertInvalid("<option><name long=\"a\"/><argument label=\"A\" use=\"always\"/><description>a</description></option>", "use");
+    assertInvalid("<option><name long=\"a\"/><argument label=\"A\" valueSeparator=\",,\"/><description>a</description></option>", "valueSeparator");
+    assertInvalid("<option><name long=\"a\"/></option>", "Expected <description>");
+    assertInvalid("<option><name long=\"a\" bogus=\"b\"/><description>a</description></option>", "Unexpected attribute \"bogus\"");
+    assertInvalid("<arguments label=\"FILE\" minOccurs=\"3\" maxOccurs=\"2\"/>", "minOccurs > maxOccurs");
+    assertInvalid("<option><name long=\"a\"/><argument label=\"A\" type=\"int\"/><description>a</description></option>", "Unexpected attribute \"type\"");
+    assertInvalid("<arguments label=\"FILE\"/><option><name long=\"a\"/><description>a</description></option>", "Unexpected element <option>");
+  }
+}
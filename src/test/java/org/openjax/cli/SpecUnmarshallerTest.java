@@ -0,0 +1,101 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class SpecUnmarshallerTest {
+  private static final String body = "<option><name long=\"users\" short=\"U\"/><argument label=\"USER\" valueSeparator=\",\" use=\"required\" maxOccurs=\"2\"/><description>users</description></option><option><name short=\"V\"/><description>verbose</description></option><arguments label=\"FILE\" minOccurs=\"1\" maxOccurs=\"unbounded\"/>";
+
+  private static CompiledSpec unmarshal(final String namespace, final String body) throws IOException {
+    final String xml = "<?xml version=\"1.0\"?>\n<!-- comment -->\n<cli xmlns=\"" + namespace + "\">" + body + "</cli>";
+    return Options.compile(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), Options.Loader.JAXB);
+  }
+
+  @Test
+  public void testNamespaces() throws IOException {
+    final CompiledSpec spec10 = unmarshal(SpecReader.NAMESPACE_1_0, body);
+    final CompiledSpec spec11 = unmarshal(SpecReader.NAMESPACE_1_1, body);
+    assertNotNull(spec10.getBinding());
+    assertEquals(2, spec10.getOptionCount());
+    assertEquals(spec11.getOptionCount(), spec10.getOptionCount());
+    assertEquals(spec11.getHelp(74), spec10.getHelp(74));
+    assertArrayEquals(new String[] {"bob", "joe"}, spec10.parse(new String[] {"-U", "bob,joe", "f"}).getOptions("users"));
+
+    // A prefixed root element
+    final String xml = "<c:cli xmlns:c=\"" + SpecReader.NAMESPACE_1_0 + "\">" + body.replace("<", "<c:").replace("<c:/", "</c:") + "</c:cli>";
+    assertEquals(2, Options.compile(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), Options.Loader.JAXB).getOptionCount());
+  }
+
+  @Test
+  public void testInvalid() throws IOException {
+    for (final String namespace : new String[] {SpecReader.NAMESPACE_1_0, SpecReader.NAMESPACE_1_1}) { // [A]
+      try {
+        unmarshal(namespace, "<option><name long=\"x\"/></option>");
+        fail("Expected IllegalArgumentException");
+      }
+      catch (final IllegalArgumentException e) {
+        assertTrue(e.getMessage(), e.getMessage().contains("description"));
+      }
+    }
+
+    try {
+      unmarshal(SpecReader.NAMESPACE_1_2, body);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("Unsupported namespace"));
+    }
+  }
+
+  @Test
+  public void testSchemaPerClassLoader() throws Exception {
+    assertSame(SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_0), SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_0));
+    assertNotSame(SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_0), SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_1));
+
+    final Thread thread = Thread.currentThread();
+    final ClassLoader contextClassLoader = thread.getContextClassLoader();
+    try (final URLClassLoader classLoader = new URLClassLoader(new URL[0], contextClassLoader)) {
+      thread.setContextClassLoader(classLoader);
+      assertNotSame(SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_1), schema(contextClassLoader));
+      assertSame(SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_1), SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_1));
+    }
+    finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  private static Object schema(final ClassLoader classLoader) throws Exception {
+    final Thread thread = Thread.currentThread();
+    final ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try {
+      return SpecUnmarshaller.getSchema(SpecReader.NAMESPACE_1_1);
+    }
+    finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+}
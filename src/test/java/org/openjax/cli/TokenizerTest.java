@@ -0,0 +1,136 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class TokenizerTest {
+  private static final int VERBOSE = 0;
+  private static final int QUIET = 1;
+  private static final int CONFIG = 2;
+  private static final int USERS = 3;
+  private static final int INCLUDE = 4;
+  private static final int COLOR = 5;
+
+  private static final OptionSpec[] options = {
+    new OptionSpec("verbose", "v", "Verbose"),
+    new OptionSpec("quiet", "q", "Quiet"),
+    new OptionSpec("config", "C", "CONFIG", '\0', true, 1, null, null, "Config"),
+    new OptionSpec("users", "U", "USER", ',', false, 2, null, null, "Users"),
+    new OptionSpec("include", "I", "DIR", '\0', true, Integer.MAX_VALUE, null, null, "Include"),
+    new OptionSpec("color", null, "WHEN", '\0', false, 1, null, null, "Color")
+  };
+
+  private static final Tokenizer tokenizer = new Tokenizer(options, true);
+
+  private static Tokenizer.Result tokenize(final String ... args) {
+    final Tokenizer.Result result = tokenizer.tokenize(args);
+    assertNull(result.error, result.error);
+    return result;
+  }
+
+  private static String[] arguments(final Tokenizer.Result result, final String[] args) {
+    return new Options(null, args, null, null, result.arguments).getArguments();
+  }
+
+  private static void assertError(final String message, final String ... args) {
+    final Tokenizer.Result result = tokenizer.tokenize(args);
+    assertNotNull("Expected error", result.error);
+    assertTrue(result.error, result.error.startsWith(message));
+  }
+
+  @Test
+  public void testNameTrie() {
+    final NameTrie trie = new NameTrie(new String[] {"config", null, "color", "c"});
+    assertEquals(0, trie.get("config", 0, 6));
+    assertEquals(3, trie.get("--c", 2, 3));
+    assertEquals(NameTrie.NONE, trie.get("conf", 0, 4));
+    assertEquals(0, trie.getPrefix("conf", 0, 4));
+    assertEquals(2, trie.getPrefix("col", 0, 3));
+    assertEquals(3, trie.getPrefix("c", 0, 1));
+    assertEquals(NameTrie.AMBIGUOUS, trie.getPrefix("co", 0, 2));
+    assertEquals(NameTrie.NONE, trie.getPrefix("x", 0, 1));
+    assertEquals(NameTrie.NONE, trie.getPrefix("", 0, 0));
+    try {
+      new NameTrie(new String[] {"a", "a"});
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testLongForms() {
+    final String[] args = {"--config", "a.xml", "--users=bob,joe", "--verb", "file"};
+    final Tokenizer.Result result = tokenize(args);
+    assertArrayEquals(new String[] {"a.xml"}, result.getValues(CONFIG));
+    assertArrayEquals(new String[] {"bob", "joe"}, result.getValues(USERS));
+    assertArrayEquals(new String[0], result.getValues(VERBOSE));
+    assertNull(result.getValues(QUIET));
+    assertArrayEquals(new String[] {"file"}, arguments(result, args));
+    assertError("Ambiguous option: --co", "--co", "x");
+    assertError("Unrecognized option: --foo", "--foo=bar");
+    assertError("Option -v,--verbose does not accept a value", "--verbose=yes");
+    assertTrue(tokenize("--he").help);
+  }
+
+  @Test
+  public void testShortForms() {
+    final String[] args = {"-vqCa.xml", "-U", "bob", "joe", "-I=x", "file"};
+    final Tokenizer.Result result = tokenize(args);
+    assertArrayEquals(new String[0], result.getValues(VERBOSE));
+    assertArrayEquals(new String[0], result.getValues(QUIET));
+    assertArrayEquals(new String[] {"a.xml"}, result.getValues(CONFIG));
+    assertArrayEquals(new String[] {"bob", "joe"}, result.getValues(USERS));
+    assertArrayEquals(new String[] {"x", "file"}, result.getValues(INCLUDE));
+    assertNull(arguments(result, args));
+    assertArrayEquals(new String[0], tokenize("-quiet").getValues(QUIET));
+    assertError("Unrecognized option: -vx", "-vx");
+  }
+
+  @Test
+  public void testValues() {
+    // The last value retains the remainder once maxOccurs is reached
+    assertArrayEquals(new String[] {"a", "b,c"}, tokenize("-U", "a,b,c").getValues(USERS));
+    // Values of repeated occurrences are accumulated
+    assertArrayEquals(new String[] {"a", "b", "c"}, tokenize("-I", "a", "-I", "b", "--include=c").getValues(INCLUDE));
+    // Tokens that are not options are values, even if they start with a dash
+    assertArrayEquals(new String[] {"-5", "x"}, tokenize("-I", "-5", "\"x\"", "-v").getValues(INCLUDE));
+    // An optional argument is not required
+    final Tokenizer.Result result = tokenize("--color", "-v");
+    assertArrayEquals(new String[0], result.getValues(COLOR));
+    assertArrayEquals(new String[0], result.getValues(VERBOSE));
+    assertError("Missing argument for option: -C,--config", "-C", "-v");
+    assertError("Too many values for option -C,--config", "-C", "a", "--config=b");
+  }
+
+  @Test
+  public void testEndOfOptions() {
+    final String[] args = {"-v", "a", "--", "-q", "--config", "b"};
+    final Tokenizer.Result result = tokenize(args);
+    assertNull(result.getValues(QUIET));
+    assertArrayEquals(new String[] {"a", "-q", "--config", "b"}, arguments(result, args));
+    // Only the @@ escape before the end of options is unescaped
+    final String[] escaped = {"@@a", "--", "@@b"};
+    assertArrayEquals(new String[] {"@a", "@@b"}, arguments(tokenize(escaped), escaped));
+    // The end of options terminates values as well
+    assertArrayEquals(new String[] {"a"}, tokenize("-I", "a", "--", "b").getValues(INCLUDE));
+    assertArrayEquals(new String[] {"-"}, arguments(tokenize("-"), new String[] {"-"}));
+  }
+}
@@ -0,0 +1,153 @@
+/* Copyright (c) 2026 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.openjax.cli;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ValueArenaTest {
+  private static final CompiledSpec spec = new CompiledSpec(new OptionSpec[] {
+    new OptionSpec("ids", "i", "ID", ',', false, Integer.MAX_VALUE, null, null, "ids"),
+    new OptionSpec("name", "n", "NAME", '\0', false, Integer.MAX_VALUE, null, null, "name"),
+    new OptionSpec("verbose", "v", "verbose")
+  }, null, (short)0, (short)0, null);
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testArena() {
+    final String[] args = {"a", "b"};
+    final ValueArena arena = new ValueArena(2, args);
+    arena.add(1, args[1], 1, null, 0, 0, 1);
+    arena.add(0, "x,y", -1, null, 0, 2, 3);
+    arena.add(1, args[0], 0, null, 0, 0, 1);
+    arena.add(0, "x,y", -1, null, 0, 0, 1);
+    assertEquals(2, arena.count(0));
+    assertArrayEquals(new String[] {"y", "x"}, arena.toArray(0));
+    assertArrayEquals(new String[] {"b", "a"}, arena.toArray(1));
+    assertSame(args[1], arena.get(arena.offset(1)));
+    try {
+      arena.add(0, args[0], 0, null, 0, 0, 1);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+
+  @Test
+  public void testValues() {
+    final String[] args = {"--ids", "1,2,3", "-n", "amy", "-v", "--ids=\"4,5\"", "-n", "bob", "-i", "6"};
+    final Options options = spec.parse(args);
+    assertArrayEquals(new String[] {"1", "2", "3", "4", "5", "6"}, options.getOptions("ids"));
+    assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6}, options.getIntArray("ids"));
+    assertEquals("1,2,3,4,5,6", options.getOption("ids"));
+
+    // Values that are entire tokens are the members of args
+    final String[] names = options.getOptions("name");
+    assertArrayEquals(new String[] {"amy", "bob"}, names);
+    assertSame(args[3], names[0]);
+    assertSame(args[7], names[1]);
+    assertSame(names, options.getOptions("name"));
+    assertTrue(options.getBoolean("verbose"));
+  }
+
+  @Test
+  public void testEquals() {
+    final String[] args = {"a,b", "c"};
+    final ValueArena arena = new ValueArena(2, args);
+    arena.add(0, args[0], 0, null, 0, 0, 1);
+    arena.add(0, args[0], 0, null, 0, 2, 3);
+    arena.add(1, args[1], 1, null, 0, 0, 1);
+    final Option option = new Option("x", ',', arena, 0);
+    final Option equal = new Option("x", ',', "a", "b");
+    assertEquals(option, equal);
+    assertEquals(equal, option);
+    assertEquals(equal.hashCode(), option.hashCode());
+    assertEquals(new Option("x", ',', arena, 0), option);
+    assertNotEquals(new Option("x", ',', arena, 1), option);
+    assertNotEquals(new Option("x", ',', "a", "c"), option);
+    assertNotEquals(new Option("x", ',', (String[])null), new Option("x", ','));
+  }
+
+  @Test
+  public void testOverrides() {
+    final Options options = spec.parse(new String[] {"-n", "amy"}, Collections.singletonMap("ids", "7,8"));
+    assertArrayEquals(new long[] {7, 8}, options.getLongArray("ids"));
+    assertEquals("amy", options.getOption("name"));
+  }
+
+  @Test
+  public void testLargeInvocation() {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100_000; ++i) { // [N]
+      if (i > 0)
+        builder.append(',');
+
+      builder.append(i);
+    }
+
+    final Options options = spec.parse(new String[] {"--ids", builder.toString()});
+    final long[] ids = options.getLongArray("ids");
+    assertEquals(100_000, ids.length);
+    assertEquals(99_999, ids[99_999]);
+    assertEquals(builder.toString(), options.getOption("ids"));
+  }
+
+  @Test
+  public void testArgFile() throws IOException {
+    // Values that are entire tokens of an argument file refer to the file, and tokens that are split are pooled
+    final StringBuilder builder = new StringBuilder("-n amy \"bob\" -i 1,2\n");
+    for (int i = 3; i <= 100_000; ++i) // [N]
+      builder.append(i).append('\n');
+
+    final Path path = folder.newFile().toPath();
+    Files.write(path, builder.toString().getBytes(StandardCharsets.UTF_8));
+    final Options options = spec.parse(new String[] {"@" + path, "-n", "dan"});
+    assertArrayEquals(new String[] {"amy", "bob", "dan"}, options.getOptions("name"));
+    final long[] ids = options.getLongArray("ids");
+    assertEquals(100_000, ids.length);
+    assertEquals(1, ids[0]);
+    assertEquals(2, ids[1]);
+    assertEquals(100_000, ids[99_999]);
+  }
+
+  @Test
+  public void testLongToken() {
+    // A range that does not fit in a reference is retained in the pool by itself
+    final char[] chars = new char[3 << 20];
+    Arrays.fill(chars, 'x');
+    chars[chars.length - 2] = ',';
+    final String[] args = {new String(chars)};
+    final ValueArena arena = new ValueArena(1, args);
+    arena.add(0, args[0], 0, null, 0, 0, 1);
+    arena.add(0, args[0], 0, null, 0, chars.length - 1, chars.length);
+    arena.add(0, args[0], 0, null, 0, 0, chars.length);
+    assertArrayEquals(new String[] {"x", "x", args[0]}, arena.toArray(0));
+    assertSame(args[0], arena.get(arena.offset(0) + 2));
+  }
+}